@@ -0,0 +1,9 @@
+package com.loopers.application.example;
+
+import java.util.List;
+
+/**
+ * @param examples   요청한 ID 순서대로 정렬된 예시 목록 (중복 ID 는 한 번만 포함)
+ * @param missingIds 존재하지 않는 예시 ID 목록
+ */
+public record ExampleBulkInfo(List<ExampleInfo> examples, List<Long> missingIds) {}
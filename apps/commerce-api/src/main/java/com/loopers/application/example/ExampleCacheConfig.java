@@ -0,0 +1,25 @@
+package com.loopers.application.example;
+
+import com.loopers.support.cache.TwoTierCache;
+import com.loopers.support.cache.TwoTierCacheFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+class ExampleCacheConfig {
+    static final String EXAMPLE_INFO_CACHE = "example:info:v1";
+
+    private static final TwoTierCache.Spec EXAMPLE_INFO_CACHE_SPEC = new TwoTierCache.Spec(
+        10_000, // 노드당 최대 10,000 건
+        Duration.ofSeconds(10), // L1 은 노드 간 정합성 지연 상한이므로 짧게 유지
+        Duration.ofMinutes(10),
+        1.0 // 만료 직전 hot key 를 미리 갱신하여 동시 miss 를 줄인다.
+    );
+
+    @Bean
+    TwoTierCache<ExampleInfo> exampleInfoCache(TwoTierCacheFactory twoTierCacheFactory) {
+        return twoTierCacheFactory.create(EXAMPLE_INFO_CACHE, ExampleInfo.class, EXAMPLE_INFO_CACHE_SPEC);
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleChangedEvent;
+import com.loopers.support.cache.TwoTierCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class ExampleCacheEvictionHandler {
+    private final TwoTierCache<ExampleInfo> exampleInfoCache;
+
+    /**
+     * 커밋 이전에 evict 하면 동시 조회가 변경 전 값을 다시 캐시에 채울 수 있으므로, 커밋 이후에 제거한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    void handle(ExampleChangedEvent event) {
+        exampleInfoCache.evict(String.valueOf(event.exampleId()));
+    }
+}
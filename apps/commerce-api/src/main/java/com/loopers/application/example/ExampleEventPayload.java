@@ -0,0 +1,8 @@
+package com.loopers.application.example;
+
+import java.time.ZonedDateTime;
+
+/**
+ * example 변경 이벤트의 메시지 포맷. commerce-streamer 의 ExampleEventMessage 와 같은 형태를 유지한다.
+ */
+public record ExampleEventPayload(String eventId, Long exampleId, String eventType, ZonedDateTime occurredAt) {}
@@ -1,17 +1,89 @@
 package com.loopers.application.example;
 
-import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleExportRow;
 import com.loopers.domain.example.ExampleService;
+import com.loopers.domain.example.ExampleSortType;
+import com.loopers.support.cache.TwoTierCache;
+import com.loopers.support.counter.CounterBuffer;
+import com.loopers.support.counter.CounterNames;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.export.StreamingQuery;
+import com.loopers.support.pagination.KeysetPage;
+import com.loopers.support.routing.PrimaryReads;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleFacade {
+    static final int MAX_BULK_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final ExampleService exampleService;
+    private final TwoTierCache<ExampleInfo> exampleInfoCache;
+    private final CounterBuffer counterBuffer;
 
+    /**
+     * 조회수는 버퍼에 더하기만 하고, commerce-streamer 가 모아서 example_metrics 에 반영한다.
+     * 캐시는 main pool 에서 읽어 채운다. 변경 직후 복제 지연 중인 replica 에서 읽은 이전 값이 캐시 ttl 동안 남지 않도록 한다.
+     */
     public ExampleInfo getExample(Long id) {
-        ExampleModel example = exampleService.getExample(id);
-        return ExampleInfo.from(example);
+        ExampleInfo info = exampleInfoCache.get(
+            String.valueOf(id),
+            () -> PrimaryReads.call(() -> ExampleInfo.from(exampleService.getExample(id)))
+        );
+        counterBuffer.increment(CounterNames.EXAMPLE_VIEW, String.valueOf(id));
+        return info;
+    }
+
+    public ExampleBulkInfo getExamples(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BULK_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 조회할 수 있는 예시는 1~" + MAX_BULK_SIZE + "개 입니다.");
+        }
+
+        Map<String, ExampleInfo> found = exampleInfoCache.getAll(
+            distinctIds.stream().map(String::valueOf).toList(),
+            missedKeys -> PrimaryReads.call(() -> exampleService.getExamples(missedKeys.stream().map(Long::valueOf).toList())).stream()
+                .map(ExampleInfo::from)
+                .collect(Collectors.toMap(info -> String.valueOf(info.id()), Function.identity()))
+        );
+
+        List<ExampleInfo> examples = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ExampleInfo info = found.get(String.valueOf(id));
+            if (info != null) {
+                examples.add(info);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new ExampleBulkInfo(examples, missingIds);
+    }
+
+    /**
+     * 목록은 페이지마다 구성이 달라지므로 캐시하지 않고 조회한다.
+     */
+    public KeysetPage<ExampleInfo> getExamplePage(ExampleSortType sortType, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1~" + MAX_PAGE_SIZE + " 입니다.");
+        }
+        return exampleService.getExamplePage(sortType, cursor, size).map(ExampleInfo::from);
+    }
+
+    /**
+     * 커넥션을 확보한 조회를 돌려준다. 행은 응답을 쓰면서 읽는다.
+     */
+    public StreamingQuery<ExampleExportRow> openExport() {
+        return exampleService.openExport();
     }
 }
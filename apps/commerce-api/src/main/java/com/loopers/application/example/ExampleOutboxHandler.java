@@ -0,0 +1,59 @@
+package com.loopers.application.example;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.example.ExampleChangedEvent;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Component
+public class ExampleOutboxHandler {
+    private static final String AGGREGATE_TYPE = "example";
+
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${example-kafka.events.topic-name}")
+    private String topic;
+
+    /**
+     * 커밋 직전에 변경과 같은 트랜잭션으로 outbox 에 기록한다. 브로커로의 발행은 OutboxRelay 가 비동기로 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    void handle(ExampleChangedEvent event) {
+        String eventId = UUID.randomUUID().toString();
+        ExampleEventPayload payload = new ExampleEventPayload(
+            eventId,
+            event.exampleId(),
+            event.type().name(),
+            ZonedDateTime.now()
+        );
+        outboxService.append(new OutboxEvent(
+            eventId,
+            AGGREGATE_TYPE,
+            String.valueOf(event.exampleId()),
+            event.type().name(),
+            topic,
+            serialize(payload)
+        ));
+    }
+
+    private String serialize(ExampleEventPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "이벤트를 직렬화할 수 없습니다.");
+        }
+    }
+}
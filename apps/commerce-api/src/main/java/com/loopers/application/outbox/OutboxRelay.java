@@ -0,0 +1,205 @@
+package com.loopers.application.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 에 쌓인 이벤트를 배치 단위로 Kafka 에 발행한다.
+ * 발행할 이벤트는 짧은 트랜잭션에서 claim 하고 바로 커밋하므로, 브로커 ack 를 기다리는 동안 row lock 을 잡고 있지 않는다.
+ * 발행은 at-least-once 이므로, 컨슈머는 eventId 로 중복을 제거해야 한다.
+ * 발행할 수 없거나 maxAttempts 번 실패한 이벤트는 보류(parked_at)하고 outbox.relay.events{result=parked} 로 센다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter parkedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    public OutboxRelay(
+        OutboxEventRepository outboxEventRepository,
+        KafkaTemplate<Object, Object> kafkaTemplate,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        OutboxRelayProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        this.publishedCounter = Counter.builder("outbox.relay.events")
+            .tag("result", "published")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.events")
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.parkedCounter = Counter.builder("outbox.relay.events")
+            .tag("result", "parked")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+            .description("한 배치를 claim 하고, 발행하고, 발행 완료로 표시하기까지 걸린 시간")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending", pendingCount, AtomicLong::get)
+            .description("발행되지 않은 outbox 이벤트 수")
+            .register(meterRegistry);
+        Gauge.builder("outbox.pending.oldest.age", oldestPendingAgeMillis, AtomicLong::get)
+            .description("가장 오래된 미발행 이벤트의 대기 시간 (relay lag)")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:200ms}")
+    public void relay() {
+        // 배치가 가득 찼다면 밀린 이벤트가 더 있으므로, 다음 주기를 기다리지 않고 이어서 발행한다.
+        int published;
+        do {
+            published = batchTimer.record(this::relayBatch);
+        } while (published == properties.batchSize());
+        refreshLag();
+    }
+
+    /**
+     * 이벤트마다 실패를 따로 처리하므로, 한 이벤트의 직렬화 / 발행 실패가 배치의 다른 이벤트를 막지 않는다.
+     *
+     * @return 발행에 성공한 이벤트 수
+     */
+    int relayBatch() {
+        List<OutboxEvent> events = claim();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + properties.sendTimeout().toNanos();
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        List<Long> releasedIds = new ArrayList<>();
+        List<Long> parkedIds = new ArrayList<>();
+
+        // send 는 producer 버퍼에 쌓기만 하므로, linger.ms / batch.size 에 따라 묶여서 전송된다.
+        // 메타데이터를 가져오지 못하거나 버퍼가 가득 차면 max.block.ms 까지 막힐 수 있으므로, sendTimeout 이 지나면 남은 이벤트는 보내지 않는다.
+        List<OutboxEvent> sentEvents = new ArrayList<>(events.size());
+        List<CompletableFuture<SendResult<Object, Object>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            if (System.nanoTime() - deadline >= 0) {
+                releasedIds.add(event.getId());
+                continue;
+            }
+            JsonNode payload;
+            try {
+                payload = toJson(event.getPayload());
+            } catch (IllegalStateException e) {
+                // 다시 보내도 실패하므로 바로 보류한다.
+                log.error("outbox payload 를 읽을 수 없어 이벤트를 보류합니다. (eventId = {})", event.getEventId(), e);
+                parkedIds.add(event.getId());
+                continue;
+            }
+            try {
+                futures.add(kafkaTemplate.send(event.getTopic(), event.getAggregateId(), payload));
+                sentEvents.add(event);
+            } catch (Exception e) {
+                log.warn("outbox 이벤트 발행 실패 (eventId = {})", event.getEventId(), e);
+                failedIds.add(event.getId());
+            }
+        }
+
+        for (int i = 0; i < sentEvents.size(); i++) {
+            OutboxEvent event = sentEvents.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(event.getId());
+            } catch (InterruptedException e) {
+                // 남은 이벤트도 claim 을 풀어 다른 relay 가 곧바로 발행할 수 있게 한다.
+                Thread.currentThread().interrupt();
+                releasedIds.add(event.getId());
+            } catch (Exception e) {
+                log.warn("outbox 이벤트 발행 실패 (eventId = {})", event.getEventId(), e);
+                failedIds.add(event.getId());
+            }
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        int exhausted = transactionTemplate.execute(status -> {
+            outboxEventRepository.markPublished(publishedIds, now);
+            outboxEventRepository.releaseClaims(releasedIds);
+            outboxEventRepository.park(parkedIds, now);
+            // 실패한 이벤트는 retryBackoff 뒤에 재발행하고, maxAttempts 번 실패하면 보류한다.
+            return outboxEventRepository.markFailed(failedIds, now.plus(properties.retryBackoff()), properties.maxAttempts(), now);
+        });
+        if (exhausted > 0) {
+            log.error("outbox 이벤트 {}건이 {}번 발행에 실패해 보류되었습니다.", exhausted, properties.maxAttempts());
+        }
+        publishedCounter.increment(publishedIds.size());
+        failedCounter.increment(failedIds.size());
+        parkedCounter.increment(parkedIds.size() + exhausted);
+        return publishedIds.size();
+    }
+
+    /**
+     * 발행할 이벤트를 잠가서 claimTimeout 동안 다른 relay 가 가져가지 않도록 표시하고, 발행 전에 커밋해 lock 을 푼다.
+     */
+    private List<OutboxEvent> claim() {
+        ZonedDateTime now = ZonedDateTime.now();
+        return transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxEventRepository.findClaimableForUpdate(properties.batchSize(), now);
+            outboxEventRepository.claim(events.stream().map(OutboxEvent::getId).toList(), now.plus(properties.claimTimeout()));
+            return events;
+        });
+    }
+
+    private void refreshLag() {
+        pendingCount.set(outboxEventRepository.countUnpublished());
+        oldestPendingAgeMillis.set(
+            outboxEventRepository.findOldestUnpublishedCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, ZonedDateTime.now()).toMillis())
+                .orElse(0L)
+        );
+    }
+
+    /**
+     * 문자열 그대로 보내면 JsonSerializer 가 한 번 더 인용하므로, JsonNode 로 변환해 원래 JSON 형태로 발행한다.
+     */
+    private JsonNode toJson(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 가 올바른 JSON 이 아닙니다.", e);
+        }
+    }
+}
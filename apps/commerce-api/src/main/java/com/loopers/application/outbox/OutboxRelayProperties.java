@@ -0,0 +1,35 @@
+package com.loopers.application.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled      relay 스케줄러 실행 여부 (인스턴스 수와 무관하게 SKIP LOCKED 로 나누어 처리한다.)
+ * @param batchSize    한 번에 가져가서 발행하는 최대 이벤트 수
+ * @param sendTimeout  배치 전체의 send / 브로커 ack 대기 시간. 지나면 아직 보내지 않은 이벤트는 보내지 않고 claim 을 푼다.
+ * @param claimTimeout 가져간 이벤트를 다른 relay 가 가져가지 못하는 시간. 발행 중에 relay 가 죽으면 이 시간이 지난 뒤 다시 발행된다.
+ *                     배치가 끝나기 전에 다른 relay 가 다시 발행하지 않도록 sendTimeout + producer 의 max.block.ms 보다 길어야 한다.
+ * @param retryBackoff 발행에 실패한 이벤트를 다시 가져가기까지 기다리는 시간
+ * @param maxAttempts  이 횟수만큼 발행에 실패한 이벤트는 보류(parked_at)하고 더 이상 발행하지 않는다.
+ */
+@ConfigurationProperties(prefix = "outbox.relay")
+public record OutboxRelayProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("10s") Duration sendTimeout,
+    @DefaultValue("1m") Duration claimTimeout,
+    @DefaultValue("5s") Duration retryBackoff,
+    @DefaultValue("20") int maxAttempts
+) {
+
+    public OutboxRelayProperties {
+        if (claimTimeout.compareTo(sendTimeout) <= 0) {
+            throw new IllegalArgumentException("claimTimeout 은 sendTimeout 보다 길어야 합니다.");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts 는 1 이상이어야 합니다.");
+        }
+    }
+}
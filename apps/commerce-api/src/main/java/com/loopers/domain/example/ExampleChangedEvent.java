@@ -0,0 +1,15 @@
+package com.loopers.domain.example;
+
+public record ExampleChangedEvent(Long exampleId, Type type) {
+    public enum Type {
+        UPDATED, DELETED
+    }
+
+    public static ExampleChangedEvent updated(Long exampleId) {
+        return new ExampleChangedEvent(exampleId, Type.UPDATED);
+    }
+
+    public static ExampleChangedEvent deleted(Long exampleId) {
+        return new ExampleChangedEvent(exampleId, Type.DELETED);
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.example;
+
+import java.time.ZonedDateTime;
+
+/**
+ * export 로 내보내는 예시 한 행. 영속성 컨텍스트를 거치지 않고 JDBC 로 읽는다.
+ */
+public record ExampleExportRow(
+    Long id,
+    String name,
+    String description,
+    ZonedDateTime createdAt,
+    ZonedDateTime updatedAt
+) {}
@@ -4,10 +4,15 @@ import com.loopers.domain.BaseEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "example")
+@Table(
+    name = "example",
+    // 목록 조회(deleted_at IS NULL, created_at 정렬) keyset 범위 탐색용. id 는 InnoDB 보조 인덱스에 포함된다.
+    indexes = @Index(name = "idx_example_deleted_at_created_at", columnList = "deleted_at, created_at")
+)
 public class ExampleModel extends BaseEntity {
 
     private String name;
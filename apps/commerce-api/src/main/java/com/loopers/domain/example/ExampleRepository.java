@@ -1,7 +1,27 @@
 package com.loopers.domain.example;
 
+import com.loopers.support.export.StreamingQuery;
+import com.loopers.support.pagination.KeysetPage;
+import com.loopers.support.pagination.KeysetSort;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ExampleRepository {
     Optional<ExampleModel> find(Long id);
+
+    List<ExampleModel> findAllByIds(Collection<Long> ids);
+
+    /**
+     * JDBC batch 로 한 번에 저장하고, 생성된 id 를 examples 순서대로 반환한다.
+     */
+    List<Long> saveAll(List<ExampleModel> examples);
+
+    KeysetPage<ExampleModel> findPage(KeysetSort<ExampleModel, ?> sort, String cursor, int size);
+
+    /**
+     * 삭제되지 않은 예시 전체를 id 순서로 한 행씩 읽는다. 반환한 조회를 닫아야 커넥션이 반환된다.
+     */
+    StreamingQuery<ExampleExportRow> openExport();
 }
@@ -2,18 +2,86 @@ package com.loopers.domain.example;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.export.StreamingQuery;
+import com.loopers.support.export.StreamingQueryUnavailableException;
+import com.loopers.support.pagination.InvalidCursorException;
+import com.loopers.support.pagination.KeysetPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleService {
 
     private final ExampleRepository exampleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public ExampleModel getExample(Long id) {
+        return findExample(id);
+    }
+
+    /**
+     * 존재하지 않는 ID 는 결과에서 제외된다. 순서는 보장하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<ExampleModel> getExamples(Collection<Long> ids) {
+        return exampleRepository.findAllByIds(ids);
+    }
+
+    /**
+     * 삭제되지 않은 예시를 cursor 다음부터 size 개 조회한다. 첫 페이지는 cursor 를 비워서 요청한다.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<ExampleModel> getExamplePage(ExampleSortType sortType, String cursor, int size) {
+        try {
+            return exampleRepository.findPage(sortType.getKeysetSort(), cursor, size);
+        } catch (InvalidCursorException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    /**
+     * 삭제되지 않은 예시 전체를 id 순서로 내보낸다. export 전용 커넥션으로 읽으므로 트랜잭션을 열지 않는다.
+     * 진행 중인 export 가 export pool 크기만큼 있으면 기다리지 않고 거절한다.
+     */
+    public StreamingQuery<ExampleExportRow> openExport() {
+        try {
+            return exampleRepository.openExport();
+        } catch (StreamingQueryUnavailableException e) {
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS, e.getMessage());
+        }
+    }
+
+    /**
+     * 대량 등록(import 등)용. 영속성 컨텍스트를 거치지 않으므로 반환된 id 로 다시 조회하여 사용한다.
+     */
+    @Transactional
+    public List<Long> createAll(List<ExampleModel> examples) {
+        return exampleRepository.saveAll(examples);
+    }
+
+    @Transactional
+    public ExampleModel update(Long id, String description) {
+        ExampleModel example = findExample(id);
+        example.update(description);
+        eventPublisher.publishEvent(ExampleChangedEvent.updated(id));
+        return example;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        ExampleModel example = findExample(id);
+        example.delete();
+        eventPublisher.publishEvent(ExampleChangedEvent.deleted(id));
+    }
+
+    private ExampleModel findExample(Long id) {
         return exampleRepository.find(id)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "[id = " + id + "] 예시를 찾을 수 없습니다."));
     }
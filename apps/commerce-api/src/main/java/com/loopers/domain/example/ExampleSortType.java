@@ -0,0 +1,17 @@
+package com.loopers.domain.example;
+
+import com.loopers.support.pagination.KeysetSort;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예시 목록 정렬 기준.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExampleSortType {
+    LATEST(KeysetSort.byCreatedAt(KeysetSort.Direction.DESC)),
+    OLDEST(KeysetSort.byCreatedAt(KeysetSort.Direction.ASC));
+
+    private final KeysetSort<ExampleModel, ?> keysetSort;
+}
@@ -0,0 +1,111 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 기록되는 발행 대기 이벤트.
+ * relay 가 발행할 이벤트를 가져가면 claimedUntil 까지 다른 relay 가 가져가지 않고, 발행에 성공하면 publishedAt 이 채워진다.
+ * 발행에 실패하면 failedAttempts 가 늘고, 계속 실패하거나 발행할 수 없는 이벤트는 parkedAt 을 채워 더 이상 가져가지 않는다.
+ * (원인을 해결한 뒤 parked_at / failed_attempts 를 되돌리면 다시 발행된다.)
+ */
+@Entity
+@Table(
+    name = "outbox_event",
+    uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event_event_id", columnNames = "event_id"),
+    indexes = @Index(name = "idx_outbox_event_published_at", columnList = "published_at, id")
+)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(name = "aggregate_type", nullable = false, length = 64)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, length = 64)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false)
+    private String topic;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "claimed_until")
+    private ZonedDateTime claimedUntil;
+
+    @Column(name = "published_at")
+    private ZonedDateTime publishedAt;
+
+    @Column(name = "failed_attempts", nullable = false)
+    private int failedAttempts;
+
+    @Column(name = "parked_at")
+    private ZonedDateTime parkedAt;
+
+    protected OutboxEvent() {}
+
+    public OutboxEvent(String eventId, String aggregateType, String aggregateId, String eventType, String topic, String payload) {
+        this.eventId = eventId;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.payload = payload;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    /**
+     * 메시지 key 로 사용되어, 같은 aggregate 의 이벤트는 같은 파티션에 쌓인다.
+     * 발행에 실패한 이벤트는 같은 aggregate 의 이후 이벤트가 발행된 뒤에 재발행될 수 있으므로 순서는 보장하지 않는다.
+     * 컨슈머는 eventId 로 중복을 제거하고, 순서가 필요하면 payload 의 버전 / 시각으로 판단한다.
+     */
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public ZonedDateTime getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public ZonedDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public int getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public ZonedDateTime getParkedAt() {
+        return parkedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.domain.outbox;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository {
+    OutboxEvent save(OutboxEvent outboxEvent);
+
+    /**
+     * 발행되지 않았고 보류되지 않았으며 다른 relay 가 가져가지 않은(claim 이 없거나 만료된) 이벤트를 오래된 순으로 잠그며 가져온다.
+     * 다른 relay 가 잠근 row 는 건너뛴다.
+     */
+    List<OutboxEvent> findClaimableForUpdate(int limit, ZonedDateTime now);
+
+    void claim(Collection<Long> ids, ZonedDateTime claimedUntil);
+
+    void releaseClaims(Collection<Long> ids);
+
+    /**
+     * 실패 횟수를 늘리고 retryAt 까지 다시 가져가지 않도록 한다. 실패 횟수가 maxAttempts 에 도달한 이벤트는 보류한다.
+     *
+     * @return 이번에 보류한 이벤트 수
+     */
+    int markFailed(Collection<Long> ids, ZonedDateTime retryAt, int maxAttempts, ZonedDateTime now);
+
+    /**
+     * 다시 발행해도 성공할 수 없는 이벤트(payload 오류 등)를 보류한다.
+     */
+    void park(Collection<Long> ids, ZonedDateTime parkedAt);
+
+    void markPublished(Collection<Long> ids, ZonedDateTime publishedAt);
+
+    long countUnpublished();
+
+    Optional<ZonedDateTime> findOldestUnpublishedCreatedAt();
+}
@@ -0,0 +1,21 @@
+package com.loopers.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * 호출한 쪽의 트랜잭션에 참여하여, 도메인 변경과 함께 커밋되거나 롤백된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(OutboxEvent outboxEvent) {
+        return outboxEventRepository.save(outboxEvent);
+    }
+}
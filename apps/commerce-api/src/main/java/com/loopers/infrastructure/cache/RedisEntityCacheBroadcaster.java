@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.support.broadcast.RedisBroadcaster;
+import com.loopers.support.entitycache.EntityCacheBroadcaster;
+import com.loopers.support.entitycache.EntityCacheEvictor;
+import com.loopers.support.entitycache.EntityCacheInvalidation;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시 무효화를 Redis pub/sub 으로 다른 commerce-api 노드에 알리고, 다른 노드가 보낸 무효화를 이 노드의 캐시에 반영한다.
+ */
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.mysql-jpa.second-level-cache.enabled", havingValue = "true")
+@Component
+public class RedisEntityCacheBroadcaster implements EntityCacheBroadcaster {
+    private static final String CHANNEL = "entity-cache:invalidation";
+
+    private final RedisBroadcaster redisBroadcaster;
+    private final EntityCacheEvictor entityCacheEvictor;
+
+    @PostConstruct
+    void subscribe() {
+        redisBroadcaster.subscribe(CHANNEL, message -> entityCacheEvictor.evict(EntityCacheInvalidation.parse(message)));
+    }
+
+    @Override
+    public void broadcast(EntityCacheInvalidation invalidation) {
+        redisBroadcaster.publish(CHANNEL, invalidation.toMessage());
+    }
+}
@@ -1,19 +1,88 @@
 package com.loopers.infrastructure.example;
 
+import com.loopers.domain.BaseEntityBulkWriter;
+import com.loopers.domain.BulkInsertSpec;
+import com.loopers.domain.example.ExampleExportRow;
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.domain.example.ExampleRepository;
+import com.loopers.support.export.StreamingQuery;
+import com.loopers.support.export.StreamingQueryExecutor;
+import com.loopers.support.pagination.KeysetPage;
+import com.loopers.support.pagination.KeysetPaginator;
+import com.loopers.support.pagination.KeysetSort;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import static com.loopers.domain.example.QExampleModel.exampleModel;
+
 @RequiredArgsConstructor
 @Component
 public class ExampleRepositoryImpl implements ExampleRepository {
+    private static final BulkInsertSpec<ExampleModel> BULK_INSERT_SPEC = BulkInsertSpec.of(
+        "example",
+        List.of("name", "description"),
+        example -> new Object[]{example.getName(), example.getDescription()}
+    );
+    private static final String EXPORT_SQL = """
+        SELECT id, name, description, created_at, updated_at
+        FROM example
+        WHERE deleted_at IS NULL
+        ORDER BY id
+        """;
+    // 시각은 UTC 로 저장된다. (hibernate.jdbc.time_zone)
+    private static final RowMapper<ExampleExportRow> EXPORT_ROW_MAPPER = (rs, rowNum) -> new ExampleExportRow(
+        rs.getLong("id"),
+        rs.getString("name"),
+        rs.getString("description"),
+        rs.getObject("created_at", LocalDateTime.class).atZone(ZoneOffset.UTC),
+        rs.getObject("updated_at", LocalDateTime.class).atZone(ZoneOffset.UTC)
+    );
+
     private final ExampleJpaRepository exampleJpaRepository;
+    private final BaseEntityBulkWriter bulkWriter;
+    private final JPAQueryFactory queryFactory;
+    private final KeysetPaginator keysetPaginator;
+    private final StreamingQueryExecutor streamingQueryExecutor;
 
     @Override
     public Optional<ExampleModel> find(Long id) {
-        return exampleJpaRepository.findById(id);
+        // 2차 캐시에서 응답한 엔티티에는 soft delete 필터가 적용되지 않으므로, 삭제된 예시를 한 번 더 거른다.
+        return exampleJpaRepository.findById(id).filter(example -> example.getDeletedAt() == null);
+    }
+
+    @Override
+    public List<ExampleModel> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory.selectFrom(exampleModel)
+            .where(exampleModel.id.in(ids))
+            .fetch();
+    }
+
+    @Override
+    public List<Long> saveAll(List<ExampleModel> examples) {
+        if (examples.isEmpty()) {
+            return List.of();
+        }
+        return bulkWriter.insertAll(BULK_INSERT_SPEC, examples);
+    }
+
+    @Override
+    public KeysetPage<ExampleModel> findPage(KeysetSort<ExampleModel, ?> sort, String cursor, int size) {
+        return keysetPaginator.fetch(exampleModel, null, sort, cursor, size);
+    }
+
+    @Override
+    public StreamingQuery<ExampleExportRow> openExport() {
+        return streamingQueryExecutor.open(EXPORT_SQL, EXPORT_ROW_MAPPER);
     }
 }
@@ -0,0 +1,50 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query(
+        value = """
+            SELECT * FROM outbox_event
+            WHERE published_at IS NULL AND parked_at IS NULL AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED
+            """,
+        nativeQuery = true
+    )
+    List<OutboxEvent> findClaimableForUpdate(@Param("limit") int limit, @Param("now") ZonedDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.claimedUntil = :claimedUntil WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") ZonedDateTime claimedUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.claimedUntil = NULL WHERE o.id IN :ids")
+    int releaseClaims(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.failedAttempts = o.failedAttempts + 1, o.claimedUntil = :retryAt WHERE o.id IN :ids")
+    int increaseFailedAttempts(@Param("ids") Collection<Long> ids, @Param("retryAt") ZonedDateTime retryAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.parkedAt = :parkedAt, o.claimedUntil = NULL WHERE o.id IN :ids AND o.failedAttempts >= :minAttempts")
+    int park(@Param("ids") Collection<Long> ids, @Param("minAttempts") int minAttempts, @Param("parkedAt") ZonedDateTime parkedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent o SET o.publishedAt = :publishedAt, o.updatedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") ZonedDateTime publishedAt);
+
+    long countByPublishedAtIsNull();
+
+    @Query("SELECT MIN(o.createdAt) FROM OutboxEvent o WHERE o.publishedAt IS NULL")
+    Optional<ZonedDateTime> findOldestUnpublishedCreatedAt();
+}
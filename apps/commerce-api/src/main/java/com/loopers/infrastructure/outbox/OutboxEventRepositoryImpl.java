@@ -0,0 +1,78 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent outboxEvent) {
+        return outboxEventJpaRepository.save(outboxEvent);
+    }
+
+    @Override
+    public List<OutboxEvent> findClaimableForUpdate(int limit, ZonedDateTime now) {
+        return outboxEventJpaRepository.findClaimableForUpdate(limit, now);
+    }
+
+    @Override
+    public void claim(Collection<Long> ids, ZonedDateTime claimedUntil) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.claim(ids, claimedUntil);
+    }
+
+    @Override
+    public void releaseClaims(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.releaseClaims(ids);
+    }
+
+    @Override
+    public int markFailed(Collection<Long> ids, ZonedDateTime retryAt, int maxAttempts, ZonedDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        outboxEventJpaRepository.increaseFailedAttempts(ids, retryAt);
+        return outboxEventJpaRepository.park(ids, maxAttempts, now);
+    }
+
+    @Override
+    public void park(Collection<Long> ids, ZonedDateTime parkedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.park(ids, 0, parkedAt);
+    }
+
+    @Override
+    public void markPublished(Collection<Long> ids, ZonedDateTime publishedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        outboxEventJpaRepository.markPublished(ids, publishedAt);
+    }
+
+    @Override
+    public long countUnpublished() {
+        return outboxEventJpaRepository.countByPublishedAtIsNull();
+    }
+
+    @Override
+    public Optional<ZonedDateTime> findOldestUnpublishedCreatedAt() {
+        return outboxEventJpaRepository.findOldestUnpublishedCreatedAt();
+    }
+}
@@ -1,18 +1,27 @@
 package com.loopers.interfaces.api;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+@JsonSerialize(using = ApiResponseSerializer.class)
 public record ApiResponse<T>(Metadata meta, T data) {
     public record Metadata(Result result, String errorCode, String message) {
+        private static final Metadata SUCCESS = new Metadata(Result.SUCCESS, null, null);
+
         public enum Result {
             SUCCESS, FAIL
         }
 
         public static Metadata success() {
-            return new Metadata(Result.SUCCESS, null, null);
+            return SUCCESS;
         }
 
         public static Metadata fail(String errorCode, String errorMessage) {
             return new Metadata(Result.FAIL, errorCode, errorMessage);
         }
+
+        boolean isSuccessConstant() {
+            return this == SUCCESS;
+        }
     }
 
     public static ApiResponse<Object> success() {
@@ -0,0 +1,80 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * {@link ApiResponse} 를 reflection 없이 직렬화한다.
+ * 모든 성공 응답이 공유하는 meta 는 미리 인코딩한 바이트를 그대로 쓰고, data 의 serializer 는 타입별로 이 serializer 안에 캐시한다.
+ * 출력은 기본 직렬화(NON_NULL)와 같다.
+ */
+class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+    private static final SerializedString META = new SerializedString("meta");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString RESULT = new SerializedString("result");
+    private static final SerializedString ERROR_CODE = new SerializedString("errorCode");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString SUCCESS_META = new SerializedString("{\"result\":\"SUCCESS\"}");
+
+    // 불변 맵을 교체하는 방식이라 동시에 갱신되어도 안전하다. (Jackson BeanSerializer 와 같은 방식)
+    private volatile PropertySerializerMap dataSerializers = PropertySerializerMap.emptyForProperties();
+
+    @SuppressWarnings("unchecked")
+    ApiResponseSerializer() {
+        super((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        writeMeta(value.meta(), gen);
+        Object data = value.data();
+        if (data != null) {
+            gen.writeFieldName(DATA);
+            dataSerializer(data.getClass(), provider).serialize(data, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeMeta(ApiResponse.Metadata meta, JsonGenerator gen) throws IOException {
+        if (meta == null) {
+            return;
+        }
+        gen.writeFieldName(META);
+        if (meta.isSuccessConstant()) {
+            gen.writeRawValue(SUCCESS_META);
+            return;
+        }
+        gen.writeStartObject();
+        if (meta.result() != null) {
+            gen.writeFieldName(RESULT);
+            gen.writeString(meta.result().name());
+        }
+        if (meta.errorCode() != null) {
+            gen.writeFieldName(ERROR_CODE);
+            gen.writeString(meta.errorCode());
+        }
+        if (meta.message() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(meta.message());
+        }
+        gen.writeEndObject();
+    }
+
+    private JsonSerializer<Object> dataSerializer(Class<?> type, SerializerProvider provider) throws IOException {
+        PropertySerializerMap serializers = dataSerializers;
+        JsonSerializer<Object> serializer = serializers.serializerFor(type);
+        if (serializer != null) {
+            return serializer;
+        }
+        PropertySerializerMap.SerializerAndMapResult result = serializers.findAndAddPrimarySerializer(type, provider, null);
+        dataSerializers = result.map;
+        return result.serializer;
+    }
+}
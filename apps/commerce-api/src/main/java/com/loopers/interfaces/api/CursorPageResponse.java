@@ -0,0 +1,20 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.pagination.KeysetPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답. 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨 조회한다.
+ *
+ * @param content    조회한 페이지
+ * @param nextCursor 다음 페이지 커서. 마지막 페이지이면 null
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record CursorPageResponse<T>(List<T> content, String nextCursor, boolean hasNext) {
+    public static <S, T> CursorPageResponse<T> from(KeysetPage<S> page, Function<? super S, ? extends T> mapper) {
+        KeysetPage<T> mapped = page.map(mapper);
+        return new CursorPageResponse<>(mapped.content(), mapped.nextCursor(), mapped.hasNext());
+    }
+}
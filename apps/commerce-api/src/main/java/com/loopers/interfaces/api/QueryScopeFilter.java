@@ -0,0 +1,41 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.support.query.QueryInspector;
+import com.loopers.support.query.QueryScope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 statement 를 한 scope 로 묶어, 여러 트랜잭션에 걸친 N+1 도 요청 단위로 찾는다.
+ * 로그에 traceId 가 남도록 observation 필터 다음에 실행한다.
+ */
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@Component
+public class QueryScopeFilter extends OncePerRequestFilter {
+    private final QueryInspector queryInspector;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        try (QueryScope scope = queryInspector.openScope("request")) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                // 경로 변수 값 대신 매핑된 패턴으로 남긴다.
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                scope.describe(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+            }
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.loopers.interfaces.api.example;
 
+import com.loopers.domain.example.ExampleSortType;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.export.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
 
 @Tag(name = "Example V1 API", description = "Loopers 예시 API 입니다.")
 public interface ExampleV1ApiSpec {
@@ -16,4 +23,36 @@ public interface ExampleV1ApiSpec {
         @Schema(name = "예시 ID", description = "조회할 예시의 ID")
         Long exampleId
     );
+
+    @Operation(
+        summary = "예시 일괄 조회",
+        description = "여러 ID로 예시를 한 번에 조회합니다. 요청한 ID 순서대로 응답하며, 존재하지 않는 ID는 missingIds 로 응답합니다."
+    )
+    ApiResponse<ExampleV1Dto.ExamplesResponse> getExamples(
+        @Schema(name = "예시 ID 목록", description = "조회할 예시의 ID 목록 (콤마 구분, 최대 100개)")
+        List<Long> ids
+    );
+
+    @Operation(
+        summary = "예시 목록 조회",
+        description = "예시 목록을 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다."
+    )
+    ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>> getExamplePage(
+        @Schema(name = "커서", description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+        String cursor,
+        @Schema(name = "페이지 크기", description = "한 번에 조회할 예시 수 (1~100)", defaultValue = "20")
+        int size,
+        @Schema(name = "정렬", description = "정렬 기준", defaultValue = "LATEST")
+        ExampleSortType sort
+    );
+
+    @Operation(
+        summary = "예시 전체 내보내기",
+        description = "삭제되지 않은 예시 전체를 id 순서로 gzip 압축한 NDJSON / CSV 파일로 내려받습니다. 동시에 진행할 수 있는 내보내기 수를 넘으면 429 로 응답합니다."
+    )
+    WebAsyncTask<Void> exportExamples(
+        @Schema(name = "형식", description = "파일 형식 (NDJSON, CSV)", defaultValue = "NDJSON")
+        ExportFormat format,
+        HttpServletResponse response
+    );
 }
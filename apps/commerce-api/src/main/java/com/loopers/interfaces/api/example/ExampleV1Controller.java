@@ -1,20 +1,41 @@
 package com.loopers.interfaces.api.example;
 
+import com.loopers.application.example.ExampleBulkInfo;
 import com.loopers.application.example.ExampleFacade;
 import com.loopers.application.example.ExampleInfo;
+import com.loopers.domain.example.ExampleExportRow;
+import com.loopers.domain.example.ExampleSortType;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.CursorPageResponse;
+import com.loopers.interfaces.api.export.ExportColumn;
+import com.loopers.interfaces.api.export.ExportFormat;
+import com.loopers.interfaces.api.export.StreamingExporter;
+import com.loopers.support.pagination.KeysetPage;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/examples")
 public class ExampleV1Controller implements ExampleV1ApiSpec {
+    private static final List<ExportColumn<ExampleExportRow>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("id", ExampleExportRow::id),
+        ExportColumn.of("name", ExampleExportRow::name),
+        ExportColumn.of("description", ExampleExportRow::description),
+        ExportColumn.of("createdAt", ExampleExportRow::createdAt),
+        ExportColumn.of("updatedAt", ExampleExportRow::updatedAt)
+    );
 
     private final ExampleFacade exampleFacade;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping("/{exampleId}")
     @Override
@@ -25,4 +46,35 @@ public class ExampleV1Controller implements ExampleV1ApiSpec {
         ExampleV1Dto.ExampleResponse response = ExampleV1Dto.ExampleResponse.from(info);
         return ApiResponse.success(response);
     }
+
+    @GetMapping(params = "ids")
+    @Override
+    public ApiResponse<ExampleV1Dto.ExamplesResponse> getExamples(
+        @RequestParam(value = "ids") List<Long> ids
+    ) {
+        ExampleBulkInfo info = exampleFacade.getExamples(ids);
+        ExampleV1Dto.ExamplesResponse response = ExampleV1Dto.ExamplesResponse.from(info);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping
+    @Override
+    public ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>> getExamplePage(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        @RequestParam(value = "sort", defaultValue = "LATEST") ExampleSortType sort
+    ) {
+        KeysetPage<ExampleInfo> page = exampleFacade.getExamplePage(sort, cursor, size);
+        CursorPageResponse<ExampleV1Dto.ExampleResponse> response = CursorPageResponse.from(page, ExampleV1Dto.ExampleResponse::from);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/export")
+    @Override
+    public WebAsyncTask<Void> exportExamples(
+        @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format,
+        HttpServletResponse response
+    ) {
+        return streamingExporter.export("examples", format, EXPORT_COLUMNS, exampleFacade.openExport(), response);
+    }
 }
@@ -1,7 +1,10 @@
 package com.loopers.interfaces.api.example;
 
+import com.loopers.application.example.ExampleBulkInfo;
 import com.loopers.application.example.ExampleInfo;
 
+import java.util.List;
+
 public class ExampleV1Dto {
     public record ExampleResponse(Long id, String name, String description) {
         public static ExampleResponse from(ExampleInfo info) {
@@ -12,4 +15,13 @@ public class ExampleV1Dto {
             );
         }
     }
+
+    public record ExamplesResponse(List<ExampleResponse> examples, List<Long> missingIds) {
+        public static ExamplesResponse from(ExampleBulkInfo info) {
+            return new ExamplesResponse(
+                info.examples().stream().map(ExampleResponse::from).toList(),
+                info.missingIds()
+            );
+        }
+    }
 }
@@ -0,0 +1,14 @@
+package com.loopers.interfaces.api.export;
+
+import java.util.function.Function;
+
+/**
+ * @param name  NDJSON 의 필드 이름 / CSV 의 헤더
+ * @param value 행에서 값을 꺼낸다. null 이면 NDJSON 에서는 필드를 생략하고, CSV 에서는 빈 값으로 쓴다.
+ */
+public record ExportColumn<T>(String name, Function<? super T, ?> value) {
+
+    public static <T> ExportColumn<T> of(String name, Function<? super T, ?> value) {
+        return new ExportColumn<>(name, value);
+    }
+}
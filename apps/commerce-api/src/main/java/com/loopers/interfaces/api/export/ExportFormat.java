@@ -0,0 +1,22 @@
+package com.loopers.interfaces.api.export;
+
+/**
+ * export 파일 형식. 응답은 gzip 으로 압축한 파일(.ndjson.gz / .csv.gz)로 내려준다.
+ */
+public enum ExportFormat {
+    /** 한 줄에 JSON 객체 하나 */
+    NDJSON("ndjson"),
+    /** RFC 4180. 첫 줄은 컬럼 이름 */
+    CSV("csv"),
+    ;
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.interfaces.api.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param timeout export 응답을 다 쓸 때까지 기다리는 시간. 다른 비동기 요청의 timeout(spring.mvc.async.request-timeout)과 따로 정한다.
+ */
+@ConfigurationProperties(prefix = "export")
+public record ExportProperties(
+    @DefaultValue("30m") Duration timeout
+) {}
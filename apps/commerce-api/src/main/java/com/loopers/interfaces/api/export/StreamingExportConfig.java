@@ -0,0 +1,41 @@
+package com.loopers.interfaces.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.export.StreamingQueryExecutor;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * export 응답은 MVC 비동기 요청 공통 executor 가 아닌 export 전용 스레드 풀에서 쓴다. ({@link StreamingExporter})
+ * 스트리밍 조회는 export pool 의 커넥션을 하나씩 점유하므로, 스레드 수는 export pool 크기에 맞춘다.
+ * 다른 Executor bean 이 생기면 applicationTaskExecutor 가 만들어지지 않으므로 bean 으로 등록하지 않는다.
+ */
+@Configuration
+public class StreamingExportConfig {
+    private final ThreadPoolTaskExecutor exportTaskExecutor = new ThreadPoolTaskExecutor();
+
+    public StreamingExportConfig(StreamingQueryExecutor streamingQueryExecutor) {
+        int concurrency = streamingQueryExecutor.getMaxConcurrency();
+        exportTaskExecutor.setCorePoolSize(concurrency);
+        exportTaskExecutor.setMaxPoolSize(concurrency);
+        // 커넥션을 확보한 요청만 들어오므로 대기열이 pool 크기를 넘지 않는다. 커넥션 반환 직후 들어온 요청이 거절되지 않도록 여유를 둔다.
+        exportTaskExecutor.setQueueCapacity(concurrency);
+        exportTaskExecutor.setThreadNamePrefix("export-");
+        // 종료할 때 진행 중인 export 를 잠시 기다린다. 끝나지 않은 export 는 연결이 끊긴다.
+        exportTaskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        exportTaskExecutor.setAwaitTerminationSeconds(30);
+        exportTaskExecutor.initialize();
+    }
+
+    @Bean
+    public StreamingExporter streamingExporter(ObjectMapper objectMapper, ExportProperties properties) {
+        return new StreamingExporter(objectMapper, exportTaskExecutor, properties.timeout());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        exportTaskExecutor.shutdown();
+    }
+}
@@ -0,0 +1,203 @@
+package com.loopers.interfaces.api.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.export.StreamingQuery;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 조회한 행을 읽는 대로 NDJSON / CSV 로 변환하고 gzip 으로 압축해 응답에 쓴다.
+ * 행을 모으지 않으므로 테이블 크기와 관계없이 메모리 사용량이 일정하다.
+ * 응답 본문은 요청 스레드가 아닌 export 전용 executor 에서 쓰고, timeout 도 export 에만 적용한다. ({@link StreamingExportConfig})
+ * 쓰는 도중 실패하면 이미 보낸 응답을 되돌릴 수 없으므로 연결을 끊는다. 클라이언트는 gzip trailer 가 없는 파일로 실패를 알 수 있다.
+ * executor 가 작업을 거절하거나 시작 전에 timeout 되어 본문이 실행되지 않으면, 비동기 처리가 끝날 때 조회를 닫아 커넥션을 반환한다.
+ */
+@Slf4j
+public class StreamingExporter {
+    private static final String GZIP = "application/gzip";
+    private static final DateTimeFormatter FILE_NAME_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final AsyncTaskExecutor executor;
+    private final Duration timeout;
+
+    public StreamingExporter(ObjectMapper objectMapper, AsyncTaskExecutor executor, Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 본문을 다 쓰면 응답이 끝나므로, 비동기 처리 결과(null)는 다시 쓰지 않는다.
+     *
+     * @param name  파일 이름 (예: examples → examples-20250101T000000.ndjson.gz)
+     * @param query 커넥션을 확보한 조회. 응답을 다 쓰거나 실패하면 닫는다.
+     */
+    public <T> WebAsyncTask<Void> export(
+        String name,
+        ExportFormat format,
+        List<ExportColumn<T>> columns,
+        StreamingQuery<T> query,
+        HttpServletResponse response
+    ) {
+        String fileName = name + "-" + LocalDateTime.now(ZoneOffset.UTC).format(FILE_NAME_TIME) + "." + format.getExtension() + ".gz";
+        // 본문과 완료 callback 중 먼저 가져간 쪽이 조회를 닫는다.
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncTask<Void> task = new WebAsyncTask<>(timeout.toMillis(), executor, () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            long startedAt = System.nanoTime();
+            // 본문이 실행되지 않으면 오류 응답을 JSON 으로 쓸 수 있도록, 헤더는 본문을 쓰기 직전에 정한다.
+            response.setContentType(GZIP);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+            try (query; RowWriter<T> writer = writer(format, columns, response.getOutputStream())) {
+                long count = query.forEach(writer::write);
+                log.info("[export={}] {} 행을 내보냈습니다. ({}ms)", fileName, count, (System.nanoTime() - startedAt) / 1_000_000);
+            }
+            return null;
+        });
+        // 본문이 조회를 가져가기 전에 비동기 처리가 끝나면(거절 / timeout / 연결 끊김) 조회를 닫는다.
+        // 본문이 실행 중이면 본문이 닫으므로, 다른 스레드에서 사용 중인 커넥션을 반환하지 않는다.
+        task.onCompletion(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                log.warn("[export={}] 응답을 쓰기 전에 요청이 끝나 조회를 닫습니다.", fileName);
+                query.close();
+            }
+        });
+        return task;
+    }
+
+    private <T> RowWriter<T> writer(ExportFormat format, List<ExportColumn<T>> columns, OutputStream outputStream) throws IOException {
+        // gzip trailer 만 쓰고, 응답 스트림은 컨테이너가 닫는다.
+        OutputStream gzip = new GZIPOutputStream(StreamUtils.nonClosing(outputStream), BUFFER_SIZE);
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(objectMapper.createGenerator(gzip, JsonEncoding.UTF8), columns);
+            case CSV -> new CsvWriter<>(new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE), columns);
+        };
+    }
+
+    private interface RowWriter<T> extends Closeable {
+        void write(T row) throws IOException;
+    }
+
+    private static final class NdjsonWriter<T> implements RowWriter<T> {
+        private final JsonGenerator generator;
+        private final List<ExportColumn<T>> columns;
+
+        NdjsonWriter(JsonGenerator generator, List<ExportColumn<T>> columns) {
+            // 값 사이 구분자는 줄바꿈으로 직접 쓴다.
+            this.generator = generator.setRootValueSeparator(null);
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            generator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                Object value = column.value().apply(row);
+                if (value != null) {
+                    generator.writeFieldName(column.name());
+                    generator.writeObject(value);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter<T> implements RowWriter<T> {
+        private static final String LINE_SEPARATOR = "\r\n";
+
+        private final Writer writer;
+        private final List<ExportColumn<T>> columns;
+
+        CsvWriter(Writer writer, List<ExportColumn<T>> columns) throws IOException {
+            this.writer = writer;
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(i, columns.get(i).name());
+            }
+            writer.write(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = columns.get(i).value().apply(row);
+                writeField(i, format(value));
+            }
+            writer.write(LINE_SEPARATOR);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+
+        private void writeField(int index, String value) throws IOException {
+            if (index > 0) {
+                writer.write(',');
+            }
+            if (!needsQuote(value)) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        /**
+         * 시각은 NDJSON 과 같은 ISO-8601 형식으로 쓴다. (ZonedDateTime.toString 은 0 인 초를 생략한다)
+         */
+        private static String format(Object value) {
+            return switch (value) {
+                case null -> "";
+                case ZonedDateTime dateTime -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+                case OffsetDateTime dateTime -> DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+                default -> value.toString();
+            };
+        }
+
+        private static boolean needsQuote(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.loopers.interfaces.api.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.ErrorType;
+import com.loopers.support.ratelimit.RateLimitDecision;
+import com.loopers.support.ratelimit.RateLimitPolicy;
+import com.loopers.support.ratelimit.RedisRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 설정된 정책(rate-limit.policies)을 차례로 적용하여, 허용량을 넘은 요청은 컨트롤러에 도달하기 전에 429 로 응답한다.
+ * 요청 metric(http.server.requests)에 429 가 기록되도록 observation 필터 다음에 실행한다.
+ */
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    static final String API_KEY_HEADER = "X-API-KEY";
+
+    private final RedisRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<PolicyMatcher> policies;
+
+    public RateLimitFilter(RedisRateLimiter rateLimiter, ObjectMapper objectMapper, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.policies = properties.policies().stream()
+            .map(policy -> new PolicyMatcher(
+                policy.toRateLimitPolicy(),
+                policy.key(),
+                policy.paths().stream().map(PathPatternParser.defaultInstance::parse).toList()
+            ))
+            .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PolicyMatcher policy : policies) {
+            if (!policy.matches(path)) {
+                continue;
+            }
+            String key = resolveKey(policy.keyType(), request);
+            if (key == null) {
+                continue;
+            }
+            RateLimitDecision decision = rateLimiter.tryAcquire(policy.policy(), key);
+            if (!decision.allowed()) {
+                reject(response, decision);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveKey(RateLimitProperties.KeyType keyType, HttpServletRequest request) {
+        return switch (keyType) {
+            case CLIENT_IP -> request.getRemoteAddr();
+            case API_KEY -> {
+                String apiKey = request.getHeader(API_KEY_HEADER);
+                // API key 원문이 Redis key 로 남지 않도록 해시한다.
+                yield apiKey == null || apiKey.isBlank() ? null : sha256(apiKey);
+            }
+            case ROUTE -> "*";
+        };
+    }
+
+    private void reject(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        ErrorType errorType = ErrorType.TOO_MANY_REQUESTS;
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        response.setStatus(errorType.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.fail(errorType.getCode(), errorType.getMessage()));
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record PolicyMatcher(RateLimitPolicy policy, RateLimitProperties.KeyType keyType, List<PathPattern> paths) {
+        boolean matches(PathContainer path) {
+            return paths.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.interfaces.api.ratelimit;
+
+import com.loopers.support.ratelimit.RateLimitAlgorithm;
+import com.loopers.support.ratelimit.RateLimitPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param enabled  rate limit 필터 적용 여부
+ * @param policies 요청에 차례로 적용할 정책. 하나라도 거절하면 429 로 응답한다.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Policy> policies
+) {
+
+    public enum KeyType {
+        /** 요청한 클라이언트 IP 별 (프록시 뒤에서는 server.forward-headers-strategy 가 없으면 모든 요청이 프록시 IP 하나로 묶인다.) */
+        CLIENT_IP,
+        /** X-API-KEY 헤더 별. 헤더가 없는 요청에는 적용하지 않는다. */
+        API_KEY,
+        /** 정책의 경로 전체 (모든 클라이언트가 하나의 허용량을 공유한다.) */
+        ROUTE
+    }
+
+    /**
+     * @param name       정책 이름 (Redis key, metric tag)
+     * @param key        허용량을 나누는 기준
+     * @param paths      적용할 경로 패턴 (ex. /api/v1/examples/**)
+     * @param algorithm  허용 여부 계산 방식
+     * @param limit      period 당 허용 요청 수
+     * @param period     limit 이 적용되는 기간
+     * @param localBatch Redis 에서 한 번에 가져와 노드에서 소비하는 허용량
+     */
+    public record Policy(
+        String name,
+        KeyType key,
+        List<String> paths,
+        @DefaultValue("TOKEN_BUCKET") RateLimitAlgorithm algorithm,
+        long limit,
+        @DefaultValue("1s") Duration period,
+        @DefaultValue("1") int localBatch
+    ) {
+
+        public RateLimitPolicy toRateLimitPolicy() {
+            return new RateLimitPolicy(name, algorithm, limit, period, localBatch);
+        }
+    }
+}
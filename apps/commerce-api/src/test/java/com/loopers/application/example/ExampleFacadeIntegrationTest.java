@@ -0,0 +1,228 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.domain.example.ExampleService;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.support.counter.CounterBuffer;
+import com.loopers.support.counter.CounterNames;
+import com.loopers.support.counter.CounterSnapshot;
+import com.loopers.support.counter.RedisCounterStore;
+import com.loopers.support.routing.PrimaryReads;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class ExampleFacadeIntegrationTest {
+    @Autowired
+    private ExampleFacade exampleFacade;
+
+    @Autowired
+    private ExampleService exampleService;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private CounterBuffer counterBuffer;
+
+    @Autowired
+    private RedisCounterStore counterStore;
+
+    @MockitoSpyBean
+    private ExampleRepository exampleRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        // 다음 테스트에 조회수 증가분이 늦게 쌓이지 않도록 버퍼를 먼저 비운다.
+        counterBuffer.flush();
+        counterBuffer.flush();
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("예시를 조회할 때,")
+    @Nested
+    class Get {
+        @DisplayName("한 번 조회된 예시는, 원본이 사라져도 캐시에서 응답한다.")
+        @Test
+        void returnsCachedExample_whenAlreadyLoaded() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            exampleFacade.getExample(exampleModel.getId());
+            databaseCleanUp.truncateAllTables();
+
+            // act
+            ExampleInfo result = exampleFacade.getExample(exampleModel.getId());
+
+            // assert
+            assertThat(result.description()).isEqualTo("예시 설명");
+        }
+
+        @DisplayName("예시가 수정되면, 캐시가 제거되어 변경된 값을 응답한다.")
+        @Test
+        void returnsUpdatedExample_whenExampleIsUpdated() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            exampleFacade.getExample(exampleModel.getId());
+
+            // act
+            exampleService.update(exampleModel.getId(), "변경된 설명");
+            ExampleInfo result = exampleFacade.getExample(exampleModel.getId());
+
+            // assert
+            assertThat(result.description()).isEqualTo("변경된 설명");
+        }
+
+        @DisplayName("캐시에 없는 예시는, 복제 지연 중인 replica 가 아닌 main pool 에서 읽어 캐시에 채운다.")
+        @Test
+        void loadsFromPrimary_whenCacheMisses() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel second = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+            List<Boolean> pinned = new ArrayList<>();
+            doAnswer(invocation -> {
+                pinned.add(PrimaryReads.isPinned());
+                return invocation.callRealMethod();
+            }).when(exampleRepository).find(first.getId());
+            doAnswer(invocation -> {
+                pinned.add(PrimaryReads.isPinned());
+                return invocation.callRealMethod();
+            }).when(exampleRepository).findAllByIds(anyCollection());
+
+            // act
+            exampleFacade.getExample(first.getId());
+            exampleFacade.getExamples(List.of(first.getId(), second.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(pinned).containsExactly(true, true),
+                () -> assertThat(PrimaryReads.isPinned()).isFalse()
+            );
+        }
+    }
+
+    @DisplayName("캐시에 없는 예시를 동시에 조회할 때,")
+    @Nested
+    class ConcurrentGet {
+        @DisplayName("요청 수와 관계없이, DB 조회는 한 번만 수행된다.")
+        @Test
+        void loadsFromDatabaseOnce_whenManyRequestsMissAtOnce() throws Exception {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            int threadCount = 200; // server.tomcat.threads.max
+            CountDownLatch startGate = new CountDownLatch(1);
+            List<Future<ExampleInfo>> results = new ArrayList<>();
+
+            // act
+            try (ExecutorService executor = Executors.newFixedThreadPool(threadCount)) {
+                for (int i = 0; i < threadCount; i++) {
+                    results.add(executor.submit(() -> {
+                        startGate.await();
+                        return exampleFacade.getExample(exampleModel.getId());
+                    }));
+                }
+                startGate.countDown();
+                for (Future<ExampleInfo> result : results) {
+                    assertThat(result.get().id()).isEqualTo(exampleModel.getId());
+                }
+            }
+
+            // assert
+            verify(exampleRepository, times(1)).find(exampleModel.getId());
+        }
+    }
+
+    @DisplayName("예시를 여러 번 조회할 때,")
+    @Nested
+    class ViewCount {
+        @DisplayName("동시에 조회해도, 조회 수만큼의 증가분이 Redis 에 쌓인다.")
+        @Test
+        void accumulatesViewCountInRedis_whenViewedConcurrently() throws Exception {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            int threadCount = 50;
+            int viewsPerThread = 20;
+            CountDownLatch startGate = new CountDownLatch(1);
+            List<Future<?>> results = new ArrayList<>();
+
+            // act
+            try (ExecutorService executor = Executors.newFixedThreadPool(threadCount)) {
+                for (int i = 0; i < threadCount; i++) {
+                    results.add(executor.submit(() -> {
+                        startGate.await();
+                        for (int view = 0; view < viewsPerThread; view++) {
+                            exampleFacade.getExample(exampleModel.getId());
+                        }
+                        return null;
+                    }));
+                }
+                startGate.countDown();
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            }
+            counterBuffer.flush();
+            counterBuffer.flush();
+
+            // assert
+            CounterSnapshot snapshot = counterStore.take(CounterNames.EXAMPLE_VIEW).orElseThrow();
+            assertThat(snapshot.deltas()).containsEntry(String.valueOf(exampleModel.getId()), (long) threadCount * viewsPerThread);
+        }
+
+        @DisplayName("없는 예시를 조회하면, 조회수가 쌓이지 않는다.")
+        @Test
+        void doesNotCountView_whenExampleDoesNotExist() {
+            // arrange
+            Long missingId = 999L;
+
+            // act
+            catchThrowable(() -> exampleFacade.getExample(missingId));
+            counterBuffer.flush();
+            counterBuffer.flush();
+
+            // assert
+            Map<String, Long> deltas = counterStore.take(CounterNames.EXAMPLE_VIEW)
+                .map(CounterSnapshot::deltas)
+                .orElse(Map.of());
+            assertThat(deltas).doesNotContainKey(String.valueOf(missingId));
+        }
+    }
+}
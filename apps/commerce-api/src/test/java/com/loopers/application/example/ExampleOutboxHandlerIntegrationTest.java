@@ -0,0 +1,73 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleService;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.infrastructure.outbox.OutboxEventJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ExampleOutboxHandlerIntegrationTest {
+    @Autowired
+    private ExampleService exampleService;
+
+    @Autowired
+    private ExampleJpaRepository exampleJpaRepository;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("예시가 수정되면, 같은 트랜잭션에서 발행 대기 이벤트가 기록된다.")
+    @Test
+    void appendsOutboxEvent_whenExampleIsUpdated() {
+        // arrange
+        ExampleModel exampleModel = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+
+        // act
+        exampleService.update(exampleModel.getId(), "변경된 설명");
+
+        // assert
+        List<OutboxEvent> events = outboxEventJpaRepository.findAll();
+        assertAll(
+            () -> assertThat(events).hasSize(1),
+            () -> assertThat(events.get(0).getAggregateId()).isEqualTo(String.valueOf(exampleModel.getId())),
+            () -> assertThat(events.get(0).getEventType()).isEqualTo("UPDATED"),
+            () -> assertThat(events.get(0).getPayload()).contains(events.get(0).getEventId()),
+            () -> assertThat(events.get(0).getPublishedAt()).isNull()
+        );
+    }
+
+    @DisplayName("예시 수정이 실패하면, 발행 대기 이벤트도 기록되지 않는다.")
+    @Test
+    void doesNotAppendOutboxEvent_whenUpdateFails() {
+        // arrange
+        ExampleModel exampleModel = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+
+        // act
+        assertThrows(CoreException.class, () -> exampleService.update(exampleModel.getId(), " "));
+
+        // assert
+        assertThat(outboxEventJpaRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,250 @@
+package com.loopers.application.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.infrastructure.outbox.OutboxEventJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "outbox.relay.enabled=true",
+    // 테스트에서 직접 relay() 를 호출하도록, 스케줄러는 기동 시 한 번만 실행되게 한다.
+    "outbox.relay.fixed-delay=1h",
+    "outbox.relay.max-attempts=2",
+})
+class OutboxRelayIntegrationTest {
+    private static final String TOPIC = "example.internal.topic-v1";
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @MockitoBean
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("발행에 성공한 이벤트는 발행 완료로 표시된다.")
+    @Test
+    void marksPublished_whenSendSucceeds() {
+        // arrange
+        OutboxEvent first = outboxEventJpaRepository.save(outboxEvent("1"));
+        OutboxEvent second = outboxEventJpaRepository.save(outboxEvent("2"));
+        when(kafkaTemplate.send(eq(TOPIC), any(), any())).thenReturn(sent());
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        assertAll(
+            () -> assertThat(outboxEventJpaRepository.findById(first.getId()).orElseThrow().getPublishedAt()).isNotNull(),
+            () -> assertThat(outboxEventJpaRepository.findById(second.getId()).orElseThrow().getPublishedAt()).isNotNull()
+        );
+    }
+
+    @DisplayName("발행에 실패한 이벤트는 실패 횟수를 늘리고, retryBackoff 뒤에 재발행되도록 남겨둔다.")
+    @Test
+    void keepsUnpublished_whenSendFails() {
+        // arrange
+        OutboxEvent succeeded = outboxEventJpaRepository.save(outboxEvent("1"));
+        OutboxEvent failed = outboxEventJpaRepository.save(outboxEvent("2"));
+        when(kafkaTemplate.send(eq(TOPIC), eq("1"), any())).thenReturn(sent());
+        when(kafkaTemplate.send(eq(TOPIC), eq("2"), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        OutboxEvent result = outboxEventJpaRepository.findById(failed.getId()).orElseThrow();
+        assertAll(
+            () -> assertThat(outboxEventJpaRepository.findById(succeeded.getId()).orElseThrow().getPublishedAt()).isNotNull(),
+            () -> assertThat(result.getPublishedAt()).isNull(),
+            () -> assertThat(result.getFailedAttempts()).isEqualTo(1),
+            () -> assertThat(result.getClaimedUntil()).isAfter(ZonedDateTime.now()),
+            () -> assertThat(result.getParkedAt()).isNull()
+        );
+    }
+
+    @DisplayName("send 가 예외를 던진 이벤트만 실패로 처리하고, 나머지 이벤트는 발행한다.")
+    @Test
+    void failsOnlyThatEvent_whenSendThrows() {
+        // arrange
+        OutboxEvent failed = outboxEventJpaRepository.save(outboxEvent("1"));
+        OutboxEvent succeeded = outboxEventJpaRepository.save(outboxEvent("2"));
+        when(kafkaTemplate.send(eq(TOPIC), eq("1"), any())).thenThrow(new IllegalStateException("metadata not available"));
+        when(kafkaTemplate.send(eq(TOPIC), eq("2"), any())).thenReturn(sent());
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        OutboxEvent result = outboxEventJpaRepository.findById(failed.getId()).orElseThrow();
+        assertAll(
+            () -> assertThat(outboxEventJpaRepository.findById(succeeded.getId()).orElseThrow().getPublishedAt()).isNotNull(),
+            () -> assertThat(result.getPublishedAt()).isNull(),
+            () -> assertThat(result.getFailedAttempts()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("payload 가 올바른 JSON 이 아닌 이벤트는 보내지 않고 보류하며, 나머지 이벤트는 발행한다.")
+    @Test
+    void parksEvent_whenPayloadIsInvalid() {
+        // arrange
+        OutboxEvent poison = outboxEventJpaRepository.save(
+            new OutboxEvent(UUID.randomUUID().toString(), "example", "1", "UPDATED", TOPIC, "{invalid")
+        );
+        OutboxEvent succeeded = outboxEventJpaRepository.save(outboxEvent("2"));
+        when(kafkaTemplate.send(eq(TOPIC), any(), any())).thenReturn(sent());
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        OutboxEvent result = outboxEventJpaRepository.findById(poison.getId()).orElseThrow();
+        assertAll(
+            () -> verify(kafkaTemplate, never()).send(eq(TOPIC), eq("1"), any()),
+            () -> assertThat(result.getParkedAt()).isNotNull(),
+            () -> assertThat(result.getPublishedAt()).isNull(),
+            () -> assertThat(outboxEventJpaRepository.findById(succeeded.getId()).orElseThrow().getPublishedAt()).isNotNull()
+        );
+    }
+
+    @DisplayName("maxAttempts 번 발행에 실패한 이벤트는 보류하고, 더 이상 가져가지 않는다.")
+    @Test
+    void parksEvent_whenAttemptsAreExhausted() {
+        // arrange
+        OutboxEvent event = outboxEventJpaRepository.save(outboxEvent("1"));
+        when(kafkaTemplate.send(eq(TOPIC), any(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        outboxRelay.relay();
+        claim(event, ZonedDateTime.now().minusSeconds(1)); // retryBackoff 를 기다리지 않는다
+
+        // act
+        outboxRelay.relay();
+        claim(event, ZonedDateTime.now().minusSeconds(1)); // retryBackoff 를 기다리지 않는다
+        outboxRelay.relay();
+
+        // assert
+        OutboxEvent result = outboxEventJpaRepository.findById(event.getId()).orElseThrow();
+        assertAll(
+            () -> verify(kafkaTemplate, times(2)).send(eq(TOPIC), eq("1"), any()),
+            () -> assertThat(result.getFailedAttempts()).isEqualTo(2),
+            () -> assertThat(result.getParkedAt()).isNotNull(),
+            () -> assertThat(result.getPublishedAt()).isNull()
+        );
+    }
+
+    @DisplayName("브로커 ack 를 기다리는 동안, 발행 중인 이벤트의 row lock 을 잡고 있지 않는다.")
+    @Test
+    void holdsNoRowLock_whileWaitingForAck() {
+        // arrange
+        OutboxEvent event = outboxEventJpaRepository.save(outboxEvent("1"));
+        List<Long> lockedDuringSend = new ArrayList<>();
+        when(kafkaTemplate.send(eq(TOPIC), any(), any())).thenAnswer(invocation -> {
+            // 다른 트랜잭션에서 기다리지 않고 lock 을 잡을 수 있어야 한다. (잡혀 있으면 NOWAIT 가 예외를 던진다)
+            lockedDuringSend.addAll(CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                jdbcTemplate.queryForList("SELECT id FROM outbox_event WHERE id = ? FOR UPDATE NOWAIT", Long.class, event.getId())
+            )).join());
+            return sent();
+        });
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        assertAll(
+            () -> assertThat(lockedDuringSend).containsExactly(event.getId()),
+            () -> assertThat(outboxEventJpaRepository.findById(event.getId()).orElseThrow().getPublishedAt()).isNotNull()
+        );
+    }
+
+    @DisplayName("다른 relay 가 가져가 claim 이 남아 있는 이벤트는, 발행하지 않는다.")
+    @Test
+    void skipsClaimedEvents_untilClaimExpires() {
+        // arrange
+        OutboxEvent claimed = outboxEventJpaRepository.save(outboxEvent("1"));
+        OutboxEvent expired = outboxEventJpaRepository.save(outboxEvent("2"));
+        claim(claimed, ZonedDateTime.now().plusMinutes(1));
+        claim(expired, ZonedDateTime.now().minusSeconds(1));
+        when(kafkaTemplate.send(eq(TOPIC), any(), any())).thenReturn(sent());
+
+        // act
+        outboxRelay.relay();
+
+        // assert
+        assertAll(
+            () -> verify(kafkaTemplate, never()).send(eq(TOPIC), eq("1"), any()),
+            () -> assertThat(outboxEventJpaRepository.findById(claimed.getId()).orElseThrow().getPublishedAt()).isNull(),
+            () -> assertThat(outboxEventJpaRepository.findById(expired.getId()).orElseThrow().getPublishedAt()).isNotNull()
+        );
+    }
+
+    private void claim(OutboxEvent event, ZonedDateTime claimedUntil) {
+        transactionTemplate.executeWithoutResult(status -> outboxEventJpaRepository.claim(List.of(event.getId()), claimedUntil));
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> sent() {
+        return CompletableFuture.completedFuture(new SendResult<>(null, null));
+    }
+
+    private OutboxEvent outboxEvent(String aggregateId) {
+        String eventId = UUID.randomUUID().toString();
+        return new OutboxEvent(
+            eventId,
+            "example",
+            aggregateId,
+            "UPDATED",
+            TOPIC,
+            "{\"eventId\":\"" + eventId + "\",\"exampleId\":" + aggregateId + "}"
+        );
+    }
+}
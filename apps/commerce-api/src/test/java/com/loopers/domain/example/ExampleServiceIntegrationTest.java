@@ -3,13 +3,20 @@ package com.loopers.domain.example;
 import com.loopers.infrastructure.example.ExampleJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import com.loopers.support.softdelete.SoftDeleteFilter;
 import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -23,9 +30,21 @@ class ExampleServiceIntegrationTest {
     @Autowired
     private ExampleJpaRepository exampleJpaRepository;
 
+    @Autowired
+    private SoftDeleteFilter softDeleteFilter;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ExampleRepository exampleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
@@ -69,4 +88,152 @@ class ExampleServiceIntegrationTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         }
     }
+
+    @DisplayName("예시를 수정할 때,")
+    @Nested
+    class Update {
+        @DisplayName("존재하는 예시 ID와 새 설명을 주면, 설명이 변경된다.")
+        @Test
+        void updatesDescription_whenValidIdIsProvided() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+
+            // act
+            exampleService.update(exampleModel.getId(), "변경된 설명");
+
+            // assert
+            ExampleModel result = exampleJpaRepository.findById(exampleModel.getId()).orElseThrow();
+            assertThat(result.getDescription()).isEqualTo("변경된 설명");
+        }
+
+        @DisplayName("존재하지 않는 예시 ID를 주면, NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsException_whenInvalidIdIsProvided() {
+            // arrange
+            Long invalidId = 999L;
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                exampleService.update(invalidId, "변경된 설명");
+            });
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+
+    @DisplayName("예시를 삭제할 때,")
+    @Nested
+    class Delete {
+        @DisplayName("존재하는 예시 ID를 주면, 삭제 일시가 기록된다.")
+        @Test
+        void marksDeletedAt_whenValidIdIsProvided() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+
+            // act
+            exampleService.delete(exampleModel.getId());
+
+            // assert
+            ExampleModel result = softDeleteFilter.includingDeleted(
+                () -> exampleJpaRepository.findById(exampleModel.getId())
+            ).orElseThrow();
+            assertThat(result.getDeletedAt()).isNotNull();
+        }
+
+        @DisplayName("삭제된 예시는 조회되지 않는다.")
+        @Test
+        void throwsNotFound_whenExampleIsDeleted() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+            exampleService.delete(exampleModel.getId());
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> {
+                exampleService.getExample(exampleModel.getId());
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND),
+                () -> assertThat(exampleJpaRepository.findById(exampleModel.getId())).isEmpty()
+            );
+        }
+    }
+
+    @DisplayName("삭제된 예시가 이미 읽힌 상태일 때,")
+    @Nested
+    class LoadedDeleted {
+        @DisplayName("예시는 2차 캐시에 저장되지 않는다. (TwoTierCache 로 캐시한다)")
+        @Test
+        void doesNotCacheExample_inSecondLevelCache() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+
+            // act
+            exampleService.getExample(exampleModel.getId());
+
+            // assert
+            assertThat(entityManagerFactory.getCache().contains(ExampleModel.class, exampleModel.getId())).isFalse();
+        }
+
+        @DisplayName("soft delete 필터 없이 응답되는 경우(같은 영속성 컨텍스트)에도, 삭제된 예시는 조회되지 않는다.")
+        @Test
+        void doesNotReturnDeletedExample_whenAlreadyLoadedInSession() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(
+                new ExampleModel("예시 제목", "예시 설명")
+            );
+
+            // act
+            Optional<ExampleModel> result = new TransactionTemplate(transactionManager).execute(status -> {
+                exampleService.delete(exampleModel.getId());
+                return exampleRepository.find(exampleModel.getId());
+            });
+
+            // assert
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @DisplayName("예시를 한 번에 등록할 때,")
+    @Nested
+    class CreateAll {
+        @DisplayName("생성된 ID 를 요청 순서대로 반환하고, 생성/수정 시각을 채워서 저장한다.")
+        @Test
+        void returnsGeneratedIdsInOrder_andFillsTimestamps() {
+            // arrange
+            List<ExampleModel> examples = List.of(
+                new ExampleModel("예시 제목1", "예시 설명1"),
+                new ExampleModel("예시 제목2", "예시 설명2"),
+                new ExampleModel("예시 제목3", "예시 설명3")
+            );
+
+            // act
+            List<Long> ids = exampleService.createAll(examples);
+
+            // assert
+            List<ExampleModel> saved = ids.stream()
+                .map(id -> exampleJpaRepository.findById(id).orElseThrow())
+                .toList();
+            assertAll(
+                () -> assertThat(ids).hasSize(3).doesNotHaveDuplicates(),
+                () -> assertThat(saved).extracting(ExampleModel::getName)
+                    .containsExactly("예시 제목1", "예시 제목2", "예시 제목3"),
+                () -> assertThat(saved).allSatisfy(example -> {
+                    assertThat(example.getCreatedAt()).isNotNull();
+                    assertThat(example.getUpdatedAt()).isEqualTo(example.getCreatedAt());
+                    assertThat(example.getDeletedAt()).isNull();
+                })
+            );
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package com.loopers.interfaces.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiResponseSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+    // 전용 serializer 를 끄고 record 를 reflection 으로 직렬화한다.
+    private final ObjectMapper reflectiveObjectMapper = new ObjectMapper()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .addMixIn(ApiResponse.class, ReflectiveApiResponse.class);
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface ReflectiveApiResponse {
+    }
+
+    record Item(Long id, String name, String description) {
+    }
+
+    @DisplayName("ApiResponse 를 직렬화할 때, ")
+    @Nested
+    class Serialize {
+        @DisplayName("성공 응답이면, 미리 인코딩한 meta 와 data 를 쓴다.")
+        @Test
+        void writesSuccessMetaAndData_whenResponseIsSuccess() throws Exception {
+            // arrange
+            ApiResponse<Item> response = ApiResponse.success(new Item(1L, "제목", null));
+
+            // act
+            String json = objectMapper.writeValueAsString(response);
+
+            // assert
+            assertThat(json).isEqualTo("{\"meta\":{\"result\":\"SUCCESS\"},\"data\":{\"id\":1,\"name\":\"제목\"}}");
+        }
+
+        @DisplayName("data 가 없으면, data 필드를 쓰지 않는다.")
+        @Test
+        void omitsData_whenDataIsNull() throws Exception {
+            // act
+            String json = objectMapper.writeValueAsString(ApiResponse.success());
+
+            // assert
+            assertThat(json).isEqualTo("{\"meta\":{\"result\":\"SUCCESS\"}}");
+        }
+
+        @DisplayName("실패 응답이면, 메시지를 이스케이프해서 쓴다.")
+        @Test
+        void escapesMessage_whenResponseIsFail() throws Exception {
+            // arrange
+            ApiResponse<Object> response = ApiResponse.fail("Bad Request", "\"name\" 은 비어있을 수 없습니다.");
+
+            // act
+            String json = objectMapper.writeValueAsString(response);
+
+            // assert
+            assertThat(json).isEqualTo(
+                "{\"meta\":{\"result\":\"FAIL\",\"errorCode\":\"Bad Request\",\"message\":\"\\\"name\\\" 은 비어있을 수 없습니다.\"}}"
+            );
+        }
+
+        @DisplayName("어떤 응답이든, reflection 직렬화 결과와 같다.")
+        @Test
+        void matchesReflectiveSerialization() throws Exception {
+            // arrange
+            List<ApiResponse<?>> responses = List.of(
+                ApiResponse.success(),
+                ApiResponse.success(new Item(1L, "제목", "설명")),
+                ApiResponse.success(List.of(new Item(1L, "a", "b"), new Item(2L, "c", null))),
+                ApiResponse.success("문자열"),
+                ApiResponse.fail("Not Found", "찾을 수 없습니다."),
+                ApiResponse.fail("Internal Server Error", null),
+                new ApiResponse<>(new ApiResponse.Metadata(ApiResponse.Metadata.Result.SUCCESS, null, null), 1)
+            );
+
+            // act & assert
+            for (ApiResponse<?> response : responses) {
+                assertThat(objectMapper.writeValueAsString(response))
+                    .isEqualTo(reflectiveObjectMapper.writeValueAsString(response));
+            }
+        }
+
+        @DisplayName("직렬화한 응답을 다시 읽으면, 원래 응답과 같다.")
+        @Test
+        void roundTrips() throws Exception {
+            // arrange
+            ApiResponse<Object> response = ApiResponse.fail("Not Found", "찾을 수 없습니다.");
+
+            // act
+            ApiResponse<?> read = objectMapper.readValue(objectMapper.writeValueAsString(response), ApiResponse.class);
+
+            // assert
+            assertThat(read).isEqualTo(response);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.loopers.interfaces.api;
 import com.loopers.domain.example.ExampleModel;
 import com.loopers.infrastructure.example.ExampleJpaRepository;
 import com.loopers.interfaces.api.example.ExampleV1Dto;
+import com.loopers.support.export.StreamingQuery;
+import com.loopers.support.export.StreamingQueryExecutor;
 import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,11 +16,22 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -27,25 +41,36 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class ExampleV1ApiE2ETest {
 
     private static final Function<Long, String> ENDPOINT_GET = id -> "/api/v1/examples/" + id;
+    private static final Function<String, String> ENDPOINT_GET_ALL = ids -> "/api/v1/examples?ids=" + ids;
+    private static final BiFunction<String, Integer, String> ENDPOINT_GET_PAGE = (cursor, size) ->
+        "/api/v1/examples?size=" + size + (cursor != null ? "&cursor=" + cursor : "");
+    private static final Function<String, String> ENDPOINT_EXPORT = format -> "/api/v1/examples/export?format=" + format;
 
     private final TestRestTemplate testRestTemplate;
     private final ExampleJpaRepository exampleJpaRepository;
+    private final StreamingQueryExecutor streamingQueryExecutor;
     private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
 
     @Autowired
     public ExampleV1ApiE2ETest(
         TestRestTemplate testRestTemplate,
         ExampleJpaRepository exampleJpaRepository,
-        DatabaseCleanUp databaseCleanUp
+        StreamingQueryExecutor streamingQueryExecutor,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
     ) {
         this.testRestTemplate = testRestTemplate;
         this.exampleJpaRepository = exampleJpaRepository;
+        this.streamingQueryExecutor = streamingQueryExecutor;
         this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
     }
 
     @AfterEach
     void tearDown() {
         databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
     }
 
     @DisplayName("GET /api/v1/examples/{id}")
@@ -111,4 +136,225 @@ class ExampleV1ApiE2ETest {
             );
         }
     }
+
+    @DisplayName("GET /api/v1/examples?ids=")
+    @Nested
+    class GetAll {
+        @DisplayName("여러 예시 ID를 주면, 요청한 순서대로 예시 정보를 반환하고 존재하지 않는 ID는 따로 반환한다.")
+        @Test
+        void returnsExamplesInRequestOrder_whenIdsAreProvided() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel second = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+            Long invalidId = -1L;
+            String requestUrl = ENDPOINT_GET_ALL.apply(second.getId() + "," + invalidId + "," + first.getId());
+
+            // act
+            ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExamplesResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplesResponse>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getBody().data().examples())
+                    .extracting(ExampleV1Dto.ExampleResponse::id)
+                    .containsExactly(second.getId(), first.getId()),
+                () -> assertThat(response.getBody().data().missingIds()).containsExactly(invalidId)
+            );
+        }
+
+        @DisplayName("최대 개수를 초과한 ID를 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenTooManyIdsAreProvided() {
+            // arrange
+            String ids = LongStream.rangeClosed(1, 101)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+            String requestUrl = ENDPOINT_GET_ALL.apply(ids);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExamplesResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExamplesResponse>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/examples?cursor=&size=")
+    @Nested
+    class GetPage {
+        @DisplayName("커서를 따라 조회하면, 삭제되지 않은 예시를 최신순으로 중복 없이 모두 반환한다.")
+        @Test
+        void returnsAllExamplesLatestFirst_whenFollowingNextCursor() {
+            // arrange
+            List<ExampleModel> saved = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                saved.add(exampleJpaRepository.save(new ExampleModel("예시 제목" + i, "예시 설명" + i)));
+            }
+            ExampleModel deleted = saved.get(2);
+            deleted.delete();
+            exampleJpaRepository.save(deleted);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>>> responseType = new ParameterizedTypeReference<>() {};
+            List<Long> ids = new ArrayList<>();
+            List<Boolean> hasNexts = new ArrayList<>();
+            String cursor = null;
+            do {
+                ResponseEntity<ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>>> response =
+                    testRestTemplate.exchange(ENDPOINT_GET_PAGE.apply(cursor, 2), HttpMethod.GET, new HttpEntity<>(null), responseType);
+                assertTrue(response.getStatusCode().is2xxSuccessful());
+                CursorPageResponse<ExampleV1Dto.ExampleResponse> page = response.getBody().data();
+                page.content().forEach(example -> ids.add(example.id()));
+                hasNexts.add(page.hasNext());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            // assert
+            assertAll(
+                () -> assertThat(ids).containsExactly(
+                    saved.get(4).getId(), saved.get(3).getId(), saved.get(1).getId(), saved.get(0).getId()
+                ),
+                () -> assertThat(hasNexts).containsExactly(true, false)
+            );
+        }
+
+        @DisplayName("해석할 수 없는 커서를 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenCursorIsInvalid() {
+            // arrange
+            String requestUrl = ENDPOINT_GET_PAGE.apply("invalid-cursor", 20);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @DisplayName("최대 크기를 초과한 페이지를 요청하면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenSizeIsTooLarge() {
+            // arrange
+            String requestUrl = ENDPOINT_GET_PAGE.apply(null, 101);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<CursorPageResponse<ExampleV1Dto.ExampleResponse>>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("GET /api/v1/examples/export?format=")
+    @Nested
+    class Export {
+        @DisplayName("NDJSON 으로 내보내면, 삭제되지 않은 예시를 id 순서로 한 줄에 하나씩 gzip 으로 압축해 내려준다.")
+        @Test
+        void returnsGzippedNdjson_whenFormatIsNdjson() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            ExampleModel deleted = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+            deleted.delete();
+            exampleJpaRepository.save(deleted);
+            ExampleModel third = exampleJpaRepository.save(new ExampleModel("예시 제목3", "예시 설명3"));
+
+            // act
+            ResponseEntity<byte[]> response =
+                testRestTemplate.exchange(ENDPOINT_EXPORT.apply("NDJSON"), HttpMethod.GET, new HttpEntity<>(null), byte[].class);
+
+            // assert
+            List<String> lines = gunzip(response.getBody()).lines().toList();
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains(".ndjson.gz"),
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines.get(0)).contains("\"id\":" + first.getId(), "\"name\":\"예시 제목1\""),
+                () -> assertThat(lines.get(1)).contains("\"id\":" + third.getId(), "\"name\":\"예시 제목3\"")
+            );
+        }
+
+        @DisplayName("CSV 로 내보내면, 헤더 다음 줄부터 예시를 id 순서로 내려주고 쉼표 / 따옴표가 있는 값은 따옴표로 감싼다.")
+        @Test
+        void returnsGzippedCsv_whenFormatIsCsv() {
+            // arrange
+            ExampleModel first = exampleJpaRepository.save(new ExampleModel("예시 제목1", "설명, \"인용\""));
+            ExampleModel second = exampleJpaRepository.save(new ExampleModel("예시 제목2", "예시 설명2"));
+
+            // act
+            ResponseEntity<byte[]> response =
+                testRestTemplate.exchange(ENDPOINT_EXPORT.apply("CSV"), HttpMethod.GET, new HttpEntity<>(null), byte[].class);
+
+            // assert
+            List<String> lines = gunzip(response.getBody()).lines().toList();
+            assertAll(
+                () -> assertTrue(response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains(".csv.gz"),
+                () -> assertThat(lines).hasSize(3),
+                () -> assertThat(lines.get(0)).isEqualTo("id,name,description,createdAt,updatedAt"),
+                () -> assertThat(lines.get(1)).startsWith(first.getId() + ",예시 제목1,\"설명, \"\"인용\"\"\","),
+                () -> assertThat(lines.get(2)).startsWith(second.getId() + ",예시 제목2,예시 설명2,")
+            );
+        }
+
+        @DisplayName("지원하지 않는 형식을 주면, 400 BAD_REQUEST 응답을 받는다.")
+        @Test
+        void throwsBadRequest_whenFormatIsNotSupported() {
+            // arrange
+            String requestUrl = ENDPOINT_EXPORT.apply("XML");
+
+            // act
+            ParameterizedTypeReference<ApiResponse<Object>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<Object>> response =
+                testRestTemplate.exchange(requestUrl, HttpMethod.GET, new HttpEntity<>(null), responseType);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @DisplayName("진행 중인 export 가 export pool 크기만큼 있으면, 429 TOO_MANY_REQUESTS 응답을 받고 끝나면 다시 내보낸다.")
+        @Test
+        void throwsTooManyRequests_whenExportPoolIsExhausted() {
+            // arrange
+            exampleJpaRepository.save(new ExampleModel("예시 제목1", "예시 설명1"));
+            List<StreamingQuery<Object>> running = new ArrayList<>();
+            for (int i = 0; i < streamingQueryExecutor.getMaxConcurrency(); i++) {
+                running.add(streamingQueryExecutor.open("SELECT 1", (rs, rowNum) -> rs.getObject(1)));
+            }
+
+            // act
+            ParameterizedTypeReference<ApiResponse<Object>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<Object>> rejected;
+            try {
+                rejected = testRestTemplate.exchange(ENDPOINT_EXPORT.apply("NDJSON"), HttpMethod.GET, new HttpEntity<>(null), responseType);
+            } finally {
+                running.forEach(StreamingQuery::close);
+            }
+            ResponseEntity<byte[]> accepted =
+                testRestTemplate.exchange(ENDPOINT_EXPORT.apply("NDJSON"), HttpMethod.GET, new HttpEntity<>(null), byte[].class);
+
+            // assert
+            assertAll(
+                () -> assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+                () -> assertThat(rejected.getBody().meta().result()).isEqualTo(ApiResponse.Metadata.Result.FAIL),
+                () -> assertTrue(accepted.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(gunzip(accepted.getBody()).lines()).hasSize(1)
+            );
+        }
+
+        private String gunzip(byte[] body) {
+            try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
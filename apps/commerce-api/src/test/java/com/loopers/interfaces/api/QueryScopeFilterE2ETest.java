@@ -0,0 +1,81 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class QueryScopeFilterE2ETest {
+
+    private final TestRestTemplate testRestTemplate;
+    private final ExampleJpaRepository exampleJpaRepository;
+    private final MeterRegistry meterRegistry;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public QueryScopeFilterE2ETest(
+        TestRestTemplate testRestTemplate,
+        ExampleJpaRepository exampleJpaRepository,
+        MeterRegistry meterRegistry,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.exampleJpaRepository = exampleJpaRepository;
+        this.meterRegistry = meterRegistry;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("요청을 처리하면, 실행한 statement 가 요청 단위와 정규화한 SQL 단위로 기록된다.")
+    @Test
+    void recordsStatementsPerRequest_whenRequestRunsQueries() {
+        // arrange
+        ExampleModel exampleModel = exampleJpaRepository.save(
+            new ExampleModel("예시 제목", "예시 설명")
+        );
+        long requestsBefore = requestScopeCount();
+
+        // act
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/api/v1/examples/" + exampleModel.getId(), String.class);
+
+        // assert
+        Collection<Timer> selects = meterRegistry.find("jdbc.statements").tag("operation", "select").timers();
+        assertAll(
+            () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+            () -> assertThat(requestScopeCount()).isGreaterThan(requestsBefore),
+            () -> assertThat(selects).anySatisfy(timer ->
+                assertThat(timer.getId().getTag("sql")).contains("from example")
+            )
+        );
+    }
+
+    private long requestScopeCount() {
+        DistributionSummary summary = meterRegistry.find("jdbc.statements.per.scope").tag("scope", "request").summary();
+        return summary != null ? summary.count() : 0;
+    }
+}
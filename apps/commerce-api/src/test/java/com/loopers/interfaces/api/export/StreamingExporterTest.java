@@ -0,0 +1,116 @@
+package com.loopers.interfaces.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.export.StreamingQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 컨트롤러가 반환한 WebAsyncTask 를 처리하는 것처럼 WebAsyncManager 로 본문을 실행하고, 비동기 처리가 끝났을 때 조회가 닫히는지 확인한다.
+ */
+class StreamingExporterTest {
+    private static final List<ExportColumn<String>> COLUMNS = List.of(ExportColumn.of("value", value -> value));
+    private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @SuppressWarnings("unchecked")
+    private final StreamingQuery<String> query = mock(StreamingQuery.class);
+
+    @BeforeEach
+    void setUp() {
+        request.setAsyncSupported(true);
+    }
+
+    @DisplayName("export 전용 executor 와 timeout 으로 본문을 실행한다.")
+    @Test
+    void runsBodyWithExportExecutorAndTimeout() {
+        // arrange
+        AsyncTaskExecutor executor = new TaskExecutorAdapter(new SyncTaskExecutor());
+
+        // act
+        WebAsyncTask<Void> task = exporter(executor).export("examples", ExportFormat.NDJSON, COLUMNS, query, response);
+
+        // assert
+        assertAll(
+            () -> assertThat(task.getExecutor()).isSameAs(executor),
+            () -> assertThat(task.getTimeout()).isEqualTo(TIMEOUT.toMillis())
+        );
+    }
+
+    @DisplayName("export executor 가 본문 작업을 거절하면, 비동기 처리가 끝날 때 조회를 닫는다.")
+    @Test
+    void closesQuery_whenBodyIsNeverRun() throws Exception {
+        // arrange
+        WebAsyncTask<Void> task = exporter(new TaskExecutorAdapter(runnable -> {
+            throw new TaskRejectedException("export executor is full");
+        })).export("examples", ExportFormat.NDJSON, COLUMNS, query, response);
+
+        // act
+        start(task);
+        request.getAsyncContext().complete();
+
+        // assert
+        assertAll(
+            () -> verify(query, never()).forEach(any()),
+            () -> verify(query).close(),
+            () -> assertThat(response.getContentType()).isNull()
+        );
+    }
+
+    @DisplayName("본문이 실행되면, gzip 파일을 응답에 쓰고 본문이 조회를 한 번만 닫는다.")
+    @Test
+    void closesQueryOnce_whenBodyIsRun() throws Exception {
+        // arrange
+        when(query.forEach(any())).thenReturn(0L);
+        WebAsyncTask<Void> task = exporter(new TaskExecutorAdapter(new SyncTaskExecutor()))
+            .export("examples", ExportFormat.NDJSON, COLUMNS, query, response);
+
+        // act
+        start(task);
+        request.getAsyncContext().complete();
+
+        // assert
+        assertAll(
+            () -> verify(query).forEach(any()),
+            () -> verify(query, times(1)).close(),
+            () -> assertThat(response.getContentType()).isEqualTo("application/gzip"),
+            () -> assertThat(response.getHeader("Content-Disposition")).contains(".ndjson.gz"),
+            () -> assertThat(response.getContentAsByteArray()).isNotEmpty()
+        );
+    }
+
+    private StreamingExporter exporter(AsyncTaskExecutor executor) {
+        return new StreamingExporter(new ObjectMapper(), executor, TIMEOUT);
+    }
+
+    private void start(WebAsyncTask<Void> task) throws Exception {
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.startCallableProcessing(task);
+    }
+}
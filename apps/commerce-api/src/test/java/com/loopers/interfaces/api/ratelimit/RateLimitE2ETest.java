@@ -0,0 +1,152 @@
+package com.loopers.interfaces.api.ratelimit;
+
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "rate-limit.enabled=true",
+        "rate-limit.policies[0].name=test-client-ip",
+        "rate-limit.policies[0].key=client_ip",
+        "rate-limit.policies[0].paths=/api/v1/examples/**",
+        "rate-limit.policies[0].algorithm=token_bucket",
+        "rate-limit.policies[0].limit=3",
+        "rate-limit.policies[0].period=1m",
+        "rate-limit.policies[1].name=test-api-key",
+        "rate-limit.policies[1].key=api_key",
+        "rate-limit.policies[1].paths=/api/v1/examples/**",
+        "rate-limit.policies[1].algorithm=sliding_window",
+        "rate-limit.policies[1].limit=1",
+        "rate-limit.policies[1].period=1m",
+    }
+)
+class RateLimitE2ETest {
+
+    private final TestRestTemplate testRestTemplate;
+    private final ExampleJpaRepository exampleJpaRepository;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public RateLimitE2ETest(
+        TestRestTemplate testRestTemplate,
+        ExampleJpaRepository exampleJpaRepository,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.exampleJpaRepository = exampleJpaRepository;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private ResponseEntity<ApiResponse<ExampleV1Dto.ExampleResponse>> get(Long id, HttpHeaders headers) {
+        ParameterizedTypeReference<ApiResponse<ExampleV1Dto.ExampleResponse>> responseType = new ParameterizedTypeReference<>() {};
+        return testRestTemplate.exchange("/api/v1/examples/" + id, HttpMethod.GET, new HttpEntity<>(headers), responseType);
+    }
+
+    @DisplayName("허용량이 설정된 API 를 호출할 때, ")
+    @Nested
+    class Limit {
+        @DisplayName("클라이언트의 허용량을 넘으면, 429 TOO_MANY_REQUESTS 와 Retry-After 를 응답한다.")
+        @Test
+        void returnsTooManyRequests_whenClientExceedsLimit() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+
+            // act
+            List<ResponseEntity<ApiResponse<ExampleV1Dto.ExampleResponse>>> responses = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                responses.add(get(exampleModel.getId(), new HttpHeaders()));
+            }
+
+            // assert
+            ResponseEntity<ApiResponse<ExampleV1Dto.ExampleResponse>> rejected = responses.get(3);
+            assertAll(
+                () -> assertThat(responses.subList(0, 3)).allMatch(response -> response.getStatusCode().is2xxSuccessful()),
+                () -> assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+                () -> assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank(),
+                () -> assertThat(rejected.getBody().meta().result()).isEqualTo(ApiResponse.Metadata.Result.FAIL),
+                () -> assertThat(rejected.getBody().meta().errorCode()).isEqualTo(ErrorType.TOO_MANY_REQUESTS.getCode())
+            );
+        }
+
+        @DisplayName("프록시를 거친 요청은, X-Forwarded-For 의 클라이언트 IP 별로 허용량을 나눈다.")
+        @Test
+        void limitsEachForwardedClientSeparately() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            HttpHeaders first = new HttpHeaders();
+            first.set("X-Forwarded-For", "203.0.113.1");
+            HttpHeaders second = new HttpHeaders();
+            second.set("X-Forwarded-For", "203.0.113.2");
+
+            // act
+            List<HttpStatus> firstStatuses = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                firstStatuses.add(HttpStatus.valueOf(get(exampleModel.getId(), first).getStatusCode().value()));
+            }
+            HttpStatus secondStatus = HttpStatus.valueOf(get(exampleModel.getId(), second).getStatusCode().value());
+
+            // assert
+            assertAll(
+                () -> assertThat(firstStatuses).containsExactly(HttpStatus.OK, HttpStatus.OK, HttpStatus.OK, HttpStatus.TOO_MANY_REQUESTS),
+                () -> assertThat(secondStatus).isEqualTo(HttpStatus.OK)
+            );
+        }
+
+        @DisplayName("API key 의 허용량을 넘으면, 다른 API key 의 요청은 계속 허용된다.")
+        @Test
+        void limitsEachApiKeySeparately() {
+            // arrange
+            ExampleModel exampleModel = exampleJpaRepository.save(new ExampleModel("예시 제목", "예시 설명"));
+            HttpHeaders first = new HttpHeaders();
+            first.set(RateLimitFilter.API_KEY_HEADER, "first-key");
+            HttpHeaders second = new HttpHeaders();
+            second.set(RateLimitFilter.API_KEY_HEADER, "second-key");
+
+            // act
+            HttpStatus firstAllowed = HttpStatus.valueOf(get(exampleModel.getId(), first).getStatusCode().value());
+            HttpStatus firstRejected = HttpStatus.valueOf(get(exampleModel.getId(), first).getStatusCode().value());
+            HttpStatus secondAllowed = HttpStatus.valueOf(get(exampleModel.getId(), second).getStatusCode().value());
+
+            // assert
+            assertAll(
+                () -> assertThat(firstAllowed).isEqualTo(HttpStatus.OK),
+                () -> assertThat(firstRejected).isEqualTo(HttpStatus.TOO_MANY_REQUESTS),
+                () -> assertThat(secondAllowed).isEqualTo(HttpStatus.OK)
+            );
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.batch.async;
+
+import com.loopers.batch.listener.StepStageTimings;
+import com.loopers.batch.throttle.AdaptiveThrottle;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * delegate processor 를 TaskExecutor 에서 실행하고 결과를 Future 로 넘긴다. {@link AsyncItemWriter} 와 함께 사용한다.
+ * (spring-batch-integration 의 AsyncItemProcessor 와 같은 방식)
+ * 동시에 처리 중인 item 수는 {@link AdaptiveThrottle} 로 제한하므로, 한도에 닿으면 chunk 스레드(reader)도 함께 멈춘다. (backpressure)
+ * worker 스레드에도 step 을 등록하므로 delegate 에서 @StepScope bean 을 사용할 수 있다.
+ */
+public class AsyncItemProcessor<I, O> implements ItemProcessor<I, Future<O>> {
+    private final ItemProcessor<I, O> delegate;
+    private final TaskExecutor taskExecutor;
+    private final AdaptiveThrottle throttle;
+    private final StepStageTimings stepStageTimings;
+
+    public AsyncItemProcessor(
+        ItemProcessor<I, O> delegate,
+        TaskExecutor taskExecutor,
+        AdaptiveThrottle throttle,
+        StepStageTimings stepStageTimings
+    ) {
+        this.delegate = delegate;
+        this.taskExecutor = taskExecutor;
+        this.throttle = throttle;
+        this.stepStageTimings = stepStageTimings;
+    }
+
+    @Override
+    public Future<O> process(I item) throws Exception {
+        StepExecution stepExecution = currentStepExecution();
+        long waitStartedAt = System.nanoTime();
+        throttle.acquire();
+        stepStageTimings.record(stepExecution, StepStageTimings.Stage.THROTTLE, System.nanoTime() - waitStartedAt);
+
+        FutureTask<O> task = new FutureTask<>(() -> {
+            if (stepExecution != null) {
+                StepSynchronizationManager.register(stepExecution);
+            }
+            long startedAt = System.nanoTime();
+            try {
+                return delegate.process(item);
+            } finally {
+                throttle.release();
+                stepStageTimings.record(stepExecution, StepStageTimings.Stage.PROCESS, System.nanoTime() - startedAt);
+                if (stepExecution != null) {
+                    StepSynchronizationManager.close();
+                }
+            }
+        });
+        try {
+            taskExecutor.execute(task);
+        } catch (RuntimeException e) {
+            throttle.release();
+            throw e;
+        }
+        return task;
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepExecution() : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.loopers.batch.async;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link AsyncItemProcessor} 가 넘긴 Future 의 결과를 모두 기다린 뒤, 한 chunk 로 delegate writer 에 쓴다.
+ * 결과가 null 인 item(필터된 item)은 쓰지 않는다. 다만 Future 는 null 이 아니므로 step 의 filterCount 에는 잡히지 않는다.
+ * 처리 중 발생한 예외는 그대로 던지므로 skip / retry 설정이 동기 처리와 같게 동작한다.
+ */
+public class AsyncItemWriter<O> implements ItemStreamWriter<Future<O>> {
+    private final ItemWriter<O> delegate;
+
+    public AsyncItemWriter(ItemWriter<O> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(Chunk<? extends Future<O>> futures) throws Exception {
+        List<O> items = new ArrayList<>(futures.size());
+        for (Future<O> future : futures) {
+            try {
+                O item = future.get();
+                if (item != null) {
+                    items.add(item);
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        delegate.write(new Chunk<>(items));
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (delegate instanceof ItemStream stream) {
+            stream.update(executionContext);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (delegate instanceof ItemStream stream) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.batch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 item 처리의 동시 실행 수를 DB 상태에 맞춰 조절하는 설정. ({@link com.loopers.batch.throttle.AdaptiveThrottle})
+ * API 와 같은 MySQL 을 쓰므로, 커넥션 대기나 statement 지연이 늘면 동시 실행 수를 줄여 API 에 여유를 준다.
+ *
+ * @param maxConcurrency      동시에 처리할 수 있는 최대 item 수. 커넥션 풀 크기보다 작게 둔다.
+ * @param minConcurrency      줄일 수 있는 최소 동시 실행 수
+ * @param pool                상태를 확인할 커넥션 풀 이름 (hikaricp.connections.acquire / jdbc.statements 의 pool 태그)
+ * @param maxConnectionWait   커넥션을 얻는 데 걸린 평균 시간이 이 값을 넘으면 줄인다.
+ * @param maxStatementLatency statement 평균 실행 시간이 이 값을 넘으면 줄인다. 평소 job 의 statement 실행 시간보다 크게 둔다.
+ * @param sampleInterval      상태를 확인하고 동시 실행 수를 조절하는 주기
+ * @param backoffRatio        줄일 때 곱하는 비율. 늘릴 때는 주기마다 1 씩 늘린다.
+ */
+@ConfigurationProperties(prefix = "batch.throttle")
+public record AdaptiveThrottleProperties(
+    @DefaultValue("8") int maxConcurrency,
+    @DefaultValue("1") int minConcurrency,
+    @DefaultValue("mysql-main-pool") String pool,
+    @DefaultValue("10ms") Duration maxConnectionWait,
+    @DefaultValue("100ms") Duration maxStatementLatency,
+    @DefaultValue("1s") Duration sampleInterval,
+    @DefaultValue("0.5") double backoffRatio
+) {
+    public AdaptiveThrottleProperties {
+        if (minConcurrency < 1 || maxConcurrency < minConcurrency) {
+            throw new IllegalArgumentException("동시 실행 수는 1 <= minConcurrency <= maxConcurrency 여야 합니다.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio 는 0 과 1 사이여야 합니다. (backoffRatio = " + backoffRatio + ")");
+        }
+    }
+}
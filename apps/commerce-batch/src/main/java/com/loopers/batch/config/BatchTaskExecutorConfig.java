@@ -0,0 +1,63 @@
+package com.loopers.batch.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 파티션 step 이 worker step 들을 병렬로 실행할 때 사용하는 TaskExecutor 와,
+ * chunk step 이 item 을 비동기로 처리할 때({@link com.loopers.batch.async.AsyncItemProcessor}) 사용하는 TaskExecutor.
+ * JobLauncher 는 기존처럼 동기로 실행되며, 이 executor 들은 각 step 에서만 명시적으로 사용한다.
+ * worker step 이 item 처리를 기다리며 스레드를 점유하므로, 두 executor 는 스레드를 공유하지 않는다.
+ */
+@RequiredArgsConstructor
+@Configuration
+public class BatchTaskExecutorConfig {
+    public static final String BATCH_TASK_EXECUTOR = "batchWorkerTaskExecutor";
+    public static final String BATCH_ITEM_TASK_EXECUTOR = "batchItemTaskExecutor";
+    private static final String THREAD_NAME_PREFIX = "batch-worker-";
+    private static final String ITEM_THREAD_NAME_PREFIX = "batch-item-";
+
+    private final BatchTaskExecutorProperties properties;
+    private final AdaptiveThrottleProperties throttleProperties;
+
+    @Bean(BATCH_TASK_EXECUTOR)
+    public TaskExecutor batchWorkerTaskExecutor() {
+        return taskExecutor(THREAD_NAME_PREFIX, properties.concurrency());
+    }
+
+    /**
+     * 동시 실행 수는 {@link com.loopers.batch.throttle.AdaptiveThrottle} 가 조절하므로, 스레드는 최대 한도만큼 둔다.
+     */
+    @Bean(BATCH_ITEM_TASK_EXECUTOR)
+    public TaskExecutor batchItemTaskExecutor() {
+        return taskExecutor(ITEM_THREAD_NAME_PREFIX, throttleProperties.maxConcurrency());
+    }
+
+    private TaskExecutor taskExecutor(String threadNamePrefix, int concurrency) {
+        return switch (properties.type()) {
+            case PLATFORM -> platformTaskExecutor(threadNamePrefix, concurrency);
+            case VIRTUAL -> virtualTaskExecutor(threadNamePrefix, concurrency);
+        };
+    }
+
+    private TaskExecutor platformTaskExecutor(String threadNamePrefix, int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    private TaskExecutor virtualTaskExecutor(String threadNamePrefix, int concurrency) {
+        // virtual thread 는 풀링하지 않으므로, 커넥션 풀을 넘지 않도록 동시 실행 수만 제한한다.
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrency);
+        return executor;
+    }
+}
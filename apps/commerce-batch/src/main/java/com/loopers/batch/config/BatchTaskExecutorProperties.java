@@ -0,0 +1,21 @@
+package com.loopers.batch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 파티션 worker step 을 실행할 TaskExecutor 설정.
+ *
+ * @param type        PLATFORM(고정 크기 스레드 풀) 또는 VIRTUAL(동시 실행 수가 제한된 virtual thread)
+ * @param concurrency 동시에 실행되는 worker step 수. 각 worker 가 커넥션을 하나씩 점유하므로 커넥션 풀 크기보다 작게 둔다.
+ */
+@ConfigurationProperties(prefix = "batch.task-executor")
+public record BatchTaskExecutorProperties(
+    @DefaultValue("PLATFORM") Type type,
+    @DefaultValue("8") int concurrency
+) {
+    public enum Type {
+        PLATFORM,
+        VIRTUAL,
+    }
+}
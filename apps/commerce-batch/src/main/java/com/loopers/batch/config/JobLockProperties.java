@@ -0,0 +1,20 @@
+package com.loopers.batch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 같은 job 이 여러 파드에서 동시에 실행되지 않도록 하는 lock 설정.
+ *
+ * @param enabled     lock 사용 여부
+ * @param leaseTime   실행 중인 파드가 죽었을 때 lock 이 풀리기까지의 시간 (실행 중에는 계속 연장된다.)
+ * @param waitTimeout 이미 실행 중일 때 기다리는 시간. 0 이면 기다리지 않고 이번 실행을 건너뛴다.
+ */
+@ConfigurationProperties(prefix = "batch.job-lock")
+public record JobLockProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("30s") Duration leaseTime,
+    @DefaultValue("0s") Duration waitTimeout
+) {}
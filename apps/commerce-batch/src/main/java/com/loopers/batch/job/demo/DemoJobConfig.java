@@ -1,9 +1,15 @@
 package com.loopers.batch.job.demo;
 
+import com.loopers.batch.async.AsyncItemProcessor;
+import com.loopers.batch.async.AsyncItemWriter;
+import com.loopers.batch.config.BatchTaskExecutorConfig;
+import com.loopers.batch.job.demo.step.DemoItemProcessor;
+import com.loopers.batch.job.demo.step.DemoItemWriter;
 import com.loopers.batch.job.demo.step.DemoTasklet;
 import com.loopers.batch.listener.JobListener;
 import com.loopers.batch.listener.StepMonitorListener;
-import lombok.RequiredArgsConstructor;
+import com.loopers.batch.listener.StepStageTimings;
+import com.loopers.batch.throttle.AdaptiveThrottle;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobScope;
@@ -11,28 +17,64 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.support.ListItemReader;
 import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 @ConditionalOnProperty(name = "spring.batch.job.name", havingValue = DemoJobConfig.JOB_NAME)
-@RequiredArgsConstructor
 @Configuration
 public class DemoJobConfig {
     public static final String JOB_NAME = "demoJob";
     private static final String STEP_DEMO_SIMPLE_TASK_NAME = "demoSimpleTask";
+    private static final String STEP_DEMO_ASYNC_CHUNK_NAME = "demoAsyncChunk";
+    private static final int DEMO_ITEM_COUNT = 100;
+    private static final int CHUNK_SIZE = 20;
 
     private final JobRepository jobRepository;
     private final JobListener jobListener;
     private final StepMonitorListener stepMonitorListener;
+    private final StepStageTimings stepStageTimings;
+    private final AdaptiveThrottle adaptiveThrottle;
     private final DemoTasklet demoTasklet;
+    private final DemoItemProcessor demoItemProcessor;
+    private final DemoItemWriter demoItemWriter;
+    private final TaskExecutor batchItemTaskExecutor;
+
+    public DemoJobConfig(
+        JobRepository jobRepository,
+        JobListener jobListener,
+        StepMonitorListener stepMonitorListener,
+        StepStageTimings stepStageTimings,
+        AdaptiveThrottle adaptiveThrottle,
+        DemoTasklet demoTasklet,
+        DemoItemProcessor demoItemProcessor,
+        DemoItemWriter demoItemWriter,
+        @Qualifier(BatchTaskExecutorConfig.BATCH_ITEM_TASK_EXECUTOR) TaskExecutor batchItemTaskExecutor
+    ) {
+        this.jobRepository = jobRepository;
+        this.jobListener = jobListener;
+        this.stepMonitorListener = stepMonitorListener;
+        this.stepStageTimings = stepStageTimings;
+        this.adaptiveThrottle = adaptiveThrottle;
+        this.demoTasklet = demoTasklet;
+        this.demoItemProcessor = demoItemProcessor;
+        this.demoItemWriter = demoItemWriter;
+        this.batchItemTaskExecutor = batchItemTaskExecutor;
+    }
 
     @Bean(JOB_NAME)
     public Job demoJob() {
         return new JobBuilder(JOB_NAME, jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .start(categorySyncStep())
+                .next(demoAsyncChunkStep())
                 .listener(jobListener)
                 .build();
     }
@@ -45,4 +87,21 @@ public class DemoJobConfig {
                 .listener(stepMonitorListener)
                 .build();
     }
+
+    /**
+     * item 처리를 여러 스레드에서 실행하는 chunk step 예시.
+     * 동시 처리 수는 AdaptiveThrottle 이 DB 상태에 맞춰 조절하며, 한도에 닿으면 reader 도 멈춘다.
+     */
+    @JobScope
+    @Bean(STEP_DEMO_ASYNC_CHUNK_NAME)
+    public Step demoAsyncChunkStep() {
+        return new StepBuilder(STEP_DEMO_ASYNC_CHUNK_NAME, jobRepository)
+                .<Integer, Future<String>>chunk(CHUNK_SIZE, new ResourcelessTransactionManager())
+                .reader(new ListItemReader<>(IntStream.rangeClosed(1, DEMO_ITEM_COUNT).boxed().toList()))
+                .processor(new AsyncItemProcessor<>(demoItemProcessor, batchItemTaskExecutor, adaptiveThrottle, stepStageTimings))
+                .writer(new AsyncItemWriter<>(demoItemWriter))
+                .listener(stepStageTimings)
+                .listener(stepMonitorListener)
+                .build();
+    }
 }
@@ -0,0 +1,20 @@
+package com.loopers.batch.job.demo.step;
+
+import com.loopers.batch.job.demo.DemoJobConfig;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 호출(DB / Redis / API)처럼 기다리는 시간이 긴 처리를 흉내낸다. AsyncItemProcessor 가 여러 스레드에서 실행한다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = DemoJobConfig.JOB_NAME)
+@Component
+public class DemoItemProcessor implements ItemProcessor<Integer, String> {
+
+    @Override
+    public String process(Integer item) throws Exception {
+        Thread.sleep(10);
+        return "demo-" + item;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.batch.job.demo.step;
+
+import com.loopers.batch.job.demo.DemoJobConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = DemoJobConfig.JOB_NAME)
+@Component
+public class DemoItemWriter implements ItemWriter<String> {
+
+    @Override
+    public void write(Chunk<? extends String> chunk) {
+        log.info("Demo 청크 {} 건 처리 완료 ({} ~ {})", chunk.size(), chunk.getItems().getFirst(), chunk.getItems().getLast());
+    }
+}
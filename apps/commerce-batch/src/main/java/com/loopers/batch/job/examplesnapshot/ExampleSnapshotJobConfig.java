@@ -0,0 +1,136 @@
+package com.loopers.batch.job.examplesnapshot;
+
+import com.loopers.batch.config.BatchTaskExecutorProperties;
+import com.loopers.batch.job.examplesnapshot.step.ExampleSnapshotRow;
+import com.loopers.batch.listener.ChunkListener;
+import com.loopers.batch.listener.JobFencingListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import com.loopers.batch.partition.IdRangePagingItemReaders;
+import com.loopers.batch.partition.IdRangePartitioner;
+import com.loopers.domain.examplesnapshot.ExampleSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+/**
+ * 삭제되지 않은 example 을 실행 일자(requestDate) 기준으로 example_snapshot 에 적재한다.
+ * example 테이블을 id 범위로 나누어 worker step 들이 병렬로 읽고, JDBC batch insert 로 쓴다.
+ * 같은 일자로 재실행해도 결과가 같도록 (example_id, snapshot_date) 유니크 키에 upsert 한다. ({@link ExampleSnapshot})
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ExampleSnapshotJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class ExampleSnapshotJobConfig {
+    public static final String JOB_NAME = "exampleSnapshotJob";
+    private static final String STEP_PARTITION_NAME = "exampleSnapshotPartitionStep";
+    private static final String STEP_WORKER_NAME = "exampleSnapshotWorkerStep";
+    private static final String SOURCE_TABLE = "example";
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ChunkListener chunkListener;
+    private final JobFencingListener jobFencingListener;
+    private final BatchTaskExecutorProperties taskExecutorProperties;
+    // 필드명으로 BatchTaskExecutorConfig.BATCH_TASK_EXECUTOR 빈을 주입받는다.
+    private final TaskExecutor batchWorkerTaskExecutor;
+
+    @Bean(JOB_NAME)
+    public Job exampleSnapshotJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(exampleSnapshotPartitionStep())
+                .listener(jobListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_PARTITION_NAME)
+    public Step exampleSnapshotPartitionStep() {
+        return new StepBuilder(STEP_PARTITION_NAME, jobRepository)
+                .partitioner(STEP_WORKER_NAME, new IdRangePartitioner(new JdbcTemplate(dataSource), SOURCE_TABLE))
+                .step(exampleSnapshotWorkerStep())
+                // 스레드 수보다 파티션을 잘게 나누어, 일부 범위에 데이터가 몰려도 먼저 끝난 스레드가 나머지를 가져가도록 한다.
+                .gridSize(taskExecutorProperties.concurrency() * 4)
+                .taskExecutor(batchWorkerTaskExecutor)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    @Bean(STEP_WORKER_NAME)
+    public Step exampleSnapshotWorkerStep() {
+        return new StepBuilder(STEP_WORKER_NAME, jobRepository)
+                .<ExampleSnapshotRow, ExampleSnapshotRow>chunk(CHUNK_SIZE, transactionManager)
+                .reader(exampleSnapshotReader(null, null))
+                .writer(exampleSnapshotWriter(null))
+                .listener(chunkListener)
+                .listener(jobFencingListener)
+                .build();
+    }
+
+    @StepScope
+    @Bean
+    public JdbcPagingItemReader<ExampleSnapshotRow> exampleSnapshotReader(
+        @Value("#{stepExecutionContext['" + IdRangePartitioner.MIN_ID + "']}") Long minId,
+        @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID + "']}") Long maxId
+    ) {
+        return IdRangePagingItemReaders.of(
+            "exampleSnapshotReader",
+            dataSource,
+            "SELECT id, name, description",
+            SOURCE_TABLE,
+            new DataClassRowMapper<>(ExampleSnapshotRow.class),
+            CHUNK_SIZE,
+            minId,
+            maxId
+        );
+    }
+
+    @StepScope
+    @Bean
+    public JdbcBatchItemWriter<ExampleSnapshotRow> exampleSnapshotWriter(
+        @Value("#{jobParameters['requestDate']}") LocalDate requestDate
+    ) {
+        // rewriteBatchedStatements 로 청크 단위의 multi-row INSERT 로 재작성되어 한 번의 round-trip 으로 적재된다.
+        return new JdbcBatchItemWriterBuilder<ExampleSnapshotRow>()
+                .dataSource(dataSource)
+                .sql("""
+                    INSERT INTO example_snapshot (example_id, snapshot_date, name, description, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, NOW(6), NOW(6))
+                    ON DUPLICATE KEY UPDATE name = VALUES(name), description = VALUES(description), updated_at = NOW(6)
+                    """)
+                .itemPreparedStatementSetter((item, ps) -> {
+                    ps.setLong(1, item.id());
+                    ps.setObject(2, requestDate);
+                    ps.setString(3, item.name());
+                    ps.setString(4, item.description());
+                })
+                // 재실행으로 변경 없는 row 는 affected rows 가 0 이므로 검증하지 않는다.
+                .assertUpdates(false)
+                .build();
+    }
+}
@@ -0,0 +1,3 @@
+package com.loopers.batch.job.examplesnapshot.step;
+
+public record ExampleSnapshotRow(Long id, String name, String description) {}
@@ -0,0 +1,67 @@
+package com.loopers.batch.job.softdeletepurge;
+
+import com.loopers.batch.job.softdeletepurge.step.SoftDeletePurgeTasklet;
+import com.loopers.batch.listener.JobFencingListener;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+/**
+ * 보관 기간(retention)이 지난 soft delete 행을 {table}_archive 로 옮기고 원본 테이블에서 삭제한다.
+ * 자주 조회되는 테이블에 삭제된 행이 쌓여 인덱스가 커지지 않도록 주기적으로 실행한다.
+ * 대상 테이블마다 step 을 하나씩 순서대로 실행한다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = SoftDeletePurgeJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class SoftDeletePurgeJobConfig {
+    public static final String JOB_NAME = "softDeletePurgeJob";
+    private static final String STEP_PURGE_NAME_PREFIX = "softDeletePurgeStep-";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final JobFencingListener jobFencingListener;
+    private final SoftDeletePurgeProperties properties;
+
+    @Bean(JOB_NAME)
+    public Job softDeletePurgeJob() {
+        List<String> tables = properties.tables();
+        SimpleJobBuilder builder = new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(purgeStep(tables.get(0)));
+        tables.stream().skip(1).forEach(table -> builder.next(purgeStep(table)));
+        return builder
+                .listener(jobListener)
+                .build();
+    }
+
+    private Step purgeStep(String table) {
+        SoftDeletePurgeTasklet tasklet = new SoftDeletePurgeTasklet(jdbcTemplate, table, properties);
+        return new StepBuilder(STEP_PURGE_NAME_PREFIX + table, jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .listener((StepExecutionListener) tasklet)
+                .listener((ChunkListener) tasklet)
+                .listener(stepMonitorListener)
+                .listener(jobFencingListener)
+                .build();
+    }
+}
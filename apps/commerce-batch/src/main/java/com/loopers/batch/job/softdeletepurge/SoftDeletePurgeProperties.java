@@ -0,0 +1,40 @@
+package com.loopers.batch.job.softdeletepurge;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * soft delete 된 행의 보관(archive) / 삭제(purge) 설정.
+ *
+ * @param tables    대상 테이블 (BaseEntity 테이블). {table}_archive 로 옮긴 뒤 원본에서 삭제한다.
+ *                  deleted_at 으로 시작하는 인덱스가 있어야 대상 행을 정렬 없이 찾는다.
+ * @param retention 삭제 후 원본 테이블에 남겨두는 기간
+ * @param chunkSize 한 트랜잭션에서 옮기는 최대 행 수. 잠금 시간과 replica 지연을 작게 유지하도록 작게 둔다.
+ * @param pause     청크 사이 대기 시간 (replica 가 따라올 시간을 준다)
+ */
+@ConfigurationProperties(prefix = "batch.soft-delete-purge")
+public record SoftDeletePurgeProperties(
+    @DefaultValue("example") List<String> tables,
+    @DefaultValue("30d") Duration retention,
+    @DefaultValue("500") int chunkSize,
+    @DefaultValue("100ms") Duration pause
+) {
+    private static final Pattern TABLE_NAME = Pattern.compile("[a-z][a-z0-9_]*");
+
+    public SoftDeletePurgeProperties {
+        if (tables.isEmpty()) {
+            throw new IllegalArgumentException("대상 테이블이 없습니다.");
+        }
+        // 테이블 이름은 SQL 에 그대로 들어가므로 식별자 형식만 허용한다.
+        tables.stream()
+            .filter(table -> !TABLE_NAME.matcher(table).matches())
+            .findFirst()
+            .ifPresent(table -> {
+                throw new IllegalArgumentException("허용되지 않는 테이블 이름입니다. (table = " + table + ")");
+            });
+    }
+}
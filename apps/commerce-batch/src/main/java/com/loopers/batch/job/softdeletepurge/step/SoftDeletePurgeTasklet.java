@@ -0,0 +1,101 @@
+package com.loopers.batch.job.softdeletepurge.step;
+
+import com.loopers.batch.job.softdeletepurge.SoftDeletePurgeProperties;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 soft delete 행을 {table}_archive 로 옮기고 원본에서 삭제한다.
+ * 한 번의 execute 가 한 트랜잭션이며, 최대 chunkSize 행만 PK 로 잠그고 옮긴 뒤 커밋한다.
+ * 범위 조건으로 DELETE 하지 않으므로 gap lock 이 넓게 걸리지 않고, 청크 사이에 pause 만큼 쉬어 replica 지연을 제한한다.
+ * 쉬는 동안 커넥션을 잡고 있지 않도록, 청크 트랜잭션이 커밋된 뒤(afterChunk)에 쉰다.
+ */
+@Slf4j
+public class SoftDeletePurgeTasklet implements Tasklet, StepExecutionListener, ChunkListener {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String archiveTable;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration pause;
+
+    private LocalDateTime cutoff;
+    private boolean finished;
+
+    public SoftDeletePurgeTasklet(NamedParameterJdbcTemplate jdbcTemplate, String table, SoftDeletePurgeProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.archiveTable = table + "_archive";
+        this.retention = properties.retention();
+        this.chunkSize = properties.chunkSize();
+        this.pause = properties.pause();
+    }
+
+    @Override
+    public void beforeStep(@Nonnull StepExecution stepExecution) {
+        // deleted_at 은 UTC 로 저장된다. (hibernate.jdbc.time_zone: UTC)
+        cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(retention);
+        finished = false;
+        // 원본과 같은 구조(인덱스 포함)로 보관 테이블을 만든다.
+        jdbcTemplate.getJdbcTemplate().execute("CREATE TABLE IF NOT EXISTS " + archiveTable + " LIKE " + table);
+        log.info("{} 의 {} 이전 삭제 행을 {} 로 옮깁니다.", table, cutoff, archiveTable);
+    }
+
+    @Override
+    public RepeatStatus execute(@Nonnull StepContribution contribution, @Nonnull ChunkContext chunkContext) throws Exception {
+        // (deleted_at, ...) 인덱스 순서대로 읽으므로 정렬 없이 chunkSize 개에서 멈춘다.
+        List<Long> candidates = jdbcTemplate.queryForList(
+            "SELECT id FROM " + table + " WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit",
+            new MapSqlParameterSource().addValue("cutoff", cutoff).addValue("limit", chunkSize),
+            Long.class
+        );
+        if (candidates.isEmpty()) {
+            finished = true;
+            return RepeatStatus.FINISHED;
+        }
+
+        // 조회 이후 복구된 행은 제외하고, 옮길 행만 PK 로 잠근다.
+        List<Long> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM " + table + " WHERE id IN (:ids) AND deleted_at < :cutoff FOR UPDATE",
+            new MapSqlParameterSource().addValue("ids", candidates).addValue("cutoff", cutoff),
+            Long.class
+        );
+        if (!ids.isEmpty()) {
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+            // 이전 실행이 보관까지만 하고 실패했더라도 다시 옮길 수 있도록 중복은 무시한다.
+            jdbcTemplate.update("INSERT IGNORE INTO " + archiveTable + " SELECT * FROM " + table + " WHERE id IN (:ids)", params);
+            int purged = jdbcTemplate.update("DELETE FROM " + table + " WHERE id IN (:ids)", params);
+            contribution.incrementWriteCount(purged);
+        }
+
+        finished = candidates.size() < chunkSize;
+        return finished ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    @Override
+    public void afterChunk(@Nonnull ChunkContext context) {
+        if (finished || pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+        } catch (InterruptedException e) {
+            // 인터럽트 상태를 남겨 step 이 중단되도록 한다.
+            Thread.currentThread().interrupt();
+        }
+    }
+}
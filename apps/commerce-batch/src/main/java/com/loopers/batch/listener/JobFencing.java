@@ -0,0 +1,50 @@
+package com.loopers.batch.listener;
+
+import com.loopers.domain.jobfence.JobFence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * job lock 의 fencing token 으로 DB 쓰기를 막는다. ({@link JobFence})
+ * <p>
+ * lease 를 잃은 줄 모르는 이전 실행(GC pause, 네트워크 단절 등)이 새 실행과 함께 쓰지 않도록,
+ * 새 실행이 fence 를 자신의 token 으로 올리면 이전 실행의 chunk 는 쓰기 전에 실패하고 롤백된다.
+ * chunk 는 fence 행을 공유 잠금으로 확인하므로, 같은 실행의 worker 들은 서로 기다리지 않고
+ * 새 실행은 이미 확인을 통과한 이전 실행의 chunk 가 커밋된 뒤에 fence 를 올린다.
+ */
+@RequiredArgsConstructor
+@Component
+class JobFencing {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * fence 를 token 으로 올린다. 더 큰 token 이 이미 기록되어 있으면 바꾸지 않는다. (자체 트랜잭션)
+     */
+    void raise(String jobName, long token) {
+        jdbcTemplate.update("""
+            INSERT INTO batch_job_fence (job_name, fencing_token, created_at, updated_at)
+            VALUES (?, ?, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE fencing_token = GREATEST(fencing_token, VALUES(fencing_token)), updated_at = NOW(6)
+            """, jobName, token);
+    }
+
+    /**
+     * 현재 트랜잭션에서 fence 가 token 과 같은지 확인하고, 커밋할 때까지 fence 가 바뀌지 않도록 잠근다.
+     *
+     * @throws IllegalStateException 더 큰 token 의 실행이 fence 를 올린 경우.
+     *                               Redis 데이터가 초기화되어 token 이 다시 1 부터 시작한 경우에도 발생하며, 이때는 batch_job_fence 의 해당 행을 삭제한다.
+     */
+    void check(String jobName, long token) {
+        Long fence = jdbcTemplate.query(
+            "SELECT fencing_token FROM batch_job_fence WHERE job_name = ? FOR SHARE",
+            resultSet -> resultSet.next() ? resultSet.getLong(1) : null,
+            jobName
+        );
+        if (fence == null || fence != token) {
+            throw new IllegalStateException(String.format(
+                "Job '%s' 의 fencing token(%d) 이 fence(%s) 와 다릅니다. 다른 실행이 job lock 을 넘겨받았으므로 쓰지 않습니다.", jobName, token, fence
+            ));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.batch.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * DB 에 쓰는 step 에 등록하여, chunk 트랜잭션을 시작할 때마다 job lock 의 fence 를 확인한다. ({@link JobFencing})
+ * lock 을 사용하지 않은 실행(비활성화, Redis 장애)은 확인하지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class JobFencingListener {
+    private final JobLeaseRegistry jobLeaseRegistry;
+    private final JobFencing jobFencing;
+
+    /**
+     * chunk 트랜잭션 안에서 호출된다. 실패하면 이번 chunk 는 쓰지 않고 롤백된다.
+     */
+    @BeforeChunk
+    void beforeChunk(ChunkContext chunkContext) {
+        JobExecution jobExecution = chunkContext.getStepContext().getStepExecution().getJobExecution();
+        OptionalLong token = jobLeaseRegistry.fencingToken(jobExecution);
+        if (token.isPresent()) {
+            jobFencing.check(jobExecution.getJobInstance().getJobName(), token.getAsLong());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.loopers.batch.listener;
+
+import com.loopers.batch.config.JobLockProperties;
+import com.loopers.support.lock.Lease;
+import com.loopers.support.lock.RedisLeaseLockManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 중인 job 이 보유한 lease 를 관리한다. (job 이름 단위 lock)
+ * lease 를 획득하면 DB 의 fence 를 lease 의 fencing token 으로 올려, 이전 실행의 남은 쓰기를 막는다. ({@link JobFencingListener})
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class JobLeaseRegistry {
+    private static final String LOCK_GROUP = "batch-job";
+
+    private final RedisLeaseLockManager lockManager;
+    private final JobLockProperties properties;
+    private final JobFencing jobFencing;
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+
+    /**
+     * @return 실행해도 되면 true, 다른 인스턴스가 실행 중이면 false
+     */
+    boolean acquire(JobExecution jobExecution) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        String jobName = jobExecution.getJobInstance().getJobName();
+        Optional<Lease> lease;
+        try {
+            lease = properties.waitTimeout().isZero()
+                ? lockManager.tryAcquire(LOCK_GROUP, jobName, properties.leaseTime())
+                : lockManager.acquire(LOCK_GROUP, jobName, properties.leaseTime(), properties.waitTimeout());
+        } catch (RuntimeException e) {
+            // Redis 장애로 job 이 실행되지 않는 것보다, 중복 실행 가능성을 감수하고 실행하는 쪽을 택한다.
+            log.warn("Job '{}' 의 lock 을 확인하지 못하여 lock 없이 실행합니다.", jobName, e);
+            return true;
+        }
+        if (lease.isEmpty()) {
+            return false;
+        }
+        leases.put(jobExecution.getId(), lease.get());
+        // 다른 인스턴스가 실행을 넘겨받았으므로, 진행 중인 step 은 다음 청크 경계에서 멈추고 이후 step 은 실행하지 않는다.
+        lease.get().onLost(() -> {
+            jobExecution.getStepExecutions().forEach(StepExecution::setTerminateOnly);
+            jobExecution.setStatus(BatchStatus.STOPPING);
+        });
+        jobFencing.raise(jobName, lease.get().getFencingToken());
+        return true;
+    }
+
+    /**
+     * @return lock 을 사용하지 않은 실행이면 empty
+     */
+    OptionalLong fencingToken(JobExecution jobExecution) {
+        Lease lease = leases.get(jobExecution.getId());
+        return lease == null ? OptionalLong.empty() : OptionalLong.of(lease.getFencingToken());
+    }
+
+    /**
+     * lock 을 사용하고 있고, 실행 도중 lease 를 잃은 경우 true
+     */
+    boolean isLost(JobExecution jobExecution) {
+        Lease lease = leases.get(jobExecution.getId());
+        return lease != null && lease.isLost();
+    }
+
+    void release(JobExecution jobExecution) {
+        Lease lease = leases.remove(jobExecution.getId());
+        if (lease != null) {
+            lease.close();
+        }
+    }
+}
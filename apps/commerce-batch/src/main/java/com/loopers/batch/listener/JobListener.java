@@ -2,6 +2,8 @@ package com.loopers.batch.listener;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.annotation.AfterJob;
 import org.springframework.batch.core.annotation.BeforeJob;
@@ -15,15 +17,32 @@ import java.time.ZoneId;
 @RequiredArgsConstructor
 @Component
 public class JobListener {
+    private static final String SKIPPED_KEY = "jobLockSkipped";
+
+    private final JobLeaseRegistry jobLeaseRegistry;
 
     @BeforeJob
     void beforeJob(JobExecution jobExecution) {
         log.info("Job '${jobExecution.jobInstance.jobName}' 시작");
         jobExecution.getExecutionContext().putLong("startTime", System.currentTimeMillis());
+
+        if (!jobLeaseRegistry.acquire(jobExecution)) {
+            log.warn("Job '{}' 이(가) 다른 인스턴스에서 실행 중이므로 이번 실행을 건너뜁니다.", jobExecution.getJobInstance().getJobName());
+            jobExecution.getExecutionContext().put(SKIPPED_KEY, true);
+            // 첫 step 을 실행하기 전에 STOPPED 로 끝난다.
+            jobExecution.setStatus(BatchStatus.STOPPING);
+        }
     }
 
     @AfterJob
     void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getExecutionContext().containsKey(SKIPPED_KEY)) {
+            jobExecution.setExitStatus(ExitStatus.NOOP.addExitDescription("다른 인스턴스가 실행 중이어서 건너뛰었습니다."));
+        } else if (jobLeaseRegistry.isLost(jobExecution)) {
+            jobExecution.setExitStatus(jobExecution.getExitStatus().addExitDescription("실행 도중 job lock 을 잃어 중단했습니다."));
+        }
+        jobLeaseRegistry.release(jobExecution);
+
         var startTime = jobExecution.getExecutionContext().getLong("startTime");
         var endTime = System.currentTimeMillis();
 
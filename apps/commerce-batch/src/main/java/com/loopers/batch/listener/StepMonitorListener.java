@@ -1,5 +1,7 @@
 package com.loopers.batch.listener;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,21 +9,37 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.stereotype.Component;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class StepMonitorListener implements StepExecutionListener {
+    private final JobLeaseRegistry jobLeaseRegistry;
+    private final StepStageTimings stepStageTimings;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void beforeStep(@Nonnull StepExecution stepExecution) {
         log.info("Step '{}' 시작", stepExecution.getStepName());
+        stepStageTimings.open(stepExecution);
+        // 파티션 worker step 처럼 lease 를 잃은 뒤에 시작되는 step 도 멈춘다.
+        if (jobLeaseRegistry.isLost(stepExecution.getJobExecution())) {
+            log.error("Step '{}' 은(는) job lock 을 잃었으므로 실행하지 않습니다.", stepExecution.getStepName());
+            stepExecution.setTerminateOnly();
+        }
     }
 
     @Override
     public ExitStatus afterStep(@Nonnull StepExecution stepExecution) {
+        reportStageTimings(stepExecution);
+        if (jobLeaseRegistry.isLost(stepExecution.getJobExecution())) {
+            log.error("Step '{}' 실행 도중 job lock 을 잃어 중단했습니다.", stepExecution.getStepName());
+            return ExitStatus.STOPPED;
+        }
         if (!stepExecution.getFailureExceptions().isEmpty()) {
             var jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
             var exceptions = stepExecution.getFailureExceptions().stream()
@@ -41,4 +59,30 @@ public class StepMonitorListener implements StepExecutionListener {
         }
         return ExitStatus.COMPLETED;
     }
+
+    /**
+     * chunk step 의 단계별 소요 시간을 남긴다. 비동기 처리의 process 는 worker 스레드들의 처리 시간 합이므로 step 실행 시간보다 길 수 있다.
+     */
+    private void reportStageTimings(StepExecution stepExecution) {
+        Map<StepStageTimings.Stage, StepStageTimings.Timing> timings = stepStageTimings.close(stepExecution);
+        if (timings.isEmpty()) {
+            return;
+        }
+
+        var jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        timings.forEach((stage, timing) -> Timer.builder("batch.step.stage")
+            .description("chunk step 의 단계별 소요 시간 (step 실행마다 단계별 합계를 기록한다)")
+            .tag("job", jobName)
+            .tag("step", stepExecution.getStepName())
+            .tag("stage", stage.name().toLowerCase())
+            .register(meterRegistry)
+            .record(timing.totalNanos(), TimeUnit.NANOSECONDS));
+        log.info("Step '{}' 단계별 소요 시간 {}", stepExecution.getStepName(), timings.entrySet().stream()
+            .map(entry -> String.format("%s: %dms (%d건, 평균 %.2fms)",
+                entry.getKey().name().toLowerCase(),
+                TimeUnit.NANOSECONDS.toMillis(entry.getValue().totalNanos()),
+                entry.getValue().count(),
+                entry.getValue().totalNanos() / 1_000_000.0 / entry.getValue().count()))
+            .collect(Collectors.joining(", ")));
+    }
 }
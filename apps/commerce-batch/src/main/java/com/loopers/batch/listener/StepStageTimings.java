@@ -0,0 +1,158 @@
+package com.loopers.batch.listener;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterProcess;
+import org.springframework.batch.core.annotation.AfterRead;
+import org.springframework.batch.core.annotation.AfterWrite;
+import org.springframework.batch.core.annotation.BeforeProcess;
+import org.springframework.batch.core.annotation.BeforeRead;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.core.annotation.OnProcessError;
+import org.springframework.batch.core.annotation.OnReadError;
+import org.springframework.batch.core.annotation.OnWriteError;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * chunk step 의 단계(read / process / write)별 소요 시간을 모은다. {@link StepMonitorListener} 가 step 이 끝날 때 보고한다.
+ * chunk step 에 listener 로 등록하면 read / process / write 를 재고,
+ * 비동기 처리({@link com.loopers.batch.async.AsyncItemProcessor})는 worker 스레드의 처리 시간과 한도 대기 시간을 직접 기록한다.
+ * StepMonitorListener 가 등록된 step 만 기록한다.
+ */
+@Component
+public class StepStageTimings {
+    private final Map<Long, Map<Stage, Accumulator>> timings = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<Stage, Long>> startedAt = ThreadLocal.withInitial(() -> new EnumMap<>(Stage.class));
+
+    public enum Stage {
+        READ,
+        PROCESS,
+        WRITE,
+        /** 비동기 처리 한도({@link com.loopers.batch.throttle.AdaptiveThrottle})를 기다린 시간. 길면 reader 가 멈춰 있었다는 뜻이다. */
+        THROTTLE,
+    }
+
+    /**
+     * @param totalNanos 모든 스레드에서 소요된 시간의 합
+     * @param count      측정 횟수 (item 또는 chunk 수)
+     */
+    public record Timing(long totalNanos, long count) {}
+
+    public void record(StepExecution stepExecution, Stage stage, long elapsedNanos) {
+        if (stepExecution == null) {
+            return;
+        }
+        Map<Stage, Accumulator> stepTimings = timings.get(stepExecution.getId());
+        if (stepTimings != null) {
+            stepTimings.get(stage).add(elapsedNanos);
+        }
+    }
+
+    @BeforeRead
+    void beforeRead() {
+        start(Stage.READ);
+    }
+
+    @AfterRead
+    void afterRead(Object item) {
+        stop(Stage.READ);
+    }
+
+    @OnReadError
+    void onReadError(Exception e) {
+        stop(Stage.READ);
+    }
+
+    @BeforeProcess
+    void beforeProcess(Object item) {
+        start(Stage.PROCESS);
+    }
+
+    @AfterProcess
+    void afterProcess(Object item, Object result) {
+        if (result instanceof Future<?>) {
+            // 비동기 처리는 worker 스레드에서 처리 시간을 기록한다.
+            startedAt.get().remove(Stage.PROCESS);
+            return;
+        }
+        stop(Stage.PROCESS);
+    }
+
+    @OnProcessError
+    void onProcessError(Object item, Exception e) {
+        stop(Stage.PROCESS);
+    }
+
+    @BeforeWrite
+    void beforeWrite(Chunk<?> items) {
+        start(Stage.WRITE);
+    }
+
+    @AfterWrite
+    void afterWrite(Chunk<?> items) {
+        stop(Stage.WRITE);
+    }
+
+    @OnWriteError
+    void onWriteError(Exception e, Chunk<?> items) {
+        stop(Stage.WRITE);
+    }
+
+    void open(StepExecution stepExecution) {
+        Map<Stage, Accumulator> stepTimings = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            stepTimings.put(stage, new Accumulator());
+        }
+        timings.put(stepExecution.getId(), stepTimings);
+    }
+
+    /**
+     * 기록을 끝내고, 측정된 단계만 돌려준다.
+     */
+    Map<Stage, Timing> close(StepExecution stepExecution) {
+        Map<Stage, Accumulator> stepTimings = timings.remove(stepExecution.getId());
+        Map<Stage, Timing> result = new EnumMap<>(Stage.class);
+        if (stepTimings != null) {
+            stepTimings.forEach((stage, accumulator) -> {
+                long count = accumulator.count.sum();
+                if (count > 0) {
+                    result.put(stage, new Timing(accumulator.totalNanos.sum(), count));
+                }
+            });
+        }
+        return result;
+    }
+
+    private void start(Stage stage) {
+        startedAt.get().put(stage, System.nanoTime());
+    }
+
+    private void stop(Stage stage) {
+        Long started = startedAt.get().remove(stage);
+        StepContext context = StepSynchronizationManager.getContext();
+        if (started != null && context != null) {
+            record(context.getStepExecution(), stage, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * worker 스레드들이 동시에 더한다.
+     */
+    private static final class Accumulator {
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder count = new LongAdder();
+
+        void add(long elapsedNanos) {
+            totalNanos.add(elapsedNanos);
+            count.increment();
+        }
+    }
+}
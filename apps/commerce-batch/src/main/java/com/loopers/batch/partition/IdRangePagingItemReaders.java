@@ -0,0 +1,50 @@
+package com.loopers.batch.partition;
+
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * {@link IdRangePartitioner} 가 나눈 id 범위를 읽는 JdbcPagingItemReader 를 만든다.
+ * OFFSET 없이 `id > 마지막 id` 조건으로 페이지를 넘기므로 뒤쪽 페이지로 갈수록 느려지지 않는다.
+ */
+public final class IdRangePagingItemReaders {
+
+    private IdRangePagingItemReaders() {}
+
+    /**
+     * @param selectClause BaseEntity 테이블에서 읽을 컬럼 (정렬 키로 사용하는 id 를 반드시 포함한다.)
+     * @param tableName    BaseEntity 를 상속한 테이블 (삭제되지 않은 row 만 읽는다.)
+     */
+    public static <T> JdbcPagingItemReader<T> of(
+        String name,
+        DataSource dataSource,
+        String selectClause,
+        String tableName,
+        RowMapper<T> rowMapper,
+        int pageSize,
+        long minId,
+        long maxId
+    ) {
+        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+        queryProvider.setSelectClause(selectClause);
+        queryProvider.setFromClause(tableName);
+        queryProvider.setWhereClause("id BETWEEN :minId AND :maxId AND deleted_at IS NULL");
+        queryProvider.setSortKeys(Map.of("id", Order.ASCENDING));
+
+        return new JdbcPagingItemReaderBuilder<T>()
+            .name(name)
+            .dataSource(dataSource)
+            .queryProvider(queryProvider)
+            .parameterValues(Map.of("minId", minId, "maxId", maxId))
+            .rowMapper(rowMapper)
+            .pageSize(pageSize)
+            .fetchSize(pageSize)
+            .build();
+    }
+}
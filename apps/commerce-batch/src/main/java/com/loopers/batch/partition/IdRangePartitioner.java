@@ -0,0 +1,60 @@
+package com.loopers.batch.partition;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * BaseEntity 를 상속한 테이블을 삭제되지 않은 row 의 id 범위(min ~ max)로 균등 분할한다.
+ * 각 파티션의 ExecutionContext 에 {@link #MIN_ID}, {@link #MAX_ID} 를 담아 worker step 의 reader 가 사용한다.
+ */
+public class IdRangePartitioner implements Partitioner {
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tableName;
+
+    public IdRangePartitioner(JdbcTemplate jdbcTemplate, String tableName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableName = tableName;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        IdRange range = jdbcTemplate.queryForObject(
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM " + tableName + " WHERE deleted_at IS NULL",
+            (rs, rowNum) -> new IdRange(rs.getLong("min_id"), rs.getLong("max_id"))
+        );
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (range == null || range.max() == 0) {
+            // 대상이 없어도 step 이 정상 종료되도록 빈 범위의 파티션 하나를 만든다.
+            partitions.put(PARTITION_PREFIX + 0, context(1, 0));
+            return partitions;
+        }
+
+        long size = (range.max() - range.min()) / gridSize + 1;
+        long start = range.min();
+        int index = 0;
+        while (start <= range.max()) {
+            long end = Math.min(start + size - 1, range.max());
+            partitions.put(PARTITION_PREFIX + index++, context(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext context(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+
+    private record IdRange(long min, long max) {}
+}
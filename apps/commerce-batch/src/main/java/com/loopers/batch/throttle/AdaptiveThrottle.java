@@ -0,0 +1,137 @@
+package com.loopers.batch.throttle;
+
+import com.loopers.batch.config.AdaptiveThrottleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 동시에 처리 중인 item 수를 제한한다. 한도는 sampleInterval 마다 DB 상태를 보고 조절한다. (AIMD)
+ * <ul>
+ *     <li>커넥션 평균 대기 시간(hikaricp.connections.acquire) 또는 statement 평균 실행 시간(jdbc.statements)이 기준을 넘으면 backoffRatio 만큼 줄인다.</li>
+ *     <li>기준 이내이고 직전 주기에 한도까지 사용했다면 1 씩 늘린다.</li>
+ * </ul>
+ * 지표는 이 프로세스의 커넥션 풀에서 측정하므로, 배치가 DB 에 주는 부하가 API 에 영향을 주기 시작하는 시점을 배치 쪽에서 먼저 감지한다.
+ * 한 프로세스의 모든 step 이 한도를 공유한다.
+ */
+@Slf4j
+@Component
+public class AdaptiveThrottle {
+    private final AdaptiveThrottleProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final long sampleIntervalNanos;
+    private final Counter backoffCounter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private int limit;
+    private int inFlight;
+    private boolean saturated;
+    private long sampledAt;
+    private Usage lastConnectionAcquire;
+    private Usage lastStatements;
+
+    public AdaptiveThrottle(AdaptiveThrottleProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.sampleIntervalNanos = properties.sampleInterval().toNanos();
+        this.limit = properties.maxConcurrency();
+        this.sampledAt = System.nanoTime();
+        this.lastConnectionAcquire = usage("hikaricp.connections.acquire");
+        this.lastStatements = usage("jdbc.statements");
+        this.backoffCounter = Counter.builder("batch.throttle.backoff")
+            .description("DB 상태 때문에 동시 실행 수를 줄인 횟수")
+            .register(meterRegistry);
+        meterRegistry.gauge("batch.throttle.limit", this, throttle -> throttle.limit);
+        meterRegistry.gauge("batch.throttle.in-flight", this, throttle -> throttle.inFlight);
+    }
+
+    /**
+     * 한도에 닿으면 처리 중인 item 이 끝날 때까지 기다린다. 반드시 {@link #release()} 와 짝을 맞춘다.
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            adjustIfDue();
+            while (inFlight >= limit) {
+                saturated = true;
+                // 모두 기다리는 동안에도 주기마다 한도를 다시 계산한다.
+                released.awaitNanos(sampleIntervalNanos);
+                adjustIfDue();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustIfDue() {
+        long now = System.nanoTime();
+        if (now - sampledAt < sampleIntervalNanos) {
+            return;
+        }
+        sampledAt = now;
+
+        Usage connectionAcquire = usage("hikaricp.connections.acquire");
+        Usage statements = usage("jdbc.statements");
+        double connectionWaitNanos = connectionAcquire.meanNanosSince(lastConnectionAcquire);
+        double statementLatencyNanos = statements.meanNanosSince(lastStatements);
+        lastConnectionAcquire = connectionAcquire;
+        lastStatements = statements;
+
+        if (connectionWaitNanos > properties.maxConnectionWait().toNanos()
+            || statementLatencyNanos > properties.maxStatementLatency().toNanos()) {
+            int reduced = Math.max(properties.minConcurrency(), (int) (limit * properties.backoffRatio()));
+            if (reduced < limit) {
+                log.warn("DB 지연으로 동시 실행 수를 {} → {} 로 줄입니다. (커넥션 대기 {}ms, statement {}ms)",
+                    limit, reduced, toMillis(connectionWaitNanos), toMillis(statementLatencyNanos));
+                backoffCounter.increment();
+                limit = reduced;
+            }
+        } else if (saturated && limit < properties.maxConcurrency()) {
+            limit++;
+            released.signalAll();
+        }
+        saturated = false;
+    }
+
+    private Usage usage(String timerName) {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(timerName).tag("pool", properties.pool()).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        return new Usage(count, totalNanos);
+    }
+
+    private static long toMillis(double nanos) {
+        return (long) (nanos / 1_000_000);
+    }
+
+    /**
+     * 누적 지표. 직전 값과의 차이로 주기 동안의 평균을 구한다.
+     */
+    private record Usage(long count, double totalNanos) {
+        double meanNanosSince(Usage previous) {
+            long sampled = count - previous.count;
+            return sampled > 0 ? (totalNanos - previous.totalNanos) / sampled : 0;
+        }
+    }
+}
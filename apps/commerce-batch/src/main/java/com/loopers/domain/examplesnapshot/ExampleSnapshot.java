@@ -0,0 +1,51 @@
+package com.loopers.domain.examplesnapshot;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 example 스냅샷. exampleSnapshotJob 이 JDBC batch upsert 로 적재한다.
+ * 같은 일자로 재실행해도 중복 적재되지 않도록 (example_id, snapshot_date) 에 유니크 키를 둔다.
+ */
+@Entity
+@Table(
+    name = "example_snapshot",
+    uniqueConstraints = @UniqueConstraint(name = "uk_example_snapshot_example_id_snapshot_date", columnNames = {"example_id", "snapshot_date"})
+)
+public class ExampleSnapshot extends BaseEntity {
+
+    @Column(name = "example_id", nullable = false)
+    private Long exampleId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", nullable = false)
+    private String description;
+
+    protected ExampleSnapshot() {}
+
+    public Long getExampleId() {
+        return exampleId;
+    }
+
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
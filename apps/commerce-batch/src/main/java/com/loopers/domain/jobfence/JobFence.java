@@ -0,0 +1,35 @@
+package com.loopers.domain.jobfence;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * job 별로 DB 에 쓰기를 허용하는 가장 큰 fencing token. (job lock 을 획득할 때마다 증가하는 번호)
+ * 실행이 시작되면 자신의 token 으로 올리고, chunk 를 쓰기 전마다 자신의 token 과 같은지 확인한다.
+ */
+@Entity
+@Table(
+    name = "batch_job_fence",
+    uniqueConstraints = @UniqueConstraint(name = "uk_batch_job_fence_job_name", columnNames = "job_name")
+)
+public class JobFence extends BaseEntity {
+
+    @Column(name = "job_name", nullable = false)
+    private String jobName;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    protected JobFence() {}
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public Long getFencingToken() {
+        return fencingToken;
+    }
+}
@@ -1,12 +1,16 @@
 package com.loopers.job.demo;
 
 import com.loopers.batch.job.demo.DemoJobConfig;
+import com.loopers.support.lock.Lease;
+import com.loopers.support.lock.RedisLeaseLockManager;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
@@ -15,6 +19,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Duration;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -34,6 +39,9 @@ class DemoJobE2ETest {
     @Qualifier(DemoJobConfig.JOB_NAME)
     private Job job;
 
+    @Autowired
+    private RedisLeaseLockManager lockManager;
+
     @BeforeEach
     void beforeEach() {
 
@@ -73,4 +81,54 @@ class DemoJobE2ETest {
                 () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode())
         );
     }
+
+    @DisplayName("demoJob 의 비동기 chunk step 은 모든 item 을 여러 스레드에서 처리한 뒤 chunk 단위로 쓴다.")
+    @Test
+    void processesAllItemsAsynchronously() throws Exception {
+        // arrange
+        jobLauncherTestUtils.setJob(job);
+        // 같은 requestDate 로 실행하는 다른 테스트와 JobInstance 가 겹치지 않도록 고유 파라미터를 더한다.
+        var jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+            .addLocalDate("requestDate", LocalDate.now())
+            .toJobParameters();
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        var asyncChunkStep = jobExecution.getStepExecutions().stream()
+            .filter(stepExecution -> stepExecution.getStepName().equals("demoAsyncChunk"))
+            .findFirst()
+            .orElseThrow();
+        assertAll(
+            () -> assertThat(asyncChunkStep.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(asyncChunkStep.getReadCount()).isEqualTo(100),
+            () -> assertThat(asyncChunkStep.getWriteCount()).isEqualTo(100),
+            () -> assertThat(asyncChunkStep.getCommitCount()).isEqualTo(6)
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 demoJob 을 실행 중이면, step 을 실행하지 않고 NOOP 으로 끝난다.")
+    @Test
+    void skips_whenJobIsRunningOnAnotherInstance() throws Exception {
+        // arrange
+        jobLauncherTestUtils.setJob(job);
+        // 다른 테스트가 같은 requestDate 로 완료한 JobInstance 와 겹치지 않도록 run.id 를 붙인다.
+        var jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+            .addLocalDate("requestDate", LocalDate.now())
+            .toJobParameters();
+
+        JobExecution jobExecution;
+        try (Lease runningLease = lockManager.tryAcquire("batch-job", DemoJobConfig.JOB_NAME, Duration.ofSeconds(30)).orElseThrow()) {
+            // act
+            jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+        }
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.STOPPED),
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.NOOP.getExitCode()),
+            () -> assertThat(jobExecution.getStepExecutions().isEmpty()).isTrue()
+        );
+    }
 }
@@ -0,0 +1,186 @@
+package com.loopers.job.examplesnapshot;
+
+import com.loopers.batch.job.examplesnapshot.ExampleSnapshotJobConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = {
+    "spring.batch.job.name=" + ExampleSnapshotJobConfig.JOB_NAME,
+    "batch.task-executor.concurrency=4",
+})
+class ExampleSnapshotJobE2ETest {
+    private static final int ACTIVE_COUNT = 2_500;
+    private static final int DELETED_COUNT = 10;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(ExampleSnapshotJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        // example 테이블은 commerce-api 가 소유하므로, 테스트에서 직접 생성한다. (example_snapshot 은 ExampleSnapshot 엔티티로 생성된다)
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS example (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                name VARCHAR(255) NOT NULL,
+                description VARCHAR(255) NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                deleted_at DATETIME(6) NULL
+            )
+            """);
+
+        List<Object[]> rows = IntStream.range(0, ACTIVE_COUNT + DELETED_COUNT)
+            .mapToObj(i -> new Object[]{"예시 " + i, "설명 " + i, i < ACTIVE_COUNT ? null : "2024-01-01 00:00:00"})
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO example (name, description, created_at, updated_at, deleted_at) VALUES (?, ?, NOW(6), NOW(6), ?)",
+            rows
+        );
+        jobLauncherTestUtils.setJob(job);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS example");
+    }
+
+    @DisplayName("삭제되지 않은 example 만 실행 일자 기준으로 스냅샷에 적재된다.")
+    @Test
+    void snapshotsActiveExamples() throws Exception {
+        // arrange
+        LocalDate requestDate = LocalDate.of(2024, 1, 2);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters(requestDate));
+
+        // assert
+        Long snapshotCount = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM example_snapshot WHERE snapshot_date = ?", Long.class, requestDate
+        );
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(snapshotCount).isEqualTo(ACTIVE_COUNT),
+            // 파티션 step 1개 + worker step 여러 개로 나누어 실행된다.
+            () -> assertThat(jobExecution.getStepExecutions()).hasSizeGreaterThan(2)
+        );
+    }
+
+    @DisplayName("같은 실행 일자로 다시 실행해도, 스냅샷이 중복 적재되지 않는다.")
+    @Test
+    void isIdempotent_whenRerunWithSameRequestDate() throws Exception {
+        // arrange
+        LocalDate requestDate = LocalDate.of(2024, 1, 2);
+        jobLauncherTestUtils.launchJob(jobParameters(requestDate));
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters(requestDate));
+
+        // assert
+        Long snapshotCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example_snapshot", Long.class);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(snapshotCount).isEqualTo(ACTIVE_COUNT)
+        );
+    }
+
+    @DisplayName("대상 데이터가 없으면, 아무것도 적재하지 않고 정상 종료된다.")
+    @Test
+    void completes_whenNoTargetExists() throws Exception {
+        // arrange
+        jdbcTemplate.execute("DELETE FROM example");
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters(LocalDate.of(2024, 1, 2)));
+
+        // assert
+        Long snapshotCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example_snapshot", Long.class);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(snapshotCount).isZero()
+        );
+    }
+
+    @DisplayName("job lock 을 넘겨받은 다른 실행이 fence 를 더 큰 token 으로 올렸으면, 쓰지 않고 실패한다.")
+    @Test
+    void fails_whenFenceIsRaisedByNewerExecution() throws Exception {
+        // arrange
+        jdbcTemplate.update(
+            "INSERT INTO batch_job_fence (job_name, fencing_token, created_at, updated_at) VALUES (?, ?, NOW(6), NOW(6))",
+            ExampleSnapshotJobConfig.JOB_NAME, Long.MAX_VALUE
+        );
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters(LocalDate.of(2024, 1, 2)));
+
+        // assert
+        Long snapshotCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example_snapshot", Long.class);
+        assertAll(
+            () -> assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.FAILED),
+            () -> assertThat(snapshotCount).isZero()
+        );
+    }
+
+    @DisplayName("실행하면, fence 가 이번 실행의 fencing token 으로 올라간다.")
+    @Test
+    void raisesFence_whenJobRuns() throws Exception {
+        // arrange
+        jdbcTemplate.update(
+            "INSERT INTO batch_job_fence (job_name, fencing_token, created_at, updated_at) VALUES (?, ?, NOW(6), NOW(6))",
+            ExampleSnapshotJobConfig.JOB_NAME, 0L
+        );
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters(LocalDate.of(2024, 1, 2)));
+
+        // assert
+        Long fence = jdbcTemplate.queryForObject(
+            "SELECT fencing_token FROM batch_job_fence WHERE job_name = ?", Long.class, ExampleSnapshotJobConfig.JOB_NAME
+        );
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(fence).isPositive()
+        );
+    }
+
+    private JobParameters jobParameters(LocalDate requestDate) {
+        return new JobParametersBuilder()
+            .addLocalDate("requestDate", requestDate)
+            .addLong("run.id", System.nanoTime())
+            .toJobParameters();
+    }
+}
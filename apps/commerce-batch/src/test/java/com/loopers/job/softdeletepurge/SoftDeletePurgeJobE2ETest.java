@@ -0,0 +1,135 @@
+package com.loopers.job.softdeletepurge;
+
+import com.loopers.batch.job.softdeletepurge.SoftDeletePurgeJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = {
+    "spring.batch.job.name=" + SoftDeletePurgeJobConfig.JOB_NAME,
+    "batch.soft-delete-purge.tables=example",
+    "batch.soft-delete-purge.retention=30d",
+    "batch.soft-delete-purge.chunk-size=3",
+    "batch.soft-delete-purge.pause=0ms",
+})
+class SoftDeletePurgeJobE2ETest {
+    private static final int ACTIVE_COUNT = 5;
+    private static final int RECENTLY_DELETED_COUNT = 2;
+    private static final int EXPIRED_COUNT = 7;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(SoftDeletePurgeJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // example 테이블은 commerce-api 가 소유하므로, 테스트에서 직접 생성한다.
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS example (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                name VARCHAR(255) NOT NULL,
+                description VARCHAR(255) NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                deleted_at DATETIME(6) NULL,
+                INDEX idx_example_deleted_at_created_at (deleted_at, created_at)
+            )
+            """);
+
+        List<Object[]> rows = IntStream.range(0, ACTIVE_COUNT + RECENTLY_DELETED_COUNT + EXPIRED_COUNT)
+            .mapToObj(i -> new Object[]{"예시 " + i, "설명 " + i, deletedAt(i)})
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO example (name, description, created_at, updated_at, deleted_at) VALUES (?, ?, NOW(6), NOW(6), ?)",
+            rows
+        );
+        jobLauncherTestUtils.setJob(job);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS example_archive");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS example");
+    }
+
+    @DisplayName("보관 기간이 지난 삭제 행만 archive 테이블로 옮기고, 원본에서 삭제한다.")
+    @Test
+    void archivesAndPurgesExpiredRows() throws Exception {
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters());
+
+        // assert
+        Long remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example", Long.class);
+        Long remainingExpired = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM example WHERE deleted_at < NOW(6) - INTERVAL 30 DAY", Long.class
+        );
+        Long archived = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example_archive", Long.class);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(remaining).isEqualTo(ACTIVE_COUNT + RECENTLY_DELETED_COUNT),
+            () -> assertThat(remainingExpired).isZero(),
+            () -> assertThat(archived).isEqualTo(EXPIRED_COUNT),
+            // chunk-size(3) 단위로 나누어 커밋한다.
+            () -> assertThat(jobExecution.getStepExecutions().iterator().next().getCommitCount()).isGreaterThanOrEqualTo(3)
+        );
+    }
+
+    @DisplayName("다시 실행해도, 이미 옮긴 행은 중복 보관되지 않는다.")
+    @Test
+    void isIdempotent_whenRerun() throws Exception {
+        // arrange
+        jobLauncherTestUtils.launchJob(jobParameters());
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters());
+
+        // assert
+        Long archived = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM example_archive", Long.class);
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(archived).isEqualTo(EXPIRED_COUNT)
+        );
+    }
+
+    private static String deletedAt(int index) {
+        if (index < ACTIVE_COUNT) {
+            return null;
+        }
+        if (index < ACTIVE_COUNT + RECENTLY_DELETED_COUNT) {
+            return "2999-01-01 00:00:00";
+        }
+        return "2024-01-01 00:00:00";
+    }
+
+    private JobParameters jobParameters() {
+        return new JobParametersBuilder()
+            .addLong("run.id", System.nanoTime())
+            .toJobParameters();
+    }
+}
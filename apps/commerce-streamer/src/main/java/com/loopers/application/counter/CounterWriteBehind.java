@@ -0,0 +1,89 @@
+package com.loopers.application.counter;
+
+import com.loopers.domain.counter.CounterFlushService;
+import com.loopers.domain.counter.CounterSink;
+import com.loopers.support.counter.CounterSnapshot;
+import com.loopers.support.counter.RedisCounterStore;
+import com.loopers.support.lock.Lease;
+import com.loopers.support.lock.RedisLeaseLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 에 모인 카운터 증가분을 주기적으로 DB 에 반영한다. (write-behind)
+ * 카운터마다 lease lock 을 잡은 인스턴스 하나만 snapshot 을 가져가 반영하고, 반영이 커밋된 뒤 snapshot 을 지운다.
+ * 반영 중 장애가 나면 snapshot 이 남으므로 다음 주기에 다시 가져오며, 이미 커밋된 snapshot 은 건너뛰고 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "counter.write-behind.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class CounterWriteBehind {
+    private static final String LOCK_GROUP = "counter-write-behind";
+
+    private final List<CounterSink> sinks;
+    private final CounterFlushService counterFlushService;
+    private final RedisCounterStore counterStore;
+    private final RedisLeaseLockManager leaseLockManager;
+    private final CounterWriteBehindProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${counter.write-behind.interval:1s}")
+    public void flushAll() {
+        sinks.forEach(sink -> {
+            try {
+                flush(sink);
+            } catch (RuntimeException e) {
+                // snapshot 이 남아 있으므로 다음 주기에 다시 반영한다.
+                log.error("[counter={}] 증가분을 DB 에 반영하지 못했습니다.", sink.counter(), e);
+            }
+        });
+    }
+
+    private void flush(CounterSink sink) {
+        Optional<Lease> acquired = leaseLockManager.tryAcquire(LOCK_GROUP, sink.counter(), properties.leaseTime());
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (Lease lease = acquired.get()) {
+            // 다시 가져온 snapshot 을 반영했다면, 그동안 쌓인 pending 도 이번 주기에 이어서 반영한다.
+            Optional<CounterSnapshot> snapshot = counterStore.take(sink.counter());
+            while (snapshot.isPresent() && lease.isHeld()) {
+                boolean replayed = snapshot.get().replayed();
+                flush(sink, snapshot.get());
+                snapshot = replayed ? counterStore.take(sink.counter()) : Optional.empty();
+            }
+        }
+    }
+
+    private void flush(CounterSink sink, CounterSnapshot snapshot) {
+        if (snapshot.replayed()) {
+            log.warn("[counter={}, snapshot={}] 완료되지 않은 snapshot 을 다시 반영합니다.", sink.counter(), snapshot.id());
+        }
+
+        long startedAt = System.nanoTime();
+        boolean flushed = counterFlushService.flush(sink, snapshot.id(), snapshot.deltas());
+        counterStore.complete(snapshot);
+
+        Timer.builder("counter.write-behind.flush")
+            .tag("counter", sink.counter())
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        Counter.builder("counter.write-behind.snapshots")
+            .tag("counter", sink.counter())
+            .tag("result", flushed ? "flushed" : "duplicate")
+            .register(meterRegistry)
+            .increment();
+    }
+}
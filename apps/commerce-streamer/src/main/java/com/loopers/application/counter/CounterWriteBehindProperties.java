@@ -0,0 +1,20 @@
+package com.loopers.application.counter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Redis 에 모인 카운터 증가분을 DB 에 반영하는 설정.
+ * DB 에 보이는 값은 최대 (CounterBuffer 의 flushInterval + interval + 반영 시간) 만큼 늦다.
+ *
+ * @param interval  반영 주기. 짧을수록 DB 값이 최신에 가깝지만, upsert 가 자주 실행된다.
+ * @param leaseTime 카운터별 반영 lock 의 lease. 여러 인스턴스 중 하나만 반영한다.
+ */
+@ConfigurationProperties(prefix = "counter.write-behind")
+public record CounterWriteBehindProperties(
+    @DefaultValue("1s") Duration interval,
+    @DefaultValue("30s") Duration leaseTime
+) {
+}
@@ -0,0 +1,78 @@
+package com.loopers.application.event;
+
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.support.lock.Lease;
+import com.loopers.support.lock.RedisLeaseLockManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * 보관 기간이 지난 처리 완료 기록(event_handled)을 주기적으로 삭제한다.
+ * lease lock 을 잡은 인스턴스 하나만 삭제하며, chunkSize 행씩 나누어 지우고 청크 사이에 pause 만큼 쉰다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event-handled.retention.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class EventHandledRetention {
+    private static final String LOCK_GROUP = "event-handled-retention";
+    private static final String LOCK_KEY = "event_handled";
+
+    private final EventHandledRepository eventHandledRepository;
+    private final RedisLeaseLockManager leaseLockManager;
+    private final EventHandledRetentionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${event-handled.retention.interval:1h}")
+    public void purge() {
+        Optional<Lease> acquired = leaseLockManager.tryAcquire(LOCK_GROUP, LOCK_KEY, properties.leaseTime());
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (Lease lease = acquired.get()) {
+            // created_at 은 UTC 로 저장된다. (hibernate.jdbc.time_zone: UTC)
+            LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minus(properties.retention());
+            long purged = 0;
+            int deleted = properties.chunkSize();
+            while (deleted == properties.chunkSize() && lease.isHeld()) {
+                if (purged > 0) {
+                    pause();
+                }
+                deleted = eventHandledRepository.deleteCreatedBefore(cutoff, properties.chunkSize());
+                purged += deleted;
+            }
+
+            Counter.builder("event-handled.retention.purged")
+                .register(meterRegistry)
+                .increment(purged);
+            if (purged > 0) {
+                log.info("{} 이전의 처리 완료 기록 {} 건을 삭제했습니다.", cutoff, purged);
+            }
+        } catch (RuntimeException e) {
+            // 남은 기록은 다음 주기에 이어서 삭제한다.
+            log.error("처리 완료 기록을 삭제하지 못했습니다.", e);
+        }
+    }
+
+    private void pause() {
+        if (properties.pause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.pause().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("처리 완료 기록 삭제가 중단되었습니다.", e);
+        }
+    }
+}
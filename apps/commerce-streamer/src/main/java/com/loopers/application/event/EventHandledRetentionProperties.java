@@ -0,0 +1,25 @@
+package com.loopers.application.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 처리 완료 기록(event_handled) 보관 설정.
+ *
+ * @param retention 기록을 남겨두는 기간. 이벤트가 다시 전달될 수 있는 기간(topic 보관 기간, DLT 재발행)보다 길게 둔다.
+ * @param interval  삭제 주기
+ * @param chunkSize 한 번에 삭제하는 최대 행 수. 잠금 시간과 replica 지연을 작게 유지하도록 작게 둔다.
+ * @param pause     청크 사이 대기 시간 (replica 가 따라올 시간을 준다)
+ * @param leaseTime 삭제 lock 의 lease. 여러 인스턴스 중 하나만 삭제한다.
+ */
+@ConfigurationProperties(prefix = "event-handled.retention")
+public record EventHandledRetentionProperties(
+    @DefaultValue("14d") Duration retention,
+    @DefaultValue("1h") Duration interval,
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("100ms") Duration pause,
+    @DefaultValue("1m") Duration leaseTime
+) {
+}
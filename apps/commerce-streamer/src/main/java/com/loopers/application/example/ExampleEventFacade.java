@@ -0,0 +1,18 @@
+package com.loopers.application.example;
+
+import com.loopers.domain.example.ExampleEvent;
+import com.loopers.domain.example.ExampleMetricsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class ExampleEventFacade {
+    private final ExampleMetricsService exampleMetricsService;
+
+    public int handle(List<ExampleEvent> events) {
+        return exampleMetricsService.aggregate(events);
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.domain.counter;
+
+import com.loopers.domain.event.EventHandledRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class CounterFlushService {
+    private static final String HANDLED_ID_PREFIX = "counter-";
+
+    private final EventHandledRepository eventHandledRepository;
+
+    /**
+     * 반영 기록(event_handled)과 증가분이 같은 트랜잭션에서 커밋되므로, 같은 snapshot 을 다시 가져와도 한 번만 반영된다.
+     * 두 반영자가 동시에 반영하면 반영 기록의 unique key 로 한쪽이 롤백된다.
+     *
+     * @return 이번에 반영했으면 true, 이미 반영된 snapshot 이면 false
+     */
+    @Transactional
+    public boolean flush(CounterSink sink, String snapshotId, Map<String, Long> deltas) {
+        String handledId = HANDLED_ID_PREFIX + snapshotId;
+        if (!eventHandledRepository.findHandledEventIds(List.of(handledId)).isEmpty()) {
+            return false;
+        }
+
+        eventHandledRepository.saveAll(List.of(handledId));
+        sink.apply(deltas);
+        return true;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.domain.counter;
+
+import java.util.Map;
+
+/**
+ * Redis 에 모인 카운터 증가분을 DB 에 반영하는 대상. 카운터마다 하나씩 등록한다.
+ */
+public interface CounterSink {
+
+    /**
+     * @return 증가분을 쌓는 쪽(CounterBuffer)과 같은 카운터 이름
+     */
+    String counter();
+
+    /**
+     * id 별 증가분을 batch upsert 로 더한다. 호출하는 트랜잭션 안에서 실행된다.
+     */
+    void apply(Map<String, Long> deltas);
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.event;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 처리 완료한 이벤트의 id 를 기록해, 재전달된 이벤트를 중복 처리하지 않도록 한다.
+ * 재전달될 수 있는 기간이 지난 기록은 EventHandledRetention 이 created_at 순으로 지운다.
+ */
+@Entity
+@Table(
+    name = "event_handled",
+    uniqueConstraints = @UniqueConstraint(name = "uk_event_handled_event_id", columnNames = "event_id"),
+    indexes = @Index(name = "idx_event_handled_created_at", columnList = "created_at")
+)
+public class EventHandled extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    protected EventHandled() {}
+
+    public String getEventId() {
+        return eventId;
+    }
+}
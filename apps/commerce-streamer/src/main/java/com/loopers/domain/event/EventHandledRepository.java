@@ -0,0 +1,16 @@
+package com.loopers.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+public interface EventHandledRepository {
+    Set<String> findHandledEventIds(Collection<String> eventIds);
+
+    void saveAll(Collection<String> eventIds);
+
+    /**
+     * @return 삭제한 행 수. limit 보다 작으면 cutoff 이전의 기록이 더 없다.
+     */
+    int deleteCreatedBefore(LocalDateTime cutoff, int limit);
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.example;
+
+import java.time.ZonedDateTime;
+
+/**
+ * commerce-api 에서 발행한 example 변경 이벤트.
+ */
+public record ExampleEvent(String eventId, Long exampleId, Type type, ZonedDateTime occurredAt) {
+    public enum Type {
+        UPDATED,
+        DELETED,
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.domain.example;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.ZonedDateTime;
+
+/**
+ * example 별 변경 이벤트 집계. 컨슈머가 poll 단위로 모아 JDBC batch upsert 로 누적한다.
+ * 조회수(view_count)는 Redis 에 모인 증가분을 write-behind 로 누적한다. ({@link ExampleViewCountSink})
+ */
+@Entity
+@Table(name = "example_metrics", uniqueConstraints = @UniqueConstraint(name = "uk_example_metrics_example_id", columnNames = "example_id"))
+public class ExampleMetrics extends BaseEntity {
+
+    @Column(name = "example_id", nullable = false)
+    private Long exampleId;
+
+    @Column(name = "updated_count", nullable = false)
+    private long updatedCount;
+
+    @Column(name = "deleted_count", nullable = false)
+    private long deletedCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "last_event_at", nullable = false)
+    private ZonedDateTime lastEventAt;
+
+    protected ExampleMetrics() {}
+
+    public Long getExampleId() {
+        return exampleId;
+    }
+
+    public long getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public ZonedDateTime getLastEventAt() {
+        return lastEventAt;
+    }
+}
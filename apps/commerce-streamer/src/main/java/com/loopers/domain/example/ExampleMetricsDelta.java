@@ -0,0 +1,27 @@
+package com.loopers.domain.example;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 한 번의 poll 에서 모은 example 별 증가분.
+ */
+public record ExampleMetricsDelta(Long exampleId, long updatedCount, long deletedCount, ZonedDateTime lastEventAt) {
+
+    public static ExampleMetricsDelta from(ExampleEvent event) {
+        return new ExampleMetricsDelta(
+            event.exampleId(),
+            event.type() == ExampleEvent.Type.UPDATED ? 1 : 0,
+            event.type() == ExampleEvent.Type.DELETED ? 1 : 0,
+            event.occurredAt()
+        );
+    }
+
+    public ExampleMetricsDelta merge(ExampleMetricsDelta other) {
+        return new ExampleMetricsDelta(
+            exampleId,
+            updatedCount + other.updatedCount,
+            deletedCount + other.deletedCount,
+            lastEventAt.isAfter(other.lastEventAt) ? lastEventAt : other.lastEventAt
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.example;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ExampleMetricsRepository {
+    void increaseAll(Collection<ExampleMetricsDelta> deltas);
+
+    /**
+     * @param viewCounts example id 별 조회수 증가분
+     */
+    void increaseViewCounts(Map<Long, Long> viewCounts);
+}
@@ -0,0 +1,52 @@
+package com.loopers.domain.example;
+
+import com.loopers.domain.event.EventHandledRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+@Component
+public class ExampleMetricsService {
+    private final EventHandledRepository eventHandledRepository;
+    private final ExampleMetricsRepository exampleMetricsRepository;
+
+    /**
+     * 이미 처리한 이벤트를 제외하고, example 별 증가분을 한 번의 batch upsert 로 반영한다.
+     * 처리 기록과 집계가 같은 트랜잭션에서 커밋되므로, 재전달되어도 한 번만 반영된다.
+     *
+     * @return 새로 반영한 이벤트 수
+     */
+    @Transactional
+    public int aggregate(Collection<ExampleEvent> events) {
+        // 같은 poll 안에서 중복된 이벤트는 먼저 하나로 합친다.
+        Map<String, ExampleEvent> distinct = new LinkedHashMap<>();
+        events.forEach(event -> distinct.putIfAbsent(event.eventId(), event));
+        if (distinct.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> handled = eventHandledRepository.findHandledEventIds(distinct.keySet());
+        List<ExampleEvent> newEvents = distinct.values().stream()
+            .filter(event -> !handled.contains(event.eventId()))
+            .toList();
+        if (newEvents.isEmpty()) {
+            return 0;
+        }
+
+        // 동시에 실행되는 컨슈머끼리 row lock 을 같은 순서로 잡도록 example id 순으로 반영한다.
+        Map<Long, ExampleMetricsDelta> deltas = new TreeMap<>();
+        newEvents.forEach(event -> deltas.merge(event.exampleId(), ExampleMetricsDelta.from(event), ExampleMetricsDelta::merge));
+
+        eventHandledRepository.saveAll(newEvents.stream().map(ExampleEvent::eventId).toList());
+        exampleMetricsRepository.increaseAll(deltas.values());
+        return newEvents.size();
+    }
+}
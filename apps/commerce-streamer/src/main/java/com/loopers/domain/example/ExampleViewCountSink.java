@@ -0,0 +1,42 @@
+package com.loopers.domain.example;
+
+import com.loopers.domain.counter.CounterSink;
+import com.loopers.support.counter.CounterNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * commerce-api 가 example 을 조회할 때마다 쌓은 조회수 증가분을 example_metrics.view_count 에 더한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExampleViewCountSink implements CounterSink {
+    private final ExampleMetricsRepository exampleMetricsRepository;
+
+    @Override
+    public String counter() {
+        return CounterNames.EXAMPLE_VIEW;
+    }
+
+    @Override
+    public void apply(Map<String, Long> deltas) {
+        // 이벤트 집계와 row lock 을 같은 순서로 잡도록 example id 순으로 반영한다.
+        Map<Long, Long> viewCounts = new TreeMap<>();
+        deltas.forEach((id, delta) -> {
+            try {
+                viewCounts.merge(Long.valueOf(id), delta, Long::sum);
+            } catch (NumberFormatException e) {
+                // 잘못 쌓인 id 때문에 snapshot 전체가 반영되지 못하고 남지 않도록 건너뛴다.
+                log.warn("[counter={}] 잘못된 example id 의 증가분을 건너뜁니다. (id = {}, delta = {})", CounterNames.EXAMPLE_VIEW, id, delta);
+            }
+        });
+        if (!viewCounts.isEmpty()) {
+            exampleMetricsRepository.increaseViewCounts(viewCounts);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.EventHandledRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class EventHandledRepositoryImpl implements EventHandledRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findHandledEventIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        List<String> handled = jdbcTemplate.queryForList(
+            "SELECT event_id FROM event_handled WHERE event_id IN (:eventIds)",
+            Map.of("eventIds", eventIds),
+            String.class
+        );
+        return new HashSet<>(handled);
+    }
+
+    @Override
+    public void saveAll(Collection<String> eventIds) {
+        // BaseEntity 와 동일하게 UTC 기준으로 저장한다. (hibernate.jdbc.time_zone: UTC)
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+            "INSERT INTO event_handled (event_id, created_at, updated_at) VALUES (?, ?, ?)",
+            eventIds.stream().map(eventId -> new Object[]{eventId, now, now}).toList()
+        );
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime cutoff, int limit) {
+        // created_at 인덱스 순서대로 limit 행만 지우므로, 잠금 범위와 한 번의 삭제 시간이 limit 에 비례한다.
+        return jdbcTemplate.update(
+            "DELETE FROM event_handled WHERE created_at < :cutoff ORDER BY created_at LIMIT :limit",
+            new MapSqlParameterSource().addValue("cutoff", cutoff).addValue("limit", limit)
+        );
+    }
+}
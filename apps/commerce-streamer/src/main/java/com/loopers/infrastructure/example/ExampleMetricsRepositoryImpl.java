@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.example;
+
+import com.loopers.domain.example.ExampleMetricsDelta;
+import com.loopers.domain.example.ExampleMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class ExampleMetricsRepositoryImpl implements ExampleMetricsRepository {
+    private static final String UPSERT_SQL = """
+        INSERT INTO example_metrics (example_id, updated_count, deleted_count, view_count, last_event_at, created_at, updated_at)
+        VALUES (?, ?, ?, 0, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            updated_count = updated_count + VALUES(updated_count),
+            deleted_count = deleted_count + VALUES(deleted_count),
+            last_event_at = GREATEST(last_event_at, VALUES(last_event_at)),
+            updated_at = VALUES(updated_at)
+        """;
+    // 처음 조회된 example 은 이벤트가 아직 없으므로, last_event_at 은 행을 만든 시각으로 둔다.
+    private static final String UPSERT_VIEW_COUNT_SQL = """
+        INSERT INTO example_metrics (example_id, updated_count, deleted_count, view_count, last_event_at, created_at, updated_at)
+        VALUES (?, 0, 0, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            view_count = view_count + VALUES(view_count),
+            updated_at = VALUES(updated_at)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increaseAll(Collection<ExampleMetricsDelta> deltas) {
+        // rewriteBatchedStatements 로 한 번의 multi-row upsert 로 전송된다.
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(
+            UPSERT_SQL,
+            deltas.stream()
+                .map(delta -> new Object[]{
+                    delta.exampleId(),
+                    delta.updatedCount(),
+                    delta.deletedCount(),
+                    delta.lastEventAt().withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime(),
+                    now,
+                    now,
+                })
+                .toList()
+        );
+    }
+
+    @Override
+    public void increaseViewCounts(Map<Long, Long> viewCounts) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(
+            UPSERT_VIEW_COUNT_SQL,
+            viewCounts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue(), now, now, now})
+                .toList()
+        );
+    }
+}
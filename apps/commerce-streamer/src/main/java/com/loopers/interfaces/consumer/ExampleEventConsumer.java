@@ -0,0 +1,73 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.example.ExampleEventFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.example.ExampleEvent;
+import com.loopers.support.kafka.KeyShardedBatchProcessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ExampleEventConsumer {
+    private final ExampleEventFacade exampleEventFacade;
+    private final ByteArrayJsonMessageConverter jsonMessageConverter;
+    private final KeyShardedBatchProcessor keyShardedBatchProcessor;
+
+    /**
+     * poll 단위로 받은 레코드를 exampleId(key) 기준 샤드로 나누어 병렬로 반영한다.
+     * 샤드마다 한 번의 트랜잭션으로 반영하고, 커밋이 끝난 뒤 파티션별로 연속 처리된 offset 까지만 커밋한다.
+     * 반영에 실패한 레코드는 retry topic 으로 넘겨, 같은 파티션의 나머지 이벤트를 막지 않는다.
+     */
+    @KafkaListener(
+        topics = {"${example-kafka.events.topic-name}"},
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void exampleEventListener(
+        List<ConsumerRecord<String, byte[]>> records,
+        Consumer<?, ?> consumer
+    ) {
+        keyShardedBatchProcessor.processAndCommit(records, consumer, this::handle);
+    }
+
+    /**
+     * retry topic 의 레코드는 단계별 대기 시간이 지난 뒤에 다시 반영한다.
+     * 단계마다 별도의 컨테이너에서 due 된 레코드만 전달된다. ({@link ExampleEventTopicConfig#exampleEventRetryListenerContainers})
+     */
+    public void exampleEventRetryListener(
+        List<ConsumerRecord<Object, Object>> records,
+        Consumer<?, ?> consumer
+    ) {
+        keyShardedBatchProcessor.processAndCommit(records, consumer, this::handle);
+    }
+
+    private <K, V> void handle(List<ConsumerRecord<K, V>> records) {
+        List<ExampleEvent> events = records.stream()
+            .map(this::toEvent)
+            .flatMap(Optional::stream)
+            .toList();
+        if (events.size() != records.size()) {
+            log.warn("알 수 없는 example 이벤트 {}건을 건너뜁니다.", records.size() - events.size());
+        }
+        exampleEventFacade.handle(events);
+    }
+
+    /**
+     * 역직렬화할 수 없는 레코드는 예외를 던져 retry topic / DLT 로 보낸다.
+     */
+    private Optional<ExampleEvent> toEvent(ConsumerRecord<?, ?> record) {
+        ExampleEventMessage message = (ExampleEventMessage) jsonMessageConverter
+            .toMessage(record, null, null, ExampleEventMessage.class)
+            .getPayload();
+        return message.toEvent();
+    }
+}
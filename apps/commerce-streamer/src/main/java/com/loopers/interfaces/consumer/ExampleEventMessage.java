@@ -0,0 +1,26 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.domain.example.ExampleEvent;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * example 변경 이벤트의 메시지 포맷. (key: exampleId)
+ */
+public record ExampleEventMessage(String eventId, Long exampleId, String eventType, ZonedDateTime occurredAt) {
+
+    /**
+     * 필수 값이 없거나 알 수 없는 이벤트 타입이면 비어있는 값을 반환한다.
+     */
+    public Optional<ExampleEvent> toEvent() {
+        if (eventId == null || exampleId == null || occurredAt == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(ExampleEvent.Type.values())
+            .filter(type -> type.name().equals(eventType))
+            .findFirst()
+            .map(type -> new ExampleEvent(eventId, exampleId, type, occurredAt));
+    }
+}
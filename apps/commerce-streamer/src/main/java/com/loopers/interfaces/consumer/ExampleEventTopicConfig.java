@@ -0,0 +1,55 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.KafkaRetryTopicProperties;
+import com.loopers.support.kafka.RetryTopicListenerContainers;
+import com.loopers.support.kafka.RetryTopicRouter;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * example 이벤트의 retry topic / DLT 를 기동 시점에 생성하고(auto.create.topics.enable: false), retry topic 을 단계별로 소비한다.
+ */
+@Configuration
+public class ExampleEventTopicConfig {
+
+    @Bean
+    public KafkaAdmin.NewTopics exampleEventRetryTopics(
+        @Value("${example-kafka.events.topic-name}") String topic,
+        RetryTopicRouter retryTopicRouter,
+        KafkaRetryTopicProperties properties
+    ) {
+        return new KafkaAdmin.NewTopics(
+            retryTopicRouter.allTopics(topic).stream()
+                .map(name -> TopicBuilder.name(name).partitions(properties.partitions()).build())
+                .toArray(NewTopic[]::new)
+        );
+    }
+
+    /**
+     * retry topic 은 단계마다 별도의 consumer group 으로 소비해, 본 topic 의 컨슈머와 rebalance 를 나누지 않는다.
+     */
+    @Bean
+    public RetryTopicListenerContainers exampleEventRetryListenerContainers(
+        @Qualifier(KafkaConfig.BATCH_LISTENER) ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory,
+        RetryTopicRouter retryTopicRouter,
+        ExampleEventConsumer exampleEventConsumer,
+        @Value("${example-kafka.events.topic-name}") String topic,
+        @Value("${spring.kafka.consumer.group-id}") String groupId
+    ) {
+        return new RetryTopicListenerContainers(
+            containerFactory,
+            retryTopicRouter,
+            topic,
+            groupId,
+            1,
+            exampleEventConsumer::exampleEventRetryListener
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.interfaces.endpoint;
+
+import com.loopers.support.kafka.DltReplayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * DLT 에 쌓인 레코드를 원래 topic 으로 재발행하는 운영용 endpoint. (management port 로만 노출)
+ * 인증 없이 쓰기가 가능하므로 기본으로 꺼져 있다. 재발행이 필요할 때만 management.endpoint.dlt.access=unrestricted 와
+ * management.endpoints.web.exposure.include 에 dlt 를 추가해 켠다.
+ * <pre>
+ * POST /actuator/dlt/example.internal.topic-v1.dlt?limit=100
+ * </pre>
+ */
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "dlt", defaultAccess = Access.NONE)
+public class DltReplayEndpoint {
+    private static final int DEFAULT_LIMIT = 1_000;
+
+    private final DltReplayer dltReplayer;
+
+    @WriteOperation
+    public ReplayResult replay(@Selector String topic, @Nullable Integer limit) {
+        int replayed = dltReplayer.replay(topic, limit != null ? limit : DEFAULT_LIMIT);
+        return new ReplayResult(topic, replayed);
+    }
+
+    public record ReplayResult(String topic, int replayed) {}
+}
@@ -0,0 +1,208 @@
+package com.loopers.application.counter;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.counter.CounterFlushService;
+import com.loopers.domain.counter.CounterSink;
+import com.loopers.domain.example.ExampleViewCountSink;
+import com.loopers.support.counter.CounterNames;
+import com.loopers.support.counter.CounterSnapshot;
+import com.loopers.support.counter.RedisCounterStore;
+import com.loopers.support.lock.RedisLeaseLockManager;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 스케줄러가 테스트 도중 snapshot 을 가져가지 않도록 스케줄 빈은 끄고, 같은 의존성으로 직접 만들어 호출한다.
+ */
+@SpringBootTest(properties = "counter.write-behind.enabled=false")
+class CounterWriteBehindIntegrationTest {
+    private static final String COUNTER = CounterNames.EXAMPLE_VIEW;
+    private static final String PENDING_KEY = "counter:{" + COUNTER + "}:pending";
+
+    @Autowired
+    private List<CounterSink> sinks;
+
+    @Autowired
+    private ExampleViewCountSink exampleViewCountSink;
+
+    @Autowired
+    private CounterFlushService counterFlushService;
+
+    @Autowired
+    private RedisCounterStore counterStore;
+
+    @Autowired
+    private RedisLeaseLockManager leaseLockManager;
+
+    @Autowired
+    private CounterWriteBehindProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private CounterWriteBehind counterWriteBehind;
+
+    @BeforeEach
+    void setUp() {
+        counterWriteBehind = new CounterWriteBehind(sinks, counterFlushService, counterStore, leaseLockManager, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("쌓인 증가분을 반영할 때, ")
+    @Nested
+    class FlushAll {
+        @DisplayName("pending 증가분을 한 번 반영하고, 반영 기록을 남긴 뒤 snapshot 을 지운다.")
+        @Test
+        void flushesPendingOnce() {
+            // arrange
+            increment("1", 3);
+            increment("2", 1);
+
+            // act
+            counterWriteBehind.flushAll();
+            counterWriteBehind.flushAll();
+
+            // assert
+            assertAll(
+                () -> assertThat(viewCountOf(1L)).isEqualTo(3L),
+                () -> assertThat(viewCountOf(2L)).isEqualTo(1L),
+                () -> assertThat(counterHandledCount()).isEqualTo(1),
+                () -> assertThat(counterKeys()).isEmpty()
+            );
+        }
+
+        @DisplayName("반영 전에 중단된 snapshot 은 다시 가져와 한 번 반영하고, 그 뒤에 쌓인 pending 도 이어서 반영한다.")
+        @Test
+        void replaysSnapshot_whenPreviousFlushStoppedBeforeCommit() {
+            // arrange
+            increment("1", 3);
+            CounterSnapshot taken = counterStore.take(COUNTER).orElseThrow();
+            increment("1", 2);
+
+            // act
+            counterWriteBehind.flushAll();
+
+            // assert
+            assertAll(
+                () -> assertThat(taken.deltas()).containsEntry("1", 3L),
+                () -> assertThat(viewCountOf(1L)).isEqualTo(5L),
+                () -> assertThat(counterHandledCount()).isEqualTo(2),
+                () -> assertThat(counterKeys()).isEmpty()
+            );
+        }
+
+        @DisplayName("커밋 후 완료되지 않은 snapshot 은 다시 반영하지 않고 지우며, 그 뒤에 쌓인 pending 만 반영한다.")
+        @Test
+        void skipsSnapshot_whenPreviousFlushCommittedBeforeComplete() {
+            // arrange
+            increment("1", 3);
+            CounterSnapshot taken = counterStore.take(COUNTER).orElseThrow();
+            counterFlushService.flush(exampleViewCountSink, taken.id(), taken.deltas());
+            increment("1", 2);
+
+            // act
+            counterWriteBehind.flushAll();
+
+            // assert
+            assertAll(
+                () -> assertThat(viewCountOf(1L)).isEqualTo(5L),
+                () -> assertThat(counterHandledCount()).isEqualTo(2),
+                () -> assertThat(counterKeys()).isEmpty()
+            );
+        }
+
+        @DisplayName("다른 인스턴스가 반영 lock 을 잡고 있으면, 반영하지 않는다.")
+        @Test
+        void skips_whenLockIsHeldByAnotherInstance() {
+            // arrange
+            increment("1", 3);
+            leaseLockManager.tryAcquire("counter-write-behind", COUNTER, properties.leaseTime()).orElseThrow();
+
+            // act
+            counterWriteBehind.flushAll();
+
+            // assert
+            assertAll(
+                () -> assertThat(viewCountOf(1L)).isNull(),
+                () -> assertThat(redisTemplate.hasKey(PENDING_KEY)).isTrue()
+            );
+        }
+    }
+
+    @DisplayName("snapshot 을 DB 에 반영할 때, ")
+    @Nested
+    class Flush {
+        @DisplayName("같은 snapshot 을 다시 반영하면, false 를 반환하고 증가분을 더하지 않는다.")
+        @Test
+        void returnsFalse_whenSnapshotIsAlreadyFlushed() {
+            // arrange
+            boolean first = counterFlushService.flush(exampleViewCountSink, "snapshot-1", Map.of("1", 3L));
+
+            // act
+            boolean second = counterFlushService.flush(exampleViewCountSink, "snapshot-1", Map.of("1", 3L));
+
+            // assert
+            assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(second).isFalse(),
+                () -> assertThat(viewCountOf(1L)).isEqualTo(3L),
+                () -> assertThat(counterHandledCount()).isEqualTo(1)
+            );
+        }
+    }
+
+    private void increment(String id, long delta) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, id, delta);
+    }
+
+    private Long viewCountOf(Long exampleId) {
+        List<Long> viewCounts = jdbcTemplate.queryForList(
+            "SELECT view_count FROM example_metrics WHERE example_id = ?", Long.class, exampleId
+        );
+        return viewCounts.isEmpty() ? null : viewCounts.get(0);
+    }
+
+    private long counterHandledCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_handled WHERE event_id LIKE 'counter-%'", Long.class);
+    }
+
+    private Set<String> counterKeys() {
+        return redisTemplate.keys("counter:{" + COUNTER + "}:*");
+    }
+}
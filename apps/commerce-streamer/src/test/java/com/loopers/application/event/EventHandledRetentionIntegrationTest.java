@@ -0,0 +1,100 @@
+package com.loopers.application.event;
+
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.support.lock.RedisLeaseLockManager;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄러가 테스트 도중 삭제하지 않도록 스케줄 빈은 끄고, 청크를 작게 둔 설정으로 직접 만들어 호출한다.
+ */
+@SpringBootTest(properties = "event-handled.retention.enabled=false")
+class EventHandledRetentionIntegrationTest {
+    private static final Duration RETENTION = Duration.ofDays(14);
+
+    @Autowired
+    private EventHandledRepository eventHandledRepository;
+
+    @Autowired
+    private RedisLeaseLockManager leaseLockManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private final EventHandledRetentionProperties properties =
+        new EventHandledRetentionProperties(RETENTION, Duration.ofHours(1), 2, Duration.ZERO, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("보관 기간이 지난 기록만 여러 청크에 걸쳐 모두 삭제한다.")
+    @Test
+    void purgesOnlyExpiredRecords() {
+        // arrange
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        for (int i = 1; i <= 5; i++) {
+            insert("expired-" + i, now.minus(RETENTION).minusHours(i));
+        }
+        insert("recent-1", now.minus(RETENTION).plusHours(1));
+        insert("recent-2", now);
+        EventHandledRetention retention = new EventHandledRetention(eventHandledRepository, leaseLockManager, properties, meterRegistry);
+
+        // act
+        retention.purge();
+
+        // assert
+        assertThat(eventIds()).containsExactlyInAnyOrder("recent-1", "recent-2");
+    }
+
+    @DisplayName("다른 인스턴스가 삭제 lock 을 잡고 있으면, 삭제하지 않는다.")
+    @Test
+    void skips_whenLockIsHeldByAnotherInstance() {
+        // arrange
+        insert("expired-1", LocalDateTime.now(ZoneOffset.UTC).minus(RETENTION).minusHours(1));
+        leaseLockManager.tryAcquire("event-handled-retention", "event_handled", properties.leaseTime()).orElseThrow();
+        EventHandledRetention retention = new EventHandledRetention(eventHandledRepository, leaseLockManager, properties, meterRegistry);
+
+        // act
+        retention.purge();
+
+        // assert
+        assertThat(eventIds()).containsExactly("expired-1");
+    }
+
+    private void insert(String eventId, LocalDateTime createdAt) {
+        jdbcTemplate.update(
+            "INSERT INTO event_handled (event_id, created_at, updated_at) VALUES (?, ?, ?)",
+            eventId, createdAt, createdAt
+        );
+    }
+
+    private List<String> eventIds() {
+        return jdbcTemplate.queryForList("SELECT event_id FROM event_handled", String.class);
+    }
+}
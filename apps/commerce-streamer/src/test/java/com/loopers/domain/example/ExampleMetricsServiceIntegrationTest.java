@@ -0,0 +1,138 @@
+package com.loopers.domain.example;
+
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+class ExampleMetricsServiceIntegrationTest {
+    @Autowired
+    private ExampleMetricsService exampleMetricsService;
+
+    @MockitoSpyBean
+    private ExampleMetricsRepository exampleMetricsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("이벤트를 집계할 때, ")
+    @Nested
+    class Aggregate {
+        @DisplayName("같은 poll 안에 중복된 이벤트는, 한 번만 반영된다.")
+        @Test
+        void appliesOnce_whenPollContainsDuplicates() {
+            // arrange
+            ExampleEvent event = event("e-1", 1L, ExampleEvent.Type.UPDATED);
+
+            // act
+            int applied = exampleMetricsService.aggregate(List.of(event, event, event("e-2", 1L, ExampleEvent.Type.DELETED)));
+
+            // assert
+            Map<String, Object> metrics = metricsOf(1L);
+            assertAll(
+                () -> assertThat(applied).isEqualTo(2),
+                () -> assertThat(metrics).containsEntry("updated_count", 1L).containsEntry("deleted_count", 1L),
+                () -> assertThat(handledCount()).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("이미 반영된 이벤트가 다시 전달되면, 새 이벤트만 반영된다.")
+        @Test
+        void appliesOnlyNewEvents_whenEventIsRedelivered() {
+            // arrange
+            exampleMetricsService.aggregate(List.of(event("e-1", 1L, ExampleEvent.Type.UPDATED)));
+
+            // act
+            int applied = exampleMetricsService.aggregate(List.of(
+                event("e-1", 1L, ExampleEvent.Type.UPDATED),
+                event("e-2", 1L, ExampleEvent.Type.UPDATED)
+            ));
+
+            // assert
+            assertAll(
+                () -> assertThat(applied).isEqualTo(1),
+                () -> assertThat(metricsOf(1L)).containsEntry("updated_count", 2L),
+                () -> assertThat(handledCount()).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("모두 이미 반영된 이벤트이면, 아무것도 반영하지 않는다.")
+        @Test
+        void appliesNothing_whenAllEventsAreHandled() {
+            // arrange
+            List<ExampleEvent> events = List.of(event("e-1", 1L, ExampleEvent.Type.UPDATED), event("e-2", 2L, ExampleEvent.Type.UPDATED));
+            exampleMetricsService.aggregate(events);
+
+            // act
+            int applied = exampleMetricsService.aggregate(events);
+
+            // assert
+            assertAll(
+                () -> assertThat(applied).isZero(),
+                () -> assertThat(metricsOf(1L)).containsEntry("updated_count", 1L),
+                () -> assertThat(metricsOf(2L)).containsEntry("updated_count", 1L)
+            );
+        }
+
+        @DisplayName("집계 반영이 커밋 전에 실패하면, 처리 기록도 롤백되어 재전달 시 다시 반영된다.")
+        @Test
+        void rollsBackHandledEvents_whenUpsertFailsBeforeCommit() {
+            // arrange
+            List<ExampleEvent> events = List.of(event("e-1", 1L, ExampleEvent.Type.UPDATED), event("e-2", 2L, ExampleEvent.Type.DELETED));
+            doThrow(new IllegalStateException("upsert failed")).when(exampleMetricsRepository).increaseAll(any());
+
+            // act
+            assertThrows(IllegalStateException.class, () -> exampleMetricsService.aggregate(events));
+            long handledAfterFailure = handledCount();
+            reset(exampleMetricsRepository);
+            int applied = exampleMetricsService.aggregate(events);
+
+            // assert
+            assertAll(
+                () -> assertThat(handledAfterFailure).isZero(),
+                () -> assertThat(applied).isEqualTo(2),
+                () -> assertThat(metricsOf(1L)).containsEntry("updated_count", 1L),
+                () -> assertThat(metricsOf(2L)).containsEntry("deleted_count", 1L)
+            );
+        }
+    }
+
+    private ExampleEvent event(String eventId, Long exampleId, ExampleEvent.Type type) {
+        return new ExampleEvent(eventId, exampleId, type, ZonedDateTime.now());
+    }
+
+    private Map<String, Object> metricsOf(Long exampleId) {
+        return jdbcTemplate.queryForMap(
+            "SELECT updated_count, deleted_count FROM example_metrics WHERE example_id = ?", exampleId
+        );
+    }
+
+    private long handledCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_handled", Long.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.example.ExampleMetricsRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class ExampleEventConsumerIntegrationTest {
+    @Autowired
+    private ExampleEventConsumer exampleEventConsumer;
+
+    @MockitoSpyBean
+    private ExampleMetricsRepository exampleMetricsRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Value("${example-kafka.events.topic-name}")
+    private String topic;
+
+    // 실제 listener 가 retry topic 에서 다시 반영하더라도 다른 테스트의 집계와 섞이지 않도록 테스트마다 다른 example 을 쓴다.
+    private final long exampleId = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("반영이 커밋된 뒤에, 마지막 레코드의 다음 offset 을 커밋한다.")
+    @Test
+    void commitsOffset_afterTransactionCommits() throws Exception {
+        // arrange
+        List<ConsumerRecord<String, byte[]>> records = records(0L, "UPDATED", "UPDATED", "DELETED");
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        List<Long> handledAtCommit = new ArrayList<>();
+        List<Map<TopicPartition, OffsetAndMetadata>> commits = new ArrayList<>();
+        doAnswer(invocation -> {
+            handledAtCommit.add(handledCount());
+            commits.add(invocation.getArgument(0));
+            return null;
+        }).when(consumer).commitSync(anyMap());
+
+        // act
+        exampleEventConsumer.exampleEventListener(records, consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(handledAtCommit).containsExactly(3L),
+            () -> assertThat(commits).containsExactly(Map.of(new TopicPartition(topic, 0), new OffsetAndMetadata(3L))),
+            () -> assertThat(updatedCount()).isEqualTo(2L)
+        );
+    }
+
+    @DisplayName("커밋 전에 같은 poll 이 다시 전달되어도, 집계는 한 번만 반영된다.")
+    @Test
+    void appliesOnce_whenPollIsRedelivered() throws Exception {
+        // arrange
+        List<ConsumerRecord<String, byte[]>> records = records(0L, "UPDATED", "UPDATED");
+        Consumer<?, ?> consumer = mock(Consumer.class);
+
+        // act
+        exampleEventConsumer.exampleEventListener(records, consumer);
+        exampleEventConsumer.exampleEventListener(records, consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(updatedCount()).isEqualTo(2L),
+            () -> assertThat(handledCount()).isEqualTo(2L)
+        );
+    }
+
+    @DisplayName("반영이 커밋 전에 실패하면, 처리 기록을 남기지 않고 레코드를 retry topic 으로 넘긴 뒤 offset 을 커밋한다.")
+    @Test
+    void routesToRetryTopicWithoutHandling_whenTransactionFails() throws Exception {
+        // arrange
+        List<ConsumerRecord<String, byte[]>> records = records(10L, "UPDATED", "DELETED");
+        Consumer<?, ?> consumer = mock(Consumer.class);
+        doThrow(new IllegalStateException("upsert failed")).when(exampleMetricsRepository).increaseAll(any());
+
+        // act
+        exampleEventConsumer.exampleEventListener(records, consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(handledCount()).isZero(),
+            () -> verify(consumer).commitSync(Map.of(new TopicPartition(topic, 0), new OffsetAndMetadata(12L))),
+            () -> verify(consumer, never()).seek(any(TopicPartition.class), any(Long.class))
+        );
+    }
+
+    private List<ConsumerRecord<String, byte[]>> records(long firstOffset, String... eventTypes) throws Exception {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        for (int i = 0; i < eventTypes.length; i++) {
+            ExampleEventMessage message = new ExampleEventMessage(UUID.randomUUID().toString(), exampleId, eventTypes[i], ZonedDateTime.now());
+            records.add(new ConsumerRecord<>(topic, 0, firstOffset + i, String.valueOf(exampleId), objectMapper.writeValueAsBytes(message)));
+        }
+        return records;
+    }
+
+    private long updatedCount() {
+        return jdbcTemplate.queryForObject("SELECT updated_count FROM example_metrics WHERE example_id = ?", Long.class, exampleId);
+    }
+
+    private long handledCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_handled", Long.class);
+    }
+}
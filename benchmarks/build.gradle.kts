@@ -0,0 +1,26 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmhImplementation(project(":apps:commerce-api"))
+    jmhImplementation(project(":modules:jpa"))
+    jmhImplementation(project(":modules:redis"))
+    jmhImplementation("org.springframework.boot:spring-boot-starter-web")
+    jmhRuntimeOnly("com.h2database:h2")
+}
+
+jmh {
+    jmhVersion = "${project.properties["jmhVersion"]}"
+    includeTests = false
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // 커밋 간 비교를 위해 결과를 JSON 으로 남긴다. (ex. ./gradlew :benchmarks:jmh -PjmhIncludes=ApiResponse)
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    project.findProperty("jmhIncludes")?.let { includes = listOf(it.toString()) }
+}
+
+// 의존성(spring, hibernate 등)을 모두 포함하므로 엔트리 수가 65535 를 넘는다.
+tasks.named<Jar>("jmhJar") { isZip64 = true }
@@ -0,0 +1,54 @@
+package com.loopers.benchmark;
+
+import com.loopers.interfaces.api.ApiControllerAdvice;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에러 응답 생성 비용을 측정한다.
+ * handle(CoreException) 은 로그 출력 비용이 지배적이므로 제외하고, 예외 생성(stack trace 포함) 비용은 따로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiControllerAdviceBenchmark {
+    private ApiControllerAdvice advice;
+    private MissingServletRequestParameterException missingParameter;
+    private NoResourceFoundException noResource;
+
+    @Setup
+    public void setUp() {
+        advice = new ApiControllerAdvice();
+        missingParameter = new MissingServletRequestParameterException("ids", "List");
+        noResource = new NoResourceFoundException(HttpMethod.GET, "/api/v1/unknown");
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<?>> missingParameterResponse() {
+        return advice.handleBadRequest(missingParameter);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<?>> notFoundResponse() {
+        return advice.handleNotFound(noResource);
+    }
+
+    @Benchmark
+    public CoreException createCoreException() {
+        return new CoreException(ErrorType.NOT_FOUND, "[id = 1] 예시를 찾을 수 없습니다.");
+    }
+}
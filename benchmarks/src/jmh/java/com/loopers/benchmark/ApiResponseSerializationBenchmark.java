@@ -0,0 +1,90 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션과 같은 ObjectMapper (JacksonAutoConfiguration + JacksonConfig customizer) 로 응답 직렬화 비용을 측정한다.
+ * reflective* 는 같은 ObjectMapper 에서 ApiResponseSerializer 만 끈 기준선이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiResponseSerializationBenchmark {
+    private AnnotationConfigApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveObjectMapper;
+
+    private ApiResponse<ExampleV1Dto.ExampleResponse> successResponse;
+    private ApiResponse<Object> failResponse;
+    private String successJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        context = new AnnotationConfigApplicationContext();
+        context.register(JacksonAutoConfiguration.class);
+        context.scan("com.loopers.config.jackson");
+        context.refresh();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        successResponse = ApiResponse.success(new ExampleV1Dto.ExampleResponse(1L, "예시 제목", "예시 설명"));
+        failResponse = ApiResponse.fail("Not Found", "[id = 1] 예시를 찾을 수 없습니다.");
+        successJson = objectMapper.writeValueAsString(successResponse);
+
+        reflectiveObjectMapper = objectMapper.copy().addMixIn(ApiResponse.class, ReflectiveApiResponse.class);
+        if (!successJson.equals(reflectiveObjectMapper.writeValueAsString(successResponse))
+            || !objectMapper.writeValueAsString(failResponse).equals(reflectiveObjectMapper.writeValueAsString(failResponse))) {
+            throw new IllegalStateException("ApiResponseSerializer 의 출력이 기본 직렬화와 다릅니다.");
+        }
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface ReflectiveApiResponse {
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeSuccess() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(successResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeFail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(failResponse);
+    }
+
+    @Benchmark
+    public byte[] reflectiveSerializeSuccess() throws JsonProcessingException {
+        return reflectiveObjectMapper.writeValueAsBytes(successResponse);
+    }
+
+    @Benchmark
+    public byte[] reflectiveSerializeFail() throws JsonProcessingException {
+        return reflectiveObjectMapper.writeValueAsBytes(failResponse);
+    }
+
+    @Benchmark
+    public ApiResponse<?> deserializeSuccess() throws JsonProcessingException {
+        return objectMapper.readValue(successJson, ApiResponse.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.benchmark;
+
+import com.loopers.CommerceApiApplication;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleService;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 현재 저장 경로(JpaRepository.saveAll, IDENTITY 라 행마다 INSERT)와 JDBC batch 경로(BaseEntityBulkWriter)의 초당 저장 행 수를 비교한다.
+ * 점수는 rows/s 이다. (OperationsPerInvocation = ROWS_PER_CALL)
+ * in-memory H2 는 round trip 비용이 없으므로, 네트워크를 거치는 MySQL 에서는 차이가 더 크게 난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class ExampleBulkInsertBenchmark {
+    private static final int ROWS_PER_CALL = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private ExampleJpaRepository exampleJpaRepository;
+    private ExampleService exampleService;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transaction;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommerceApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.profiles.active=local",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--outbox.relay.enabled=false",
+                "--datasource.mysql-jpa.routing.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--logging.level.root=WARN",
+                "--logging.level.com.loopers=WARN",
+                "--datasource.mysql-jpa.main.driver-class-name=org.h2.Driver",
+                "--datasource.mysql-jpa.main.jdbc-url=jdbc:h2:mem:bulk-insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--datasource.mysql-jpa.main.username=sa",
+                "--datasource.mysql-jpa.main.password="
+            );
+        exampleJpaRepository = context.getBean(ExampleJpaRepository.class);
+        exampleService = context.getBean(ExampleService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    /**
+     * 측정 중 테이블이 계속 커지지 않도록 iteration 마다 비운다.
+     */
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE example");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_CALL)
+    public List<ExampleModel> jpaSaveAll() {
+        return transaction.execute(status -> exampleJpaRepository.saveAll(examples()));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_CALL)
+    public List<Long> jdbcBulkInsert() {
+        return exampleService.createAll(examples());
+    }
+
+    private static List<ExampleModel> examples() {
+        return IntStream.rangeClosed(1, ROWS_PER_CALL)
+            .mapToObj(i -> new ExampleModel("예시 제목 " + i, "예시 설명 " + i))
+            .toList();
+    }
+}
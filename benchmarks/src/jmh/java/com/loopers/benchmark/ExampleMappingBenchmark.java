@@ -0,0 +1,46 @@
+package com.loopers.benchmark;
+
+import com.loopers.application.example.ExampleInfo;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * domain → application → interfaces 로 이어지는 매핑 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExampleMappingBenchmark {
+    private ExampleModel model;
+    private ExampleInfo info;
+
+    @Setup
+    public void setUp() {
+        model = new ExampleModel("예시 제목", "예시 설명");
+        info = ExampleInfo.from(model);
+    }
+
+    @Benchmark
+    public ExampleInfo modelToInfo() {
+        return ExampleInfo.from(model);
+    }
+
+    @Benchmark
+    public ExampleV1Dto.ExampleResponse infoToResponse() {
+        return ExampleV1Dto.ExampleResponse.from(info);
+    }
+
+    @Benchmark
+    public ExampleV1Dto.ExampleResponse modelToResponse() {
+        return ExampleV1Dto.ExampleResponse.from(ExampleInfo.from(model));
+    }
+}
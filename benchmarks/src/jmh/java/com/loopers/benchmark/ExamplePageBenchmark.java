@@ -0,0 +1,122 @@
+package com.loopers.benchmark;
+
+import com.loopers.CommerceApiApplication;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.domain.example.ExampleSortType;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import com.loopers.support.pagination.KeysetPage;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.loopers.domain.example.QExampleModel.exampleModel;
+
+/**
+ * 같은 깊이의 페이지를 OFFSET 과 keyset(커서) 방식으로 조회하는 비용을 비교한다.
+ * keyset 은 depth 와 무관하게 size + 1 행만 읽어야 한다. (depth 별 keyset 점수가 벌어지면 인덱스 범위 탐색이 깨진 것이다)
+ * in-memory H2 는 OFFSET 으로 건너뛰는 행의 비용이 작아 차이가 작게 측정되며, MySQL 에서는 건너뛸 행을 모두 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExamplePageBenchmark {
+    private static final int ROW_COUNT = 50_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "10000", "49000"})
+    private int depth;
+
+    private ConfigurableApplicationContext context;
+    private ExampleRepository exampleRepository;
+    private JPAQueryFactory queryFactory;
+    private TransactionTemplate readOnlyTransaction;
+    private String cursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommerceApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.profiles.active=local",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--outbox.relay.enabled=false",
+                "--datasource.mysql-jpa.routing.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--logging.level.root=WARN",
+                "--logging.level.com.loopers=WARN",
+                "--datasource.mysql-jpa.main.driver-class-name=org.h2.Driver",
+                "--datasource.mysql-jpa.main.jdbc-url=jdbc:h2:mem:page-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--datasource.mysql-jpa.main.username=sa",
+                "--datasource.mysql-jpa.main.password="
+            );
+        exampleRepository = context.getBean(ExampleRepository.class);
+        queryFactory = context.getBean(JPAQueryFactory.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        ExampleJpaRepository exampleJpaRepository = context.getBean(ExampleJpaRepository.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            exampleJpaRepository.saveAll(
+                IntStream.rangeClosed(1, ROW_COUNT)
+                    .mapToObj(i -> new ExampleModel("예시 제목 " + i, "예시 설명 " + i))
+                    .toList()
+            )
+        );
+
+        // depth 번째 행 직전까지 커서를 이동시켜 둔다.
+        cursor = null;
+        int skipped = 0;
+        while (skipped < depth) {
+            int size = Math.min(1_000, depth - skipped);
+            String current = cursor;
+            cursor = readOnlyTransaction.execute(status ->
+                exampleRepository.findPage(ExampleSortType.LATEST.getKeysetSort(), current, size).nextCursor()
+            );
+            skipped += size;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public KeysetPage<ExampleModel> keyset() {
+        return readOnlyTransaction.execute(status ->
+            exampleRepository.findPage(ExampleSortType.LATEST.getKeysetSort(), cursor, PAGE_SIZE)
+        );
+    }
+
+    @Benchmark
+    public List<ExampleModel> offset() {
+        return readOnlyTransaction.execute(status ->
+            queryFactory.selectFrom(exampleModel)
+                .where(exampleModel.deletedAt.isNull())
+                .orderBy(exampleModel.createdAt.desc(), exampleModel.id.desc())
+                .offset(depth)
+                .limit(PAGE_SIZE)
+                .fetch()
+        );
+    }
+}
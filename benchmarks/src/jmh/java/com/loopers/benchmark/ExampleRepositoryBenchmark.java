@@ -0,0 +1,95 @@
+package com.loopers.benchmark;
+
+import com.loopers.CommerceApiApplication;
+import com.loopers.domain.example.ExampleModel;
+import com.loopers.domain.example.ExampleRepository;
+import com.loopers.infrastructure.example.ExampleJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * ExampleRepositoryImpl 의 조회 경로(JPA + QueryDSL + Hikari)를 in-memory H2 로 측정한다.
+ * 네트워크 비용이 없으므로 MySQL 대비 절대값이 아닌, 커밋 간 상대 비교 용도로 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExampleRepositoryBenchmark {
+    private static final int ROW_COUNT = 10_000;
+    private static final int BULK_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private ExampleRepository exampleRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommerceApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.profiles.active=local",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--outbox.relay.enabled=false",
+                "--datasource.mysql-jpa.routing.enabled=false",
+                "--datasource.mysql-jpa.second-level-cache.enabled=false", // find 가 캐시가 아닌 DB 조회 경로를 측정하도록 한다
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--logging.level.root=WARN",
+                "--logging.level.com.loopers=WARN",
+                "--datasource.mysql-jpa.main.driver-class-name=org.h2.Driver",
+                "--datasource.mysql-jpa.main.jdbc-url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--datasource.mysql-jpa.main.username=sa",
+                "--datasource.mysql-jpa.main.password="
+            );
+        exampleRepository = context.getBean(ExampleRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        ExampleJpaRepository exampleJpaRepository = context.getBean(ExampleJpaRepository.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            exampleJpaRepository.saveAll(
+                IntStream.rangeClosed(1, ROW_COUNT)
+                    .mapToObj(i -> new ExampleModel("예시 제목 " + i, "예시 설명 " + i))
+                    .toList()
+            )
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<ExampleModel> find() {
+        long id = ThreadLocalRandom.current().nextLong(1, ROW_COUNT + 1);
+        return readOnlyTransaction.execute(status -> exampleRepository.find(id));
+    }
+
+    @Benchmark
+    public List<ExampleModel> findAllByIds() {
+        long from = ThreadLocalRandom.current().nextLong(1, ROW_COUNT - BULK_SIZE + 1);
+        List<Long> ids = LongStream.range(from, from + BULK_SIZE).boxed().toList();
+        return readOnlyTransaction.execute(status -> exampleRepository.findAllByIds(ids));
+    }
+}
@@ -0,0 +1,115 @@
+package com.loopers.benchmark;
+
+import com.loopers.config.redis.RedisPipelineProperties;
+import com.loopers.support.redis.RedisBatchOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 명령마다 왕복하는 RedisTemplate 호출과 RedisBatchOperations 의 파이프라인 호출을 비교한다.
+ * docker/infra-compose.yml 의 redis-master (localhost:6379) 가 필요하다.
+ * 로컬 Redis 는 왕복 비용이 작으므로, 네트워크를 거치는 운영 환경에서는 차이가 더 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisBatchOperationsBenchmark {
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String RANKING_KEY = "benchmark:ranking";
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisBatchOperations batchOperations;
+
+    private List<String> keys;
+    private Map<String, String> values;
+    private Map<String, Double> scoreDeltas;
+
+    @Setup
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        StringRedisSerializer serializer = new StringRedisSerializer();
+        redisTemplate.setKeySerializer(serializer);
+        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        batchOperations = new RedisBatchOperations(redisTemplate, redisTemplate, new RedisPipelineProperties(500));
+
+        keys = IntStream.range(0, size).mapToObj(i -> "benchmark:example:" + i).toList();
+        values = new LinkedHashMap<>();
+        scoreDeltas = new LinkedHashMap<>();
+        keys.forEach(key -> {
+            values.put(key, "{\"id\":1,\"name\":\"예시 제목\",\"description\":\"예시 설명\"}");
+            scoreDeltas.put(key, 1.0);
+        });
+        batchOperations.setAll(values, TTL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        batchOperations.deleteAll(keys);
+        redisTemplate.delete(RANKING_KEY);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public int perCommandGet() {
+        int found = 0;
+        for (String key : keys) {
+            if (redisTemplate.opsForValue().get(key) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int batchGet() {
+        return batchOperations.getAll(keys).size();
+    }
+
+    @Benchmark
+    public void perCommandSet() {
+        values.forEach((key, value) -> redisTemplate.opsForValue().set(key, value, TTL));
+    }
+
+    @Benchmark
+    public void batchSet() {
+        batchOperations.setAll(values, TTL);
+    }
+
+    @Benchmark
+    public void perCommandIncrementScore() {
+        scoreDeltas.forEach((member, delta) -> redisTemplate.opsForZSet().incrementScore(RANKING_KEY, member, delta));
+    }
+
+    @Benchmark
+    public void batchIncrementScore() {
+        batchOperations.incrementScores(RANKING_KEY, scoreDeltas);
+    }
+}
@@ -0,0 +1,119 @@
+package com.loopers.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisCodecProperties;
+import com.loopers.interfaces.api.example.ExampleV1Dto;
+import com.loopers.support.redis.codec.RedisValueCodec;
+import com.loopers.support.redis.codec.RedisValueCompression;
+import com.loopers.support.redis.codec.RedisValueFormat;
+import com.loopers.support.redis.codec.RedisValueTemplateFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Redis 에 저장하는 값의 크기와 직렬화 비용을 기존 문자열 경로(ObjectMapper -> String -> StringRedisSerializer)와 비교한다.
+ * 값의 크기(Redis 메모리 사용량에 비례)는 serialize 결과의 길이로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RedisValueCodecBenchmark {
+    private static final StringRedisSerializer STRING_SERIALIZER = new StringRedisSerializer();
+
+    /** string = 기존 문자열 경로, 나머지는 RedisValueCodec 의 {format}-{compression} */
+    @Param({"string", "json-none", "smile-none", "json-lz4", "smile-lz4"})
+    private String codec;
+
+    /** single = 예시 하나, page = 예시 100 개 */
+    @Param({"single", "page"})
+    private String payload;
+
+    private AnnotationConfigApplicationContext context;
+    private ObjectMapper objectMapper;
+    private JavaType valueType;
+    private RedisValueCodec<Object> valueCodec;
+    private Object value;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        context = new AnnotationConfigApplicationContext();
+        context.register(JacksonAutoConfiguration.class);
+        context.scan("com.loopers.config.jackson");
+        context.refresh();
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        if (payload.equals("single")) {
+            value = example(1L);
+            valueType = objectMapper.constructType(ExampleV1Dto.ExampleResponse.class);
+        } else {
+            value = LongStream.rangeClosed(1, 100).mapToObj(RedisValueCodecBenchmark::example).toList();
+            valueType = objectMapper.getTypeFactory().constructCollectionType(List.class, ExampleV1Dto.ExampleResponse.class);
+        }
+
+        if (!codec.equals("string")) {
+            String[] spec = codec.split("-");
+            RedisCodecProperties properties = new RedisCodecProperties(
+                RedisValueFormat.valueOf(spec[0].toUpperCase()),
+                RedisValueCompression.valueOf(spec[1].toUpperCase()),
+                DataSize.ofBytes(512)
+            );
+            // 연결은 사용하지 않으므로 시작하지 않은 connection factory 를 넘긴다.
+            valueCodec = new RedisValueTemplateFactory(
+                new LettuceConnectionFactory(), new LettuceConnectionFactory(), objectMapper, properties
+            ).codec(valueType);
+        }
+
+        serialized = serialize();
+        if (!value.equals(deserialize())) {
+            throw new IllegalStateException("역직렬화한 값이 원본과 다릅니다. (codec = " + codec + ")");
+        }
+        // 헤더가 없는 기존 문자열 값도 읽을 수 있어야 한다.
+        if (valueCodec != null && !value.equals(valueCodec.deserialize(STRING_SERIALIZER.serialize(objectMapper.writeValueAsString(value))))) {
+            throw new IllegalStateException("기존 문자열 값을 읽지 못했습니다. (codec = " + codec + ")");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        if (valueCodec == null) {
+            return STRING_SERIALIZER.serialize(objectMapper.writeValueAsString(value));
+        }
+        return valueCodec.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws JsonProcessingException {
+        if (valueCodec == null) {
+            return objectMapper.readValue(STRING_SERIALIZER.deserialize(serialized), valueType);
+        }
+        return valueCodec.deserialize(serialized);
+    }
+
+    private static ExampleV1Dto.ExampleResponse example(long id) {
+        return new ExampleV1Dto.ExampleResponse(id, "예시 제목 " + id, "예시 설명입니다. 캐시에 저장되는 응답의 크기를 비교하기 위한 문장입니다. " + id);
+    }
+}
@@ -13,6 +13,11 @@ dependencies {
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
+    // pool metrics
+    implementation("io.micrometer:micrometer-core")
+    // second-level cache (JCache / Caffeine)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
 
     testImplementation("org.testcontainers:mysql")
 
@@ -0,0 +1,113 @@
+package com.loopers.config.jpa;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커넥션 획득을 semaphore 로 제한한다.
+ * virtual thread 모드에서는 요청 스레드 수의 상한이 사라지므로, 수천 개의 요청이 커넥션 풀 앞에서 대기하다 한꺼번에 timeout 되지 않도록
+ * 동시 점유 수(maxConcurrency)와 대기 수(maxWaiting)를 제한하고, 대기열을 넘는 요청은 즉시 실패시킨다.
+ * 커넥션을 close 하면 permit 을 반환한다.
+ */
+class BulkheadDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final Duration acquireTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    BulkheadDataSource(DataSource targetDataSource, DataSourceBulkheadProperties properties) {
+        super(targetDataSource);
+        this.permits = new Semaphore(properties.maxConcurrency(), true);
+        this.maxWaiting = properties.maxWaiting();
+        this.acquireTimeout = properties.acquireTimeout();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw new SQLTransientConnectionException("커넥션 대기열이 가득 찼습니다. (maxWaiting=" + maxWaiting + ")");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("커넥션을 " + acquireTimeout.toMillis() + "ms 내에 획득하지 못했습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트되었습니다.", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private Connection releaseOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        InvocationHandler handler = (proxy, method, args) -> {
+            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                try {
+                    return invoke(connection, method, args);
+                } finally {
+                    permits.release();
+                }
+            }
+            return invoke(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(
+            BulkheadDataSource.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            handler
+        );
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled        bulkhead 사용 여부 (virtual thread 모드에서 활성화한다)
+ * @param maxConcurrency 동시에 커넥션을 점유할 수 있는 최대 요청 수 (커넥션 풀 크기와 맞춘다)
+ * @param maxWaiting     커넥션을 기다릴 수 있는 최대 요청 수. 초과 시 대기하지 않고 즉시 실패한다.
+ * @param acquireTimeout 커넥션 대기 시간
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.bulkhead")
+public record DataSourceBulkheadProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("40") int maxConcurrency,
+        @DefaultValue("200") int maxWaiting,
+        @DefaultValue("3s") Duration acquireTimeout
+) { }
@@ -1,14 +1,24 @@
 package com.loopers.config.jpa;
 
+import com.loopers.support.export.StreamingQueryExecutor;
+import com.loopers.support.query.QueryInspector;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import javax.sql.DataSource;
+
 @Configuration
+@EnableConfigurationProperties({DataSourceBulkheadProperties.class, DataSourceRoutingProperties.class, QueryMetricsProperties.class})
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +26,114 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
+    @Bean
+    @ConfigurationProperties(prefix = "datasource.mysql-jpa.replica")
+    HikariConfig mySqlReplicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "datasource.mysql-jpa.export")
+    HikariConfig mySqlExportHikariConfig() {
+        return new HikariConfig();
+    }
+
+    /**
+     * 지표를 수집하지 않는 애플리케이션에서도 N+1 / 슬로우 쿼리 로그는 남도록 메모리 registry 를 사용한다.
+     */
+    @Bean
+    QueryInspector queryInspector(QueryMetricsProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new QueryInspector(meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new), properties);
+    }
+
+    /**
+     * routing 이 활성화되면 읽기 전용 트랜잭션은 replica pool, 나머지는 main pool 을 사용한다.
+     * pool 별 지표(hikaricp.connections.*)는 pool-name 태그로, statement 지표(jdbc.statements)는 pool 태그로 구분한다.
+     */
     @Primary
     @Bean
-    HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
-        return new HikariDataSource(hikariConfig);
+    DataSource mySqlMainDataSource(
+        @Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig,
+        @Qualifier("mySqlReplicaHikariConfig") HikariConfig replicaHikariConfig,
+        DataSourceBulkheadProperties bulkheadProperties,
+        DataSourceRoutingProperties routingProperties,
+        QueryMetricsProperties queryMetricsProperties,
+        QueryInspector queryInspector,
+        ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        DataSource primary = withQueryMetrics(
+            mainDataSource(hikariConfig, bulkheadProperties, meterRegistry),
+            hikariConfig.getPoolName(),
+            queryMetricsProperties,
+            queryInspector
+        );
+        if (!routingProperties.enabled()) {
+            return primary;
+        }
+
+        HikariDataSource replica = new HikariDataSource(withMetrics(replicaHikariConfig, meterRegistry));
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, routingProperties);
+        if (meterRegistry != null) {
+            lagMonitor.bindTo(meterRegistry);
+        }
+        return new ReadWriteRoutingDataSource(
+            primary,
+            withQueryMetrics(replica, replicaHikariConfig.getPoolName(), queryMetricsProperties, queryInspector),
+            lagMonitor,
+            meterRegistry
+        );
+    }
+
+    /**
+     * export 처럼 오래 걸리는 스트리밍 조회 전용 pool. DataSource bean 으로 노출하지 않아 JPA / 요청 처리에는 쓰이지 않는다.
+     * 커넥션은 조회할 때만 열고(minimum-idle: 0), 동시에 실행할 수 있는 조회 수는 maximum-pool-size 로 제한한다.
+     */
+    @Bean
+    StreamingQueryExecutor streamingQueryExecutor(
+        @Qualifier("mySqlExportHikariConfig") HikariConfig hikariConfig,
+        QueryMetricsProperties queryMetricsProperties,
+        QueryInspector queryInspector,
+        ObjectProvider<MeterRegistry> meterRegistryProvider
+    ) {
+        HikariDataSource dataSource = new HikariDataSource(withMetrics(hikariConfig, meterRegistryProvider.getIfAvailable()));
+        return new StreamingQueryExecutor(
+            withQueryMetrics(dataSource, hikariConfig.getPoolName(), queryMetricsProperties, queryInspector),
+            hikariConfig.getMaximumPoolSize()
+        );
+    }
+
+    private DataSource mainDataSource(
+        HikariConfig hikariConfig,
+        DataSourceBulkheadProperties bulkheadProperties,
+        MeterRegistry meterRegistry
+    ) {
+        HikariDataSource dataSource = new HikariDataSource(withMetrics(hikariConfig, meterRegistry));
+        if (!bulkheadProperties.enabled()) {
+            return dataSource;
+        }
+        return new BulkheadDataSource(dataSource, bulkheadProperties);
+    }
+
+    /**
+     * bulkhead 바깥에서 감싸, bulkhead 대기열 초과로 커넥션을 얻지 못한 경우도 기록한다.
+     */
+    private DataSource withQueryMetrics(
+        DataSource dataSource,
+        String pool,
+        QueryMetricsProperties properties,
+        QueryInspector queryInspector
+    ) {
+        if (!properties.enabled()) {
+            return dataSource;
+        }
+        return new QueryMetricsDataSource(dataSource, pool, queryInspector);
+    }
+
+    private HikariConfig withMetrics(HikariConfig hikariConfig, MeterRegistry meterRegistry) {
+        if (meterRegistry != null && hikariConfig.getMetricsTrackerFactory() == null) {
+            hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return hikariConfig;
     }
 }
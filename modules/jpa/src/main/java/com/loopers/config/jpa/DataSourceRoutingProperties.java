@@ -0,0 +1,18 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled          replica 라우팅 사용 여부. 비활성화하면 모든 트랜잭션이 main pool 을 사용한다.
+ * @param maxLag           허용하는 replica 복제 지연. 초과하면 읽기 전용 트랜잭션도 main pool 로 보낸다.
+ * @param lagCheckInterval replica 복제 지연 확인 주기
+ */
+@ConfigurationProperties(value = "datasource.mysql-jpa.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration lagCheckInterval
+) { }
@@ -0,0 +1,90 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.entitycache.EntityCacheBroadcaster;
+import com.loopers.support.entitycache.EntityCacheInvalidation;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 2차 캐시를 soft delete 에 맞게 유지하고, 커밋된 변경을 다른 노드에 알린다.
+ * <ul>
+ *     <li>2차 캐시 조회에는 soft delete 필터가 적용되지 않으므로, 삭제된 엔티티는 캐시에 남기지 않는다.
+ *     (삭제가 커밋되었을 때, 필터를 끄고 삭제된 엔티티를 읽었을 때 지운다.)</li>
+ *     <li>수정 / 삭제가 커밋되면 {@link EntityCacheBroadcaster} 로 다른 노드에 알린다.</li>
+ * </ul>
+ * 커밋 후 리스너는 Hibernate 가 자신의 캐시를 갱신한 뒤에 호출되므로, 여기서 지운 엔티티가 다시 채워지지 않는다.
+ */
+@Slf4j
+class EntityCacheEventListener implements PostLoadEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+    private final ObjectProvider<EntityCacheBroadcaster> broadcasters;
+
+    EntityCacheEventListener(ObjectProvider<EntityCacheBroadcaster> broadcasters) {
+        this.broadcasters = broadcasters;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        if (event.getPersister().canWriteToCache() && isDeleted(event.getEntity())) {
+            evict(event.getSession().getFactory(), event.getPersister(), event.getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (isDeleted(event.getEntity())) {
+            evict(event.getSession().getFactory(), event.getPersister(), event.getId());
+        }
+        broadcast(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        broadcast(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백되었다면 Hibernate 가 캐시 항목을 풀어두므로 알릴 변경이 없다.
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    private void broadcast(EntityPersister persister, Object id) {
+        if (!(id instanceof Long entityId)) {
+            return;
+        }
+        EntityCacheInvalidation invalidation = new EntityCacheInvalidation(persister.getEntityName(), entityId);
+        broadcasters.orderedStream().forEach(broadcaster -> {
+            try {
+                broadcaster.broadcast(invalidation);
+            } catch (RuntimeException e) {
+                // 이미 커밋되었으므로 요청을 실패시키지 않는다. 다른 노드는 ttl 이 지나면 갱신된다.
+                log.warn("[entity={}, id={}] 2차 캐시 무효화를 알리지 못했습니다.", invalidation.entityName(), entityId, e);
+            }
+        });
+    }
+
+    private static void evict(SessionFactoryImplementor sessionFactory, EntityPersister persister, Object id) {
+        sessionFactory.getCache().evictEntityData(persister.getEntityName(), id);
+    }
+
+    private static boolean isDeleted(Object entity) {
+        return entity instanceof BaseEntity baseEntity && baseEntity.getDeletedAt() != null;
+    }
+}
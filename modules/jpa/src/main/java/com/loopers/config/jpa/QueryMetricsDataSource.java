@@ -0,0 +1,129 @@
+package com.loopers.config.jpa;
+
+import com.loopers.support.query.QueryInspector;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션과 statement 를 감싸, 실행한 statement 의 SQL 과 실행 시간을 {@link QueryInspector} 에 기록한다.
+ * 커넥션을 얻지 못한 경우(pool 대기 timeout 등)도 pool 별로 기록한다.
+ */
+class QueryMetricsDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final String pool;
+    private final QueryInspector inspector;
+
+    QueryMetricsDataSource(DataSource targetDataSource, String pool, QueryInspector inspector) {
+        super(targetDataSource);
+        this.pool = pool;
+        this.inspector = inspector;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return wrap(super.getConnection());
+        } catch (SQLException e) {
+            inspector.recordConnectionFailure(pool, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        try {
+            return wrap(super.getConnection(username, password));
+        } catch (SQLException e) {
+            inspector.recordConnectionFailure(pool, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement / prepareCall 은 첫 인자가 SQL 이다.
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return wrap(statement, sql);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(
+            QueryMetricsDataSource.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            handler
+        );
+    }
+
+    private Statement wrap(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+        InvocationHandler handler = new StatementHandler(statement, preparedSql);
+        return (Statement) Proxy.newProxyInstance(QueryMetricsDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+        private String batchSql;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args[0] instanceof String sql && batchSql == null) {
+                // Statement 의 batch 는 첫 SQL 로 기록한다.
+                batchSql = sql;
+            }
+            if (!name.startsWith("execute")) {
+                return QueryMetricsDataSource.invoke(statement, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed
+                : preparedSql != null ? preparedSql
+                : batchSql;
+            if (name.contains("Batch")) {
+                batchSql = null;
+            }
+            long startedAt = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = QueryMetricsDataSource.invoke(statement, method, args);
+                failed = false;
+                return result;
+            } finally {
+                inspector.record(pool, sql, System.nanoTime() - startedAt, failed);
+            }
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param enabled             statement 지표 / 슬로우 쿼리 로그 / N+1 탐지 사용 여부
+ * @param slowQueryThreshold  이 시간 이상 걸린 statement 를 슬로우 쿼리로 기록한다.
+ * @param slowQuerySampleRate 슬로우 쿼리 중 로그로 남기는 비율 (0.0 ~ 1.0). 지표(jdbc.statements.slow)는 모두 기록한다.
+ * @param nPlusOneThreshold   하나의 요청 / 트랜잭션에서 같은 SQL 이 이 횟수 이상 실행되면 N+1 로 의심한다.
+ * @param maxSqlTags          지표의 sql 태그로 구분하는 SQL 종류 수. 넘으면 "other" 로 묶어 Prometheus 시계열이 늘어나지 않게 한다.
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.query-metrics")
+public record QueryMetricsProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500ms") Duration slowQueryThreshold,
+    @DefaultValue("0.1") double slowQuerySampleRate,
+    @DefaultValue("10") int nPlusOneThreshold,
+    @DefaultValue("300") int maxSqlTags
+) {
+
+    public QueryMetricsProperties {
+        if (slowQuerySampleRate < 0 || slowQuerySampleRate > 1) {
+            throw new IllegalArgumentException("slowQuerySampleRate 는 0.0 ~ 1.0 이어야 합니다.");
+        }
+        if (nPlusOneThreshold < 2) {
+            throw new IllegalArgumentException("nPlusOneThreshold 는 2 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.config.jpa;
+
+import com.loopers.support.routing.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 트랜잭션의 read-only 여부로 main / replica pool 을 고른다.
+ * 커넥션은 첫 statement 를 실행할 때 획득하므로, 트랜잭션 매니저가 read-only 를 지정한 뒤에 어느 pool 을 쓸지 결정된다.
+ * replica 가 사용할 수 없는 상태(복제 지연 초과 등)이거나 {@link PrimaryReads} 로 감싼 작업이면 읽기 전용 트랜잭션도 main pool 을 사용한다.
+ */
+class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    ReadWriteRoutingDataSource(
+        DataSource primary,
+        DataSource replica,
+        ReplicaLagMonitor lagMonitor,
+        MeterRegistry meterRegistry
+    ) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        setReadOnlyDataSource(new ReplicaOrPrimaryDataSource(meterRegistry));
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagMonitor.close();
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private class ReplicaOrPrimaryDataSource extends DelegatingDataSource {
+        private final Counter fallbacks;
+
+        ReplicaOrPrimaryDataSource(MeterRegistry meterRegistry) {
+            super(replica);
+            this.fallbacks = meterRegistry == null ? null : Counter.builder("datasource.replica.fallback")
+                .description("replica 를 사용할 수 없어 main pool 로 보낸 읽기 전용 커넥션 수")
+                .register(meterRegistry);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (PrimaryReads.isPinned()) {
+                return primary.getConnection();
+            }
+            if (lagMonitor.isAvailable()) {
+                return replica.getConnection();
+            }
+            if (fallbacks != null) {
+                fallbacks.increment();
+            }
+            return primary.getConnection();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * replica 의 복제 지연(Seconds_Behind_Source)을 주기적으로 확인한다.
+ * 지연이 maxLag 를 넘거나, 복제가 멈췄거나(NULL), 확인에 실패하면 replica 를 사용할 수 없는 상태로 본다.
+ * 복제 구성이 없는 서버(SHOW REPLICA STATUS 결과 없음)는 지연이 없는 것으로 본다. (local 등 main 과 같은 DB 를 바라보는 경우)
+ */
+@Slf4j
+class ReplicaLagMonitor implements AutoCloseable {
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean available = false;
+    private volatile double lagSeconds = Double.NaN;
+    private boolean failing = false;
+
+    ReplicaLagMonitor(DataSource replica, DataSourceRoutingProperties properties) {
+        this.replica = replica;
+        this.maxLag = properties.maxLag();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.lagCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::check, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    boolean isAvailable() {
+        return available;
+    }
+
+    void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+            .description("replica 복제 지연(초). 확인할 수 없으면 NaN")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+            .description("읽기 전용 트랜잭션을 replica 로 보내는지 여부")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void check() {
+        boolean wasAvailable = available;
+        try {
+            lagSeconds = queryLagSeconds();
+            available = !Double.isNaN(lagSeconds) && lagSeconds <= maxLag.toSeconds();
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            available = false;
+            if (!failing) {
+                failing = true;
+                log.warn("replica 복제 지연을 확인하지 못했습니다. 읽기 전용 트랜잭션을 main pool 로 보냅니다.", e);
+            }
+            return;
+        }
+        failing = false;
+        if (wasAvailable != available) {
+            log.info("replica 라우팅 상태 변경: available={}, lag={}s, maxLag={}s", available, lagSeconds, maxLag.toSeconds());
+        }
+    }
+
+    private double queryLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            if (!resultSet.next()) {
+                return 0;
+            }
+            long lag = resultSet.getLong(LAG_COLUMN);
+            return resultSet.wasNull() ? Double.NaN : lag;
+        }
+    }
+}
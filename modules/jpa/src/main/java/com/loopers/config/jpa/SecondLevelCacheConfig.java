@@ -0,0 +1,107 @@
+package com.loopers.config.jpa;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.loopers.support.entitycache.EntityCacheBroadcaster;
+import com.loopers.support.entitycache.EntityCacheEvictor;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시를 노드 로컬 Caffeine(JCache) region 으로 구성한다. (datasource.mysql-jpa.second-level-cache)
+ * region 마다 ttl / 최대 크기를 두고, region 별 조회 결과를 cache.gets{cache=region, result=hit|miss} 로 기록한다.
+ * 노드 간 일관성은 {@link EntityCacheBroadcaster} 로 맞추며, 알림을 받지 못한 노드도 ttl 이 지나면 DB 에서 다시 읽는다.
+ */
+@ConditionalOnProperty(name = "datasource.mysql-jpa.second-level-cache.enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@Configuration
+class SecondLevelCacheConfig {
+    private static final String CACHE_MANAGER = "jpaSecondLevelCacheManager";
+
+    /**
+     * {@link javax.cache.Caching} 의 provider 는 JVM 전역이라, 같은 URI 의 CacheManager 를 여러 ApplicationContext(테스트 등)가 나누어 쓰게 된다.
+     * context 마다 provider 와 URI(통계 MBean 이름에도 쓰인다)를 새로 만들고, context 가 닫힐 때 CacheManager 도 닫는다.
+     */
+    @Bean(name = CACHE_MANAGER, destroyMethod = "close")
+    CacheManager jpaSecondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager(
+            URI.create("hibernate-second-level-cache-" + UUID.randomUUID()),
+            SecondLevelCacheConfig.class.getClassLoader()
+        );
+        properties.regions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.ttl().toNanos()));
+            configuration.setStoreByValue(false);
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+        @Qualifier(CACHE_MANAGER) CacheManager cacheManager,
+        ObjectProvider<EntityCacheBroadcaster> broadcasters
+    ) {
+        EntityCacheEventListener listener = new EntityCacheEventListener(broadcasters);
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+                registry.appendListeners(EventType.POST_LOAD, listener);
+                registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+                registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            // 등록하지 않은 region 은 크기 제한 없이 만들어지므로 기동을 실패시킨다.
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(integrator));
+        };
+    }
+
+    @Bean
+    EntityCacheEvictor entityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        return new EntityCacheEvictor(entityManagerFactory);
+    }
+
+    @Bean
+    MeterBinder secondLevelCacheMetrics(@Qualifier(CACHE_MANAGER) CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name ->
+            JCacheMetrics.monitor(registry, cacheManager.getCache(name), Tags.of("cache.type", "hibernate-second-level"))
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.loopers.config.jpa;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 설정. 캐시할 엔티티에 {@code @Cacheable} 과 {@code @Cache(region = ...)} 를 붙이고, 같은 이름의 region 을 등록한다.
+ * 등록하지 않은 region 을 사용하는 엔티티가 있으면 기동에 실패한다. (크기 제한 없는 캐시가 만들어지지 않도록)
+ * 2차 캐시 조회에는 soft delete 필터가 적용되지 않고, 다른 노드의 무효화는 ttl 까지 늦을 수 있으므로
+ * 거의 바뀌지 않고 삭제되지 않는 참조 데이터에만 사용한다. 이미 TwoTierCache 로 캐시하는 엔티티에는 사용하지 않는다.
+ *
+ * @param enabled 2차 캐시 사용 여부
+ * @param regions region 이름별 설정
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.second-level-cache")
+public record SecondLevelCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue Map<String, Region> regions
+) {
+
+    /**
+     * @param ttl     저장 후 만료 시간. 다른 노드의 무효화 메시지를 받지 못해도 이 시간이 지나면 DB 에서 다시 읽는다.
+     * @param maxSize 노드별 최대 엔티티 수
+     */
+    public record Region(
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("10000") long maxSize
+    ) {
+
+        public Region {
+            if (ttl.isZero() || ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl 은 0 보다 커야 합니다.");
+            }
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize 는 0 보다 커야 합니다.");
+            }
+        }
+    }
+}
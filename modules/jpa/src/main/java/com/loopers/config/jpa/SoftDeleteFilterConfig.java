@@ -0,0 +1,33 @@
+package com.loopers.config.jpa;
+
+import com.loopers.domain.BaseEntity;
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * 관리자 / 배치처럼 삭제된 엔티티까지 다루는 애플리케이션은 모든 세션에서 soft delete 필터를 끈다.
+ * (datasource.mysql-jpa.soft-delete-filter.enabled: false)
+ */
+@ConditionalOnProperty(name = "datasource.mysql-jpa.soft-delete-filter.enabled", havingValue = "false")
+@Configuration
+class SoftDeleteFilterConfig {
+
+    @Bean
+    static BeanPostProcessor softDeleteFilterDisabler() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactoryBean) {
+                    entityManagerFactoryBean.setEntityManagerInitializer(entityManager ->
+                        entityManager.unwrap(Session.class).disableFilter(BaseEntity.SOFT_DELETE_FILTER)
+                    );
+                }
+                return bean;
+            }
+        };
+    }
+}
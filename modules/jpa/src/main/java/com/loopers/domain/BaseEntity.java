@@ -8,15 +8,31 @@ import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import lombok.Getter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+
 import java.time.ZonedDateTime;
 
 /**
  * 생성/수정/삭제 정보를 자동으로 관리해준다.
  * 재사용성을 위해 이 외의 컬럼이나 동작은 추가하지 않는다.
+ * 삭제된 엔티티는 기본적으로 조회되지 않는다. (id 조회 포함, {@link #SOFT_DELETE_FILTER})
  */
+@FilterDef(
+    name = BaseEntity.SOFT_DELETE_FILTER,
+    defaultCondition = "deleted_at IS NULL",
+    autoEnabled = true,
+    applyToLoadByKey = true
+)
+@Filter(name = BaseEntity.SOFT_DELETE_FILTER)
 @MappedSuperclass
 @Getter
 public abstract class BaseEntity {
+    /**
+     * 모든 세션에서 기본으로 활성화된다. 삭제된 엔티티까지 조회해야 하면 SoftDeleteFilter 로 끈다.
+     * native query 와 JDBC 조회에는 적용되지 않는다.
+     */
+    public static final String SOFT_DELETE_FILTER = "softDeleteFilter";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -39,9 +55,15 @@ public abstract class BaseEntity {
 
     @PrePersist
     private void prePersist() {
+        prepareInsert(ZonedDateTime.now());
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 저장할 때({@link BaseEntityBulkWriter})도 PrePersist 와 같은 준비를 한다.
+     */
+    void prepareInsert(ZonedDateTime now) {
         guard();
 
-        ZonedDateTime now = ZonedDateTime.now();
         this.createdAt = now;
         this.updatedAt = now;
     }
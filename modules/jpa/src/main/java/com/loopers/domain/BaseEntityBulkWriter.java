@@ -0,0 +1,131 @@
+package com.loopers.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link BaseEntity} 를 JDBC batch 로 저장한다.
+ * IDENTITY 전략은 INSERT 마다 id 를 받아야 하므로 Hibernate 가 insert batching 을 하지 않는다. (save 1건 = 1 round trip)
+ * 이 경로는 영속성 컨텍스트를 거치지 않고 CHUNK_SIZE 단위로 executeBatch 하여, rewriteBatchedStatements 로 multi-row INSERT 한 번에 보낸다.
+ * 저장 전에 모든 엔티티의 guard() 를 먼저 실행하고 created_at / updated_at 을 채우므로, 검증에 실패하면 아무것도 저장하지 않는다.
+ * 저장한 엔티티는 영속 상태가 아니므로, 이후 변경은 반환된 id 로 다시 조회하여 수행한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class BaseEntityBulkWriter {
+    static final int CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 생성된 id. entities 순서와 같다.
+     */
+    public <E extends BaseEntity> List<Long> insertAll(BulkInsertSpec<E> spec, List<E> entities) {
+        prepare(entities);
+        String sql = insertSql(spec);
+
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<E> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                setter(spec, chunk),
+                keyHolder
+            );
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 중복 키(unique 제약)이면 spec 의 updateColumns 와 updated_at 만 갱신한다. created_at 은 처음 저장한 값을 유지한다.
+     */
+    public <E extends BaseEntity> void upsertAll(BulkInsertSpec<E> spec, List<E> entities) {
+        if (spec.updateColumns().isEmpty()) {
+            throw new IllegalArgumentException("upsert 할 컬럼이 없습니다. (table = " + spec.table() + ")");
+        }
+        prepare(entities);
+        String sql = upsertSql(spec);
+
+        for (int from = 0; from < entities.size(); from += CHUNK_SIZE) {
+            List<E> chunk = entities.subList(from, Math.min(from + CHUNK_SIZE, entities.size()));
+            jdbcTemplate.batchUpdate(sql, setter(spec, chunk));
+        }
+    }
+
+    private static void prepare(List<? extends BaseEntity> entities) {
+        ZonedDateTime now = ZonedDateTime.now();
+        entities.forEach(entity -> entity.prepareInsert(now));
+    }
+
+    private static <E extends BaseEntity> BatchPreparedStatementSetter setter(BulkInsertSpec<E> spec, List<E> chunk) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                E entity = chunk.get(i);
+                Object[] values = spec.values().apply(entity);
+                if (values.length != spec.columns().size()) {
+                    throw new IllegalStateException(spec.table() + " 의 컬럼 수(" + spec.columns().size() + ")와 값 수(" + values.length + ")가 다릅니다.");
+                }
+
+                int index = 1;
+                for (Object value : values) {
+                    ps.setObject(index++, toJdbcValue(value));
+                }
+                ps.setObject(index++, toJdbcValue(entity.getCreatedAt()));
+                ps.setObject(index++, toJdbcValue(entity.getUpdatedAt()));
+                ps.setObject(index, toJdbcValue(entity.getDeletedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        };
+    }
+
+    /**
+     * BaseEntity 와 동일하게 UTC 기준으로 저장한다. (hibernate.jdbc.time_zone: UTC)
+     */
+    private static Object toJdbcValue(Object value) {
+        if (value instanceof ZonedDateTime zonedDateTime) {
+            return LocalDateTime.ofInstant(zonedDateTime.toInstant(), ZoneOffset.UTC);
+        }
+        return value;
+    }
+
+    private static String insertSql(BulkInsertSpec<?> spec) {
+        List<String> columns = Stream.concat(
+            spec.columns().stream(),
+            Stream.of("created_at", "updated_at", "deleted_at")
+        ).toList();
+        return "INSERT INTO " + spec.table()
+            + " (" + String.join(", ", columns) + ")"
+            + " VALUES (" + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+    }
+
+    private static String upsertSql(BulkInsertSpec<?> spec) {
+        String updates = Stream.concat(spec.updateColumns().stream(), Stream.of("updated_at"))
+            .map(column -> column + " = VALUES(" + column + ")")
+            .collect(Collectors.joining(", "));
+        return insertSql(spec) + " ON DUPLICATE KEY UPDATE " + updates;
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.domain;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@link BaseEntityBulkWriter} 로 저장할 엔티티의 테이블 매핑.
+ * id / created_at / updated_at / deleted_at 은 BaseEntity 컬럼이므로 제외하고 선언한다.
+ *
+ * @param table         테이블 이름
+ * @param columns       엔티티 고유 컬럼
+ * @param updateColumns upsert 시 중복 키이면 갱신할 컬럼 (columns 의 부분집합)
+ * @param values        엔티티에서 columns 순서대로 값을 꺼낸다.
+ */
+public record BulkInsertSpec<E extends BaseEntity>(
+    String table,
+    List<String> columns,
+    List<String> updateColumns,
+    Function<E, Object[]> values
+) {
+    public BulkInsertSpec {
+        columns = List.copyOf(columns);
+        updateColumns = List.copyOf(updateColumns);
+        if (!columns.containsAll(updateColumns)) {
+            throw new IllegalArgumentException("updateColumns 는 columns 에 포함되어야 합니다. " + updateColumns);
+        }
+    }
+
+    public static <E extends BaseEntity> BulkInsertSpec<E> of(String table, List<String> columns, Function<E, Object[]> values) {
+        return new BulkInsertSpec<>(table, columns, List.of(), values);
+    }
+
+    public BulkInsertSpec<E> withUpdateColumns(List<String> updateColumns) {
+        return new BulkInsertSpec<>(table, columns, updateColumns, values);
+    }
+}
@@ -0,0 +1,11 @@
+package com.loopers.support.entitycache;
+
+/**
+ * 커밋된 변경을 다른 노드에 알려, 각 노드의 2차 캐시에서 해당 엔티티를 지우게 한다.
+ * 2차 캐시는 노드마다 따로 있으므로, 전달 수단(Redis pub/sub 등)을 사용하는 애플리케이션이 구현해 등록한다.
+ * 전달에 실패해도 region 의 ttl 이 지나면 DB 에서 다시 읽는다.
+ */
+public interface EntityCacheBroadcaster {
+
+    void broadcast(EntityCacheInvalidation invalidation);
+}
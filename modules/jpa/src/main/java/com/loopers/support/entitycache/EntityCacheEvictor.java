@@ -0,0 +1,21 @@
+package com.loopers.support.entitycache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+
+/**
+ * 이 노드의 2차 캐시에서 엔티티를 지운다. 다른 노드가 보낸 {@link EntityCacheInvalidation} 을 받았을 때 사용한다.
+ */
+public class EntityCacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void evict(EntityCacheInvalidation invalidation) {
+        entityManagerFactory.unwrap(SessionFactory.class)
+            .getCache()
+            .evictEntityData(invalidation.entityName(), invalidation.id());
+    }
+}
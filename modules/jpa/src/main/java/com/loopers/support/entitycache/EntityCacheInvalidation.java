@@ -0,0 +1,22 @@
+package com.loopers.support.entitycache;
+
+/**
+ * 다른 노드의 2차 캐시에서 지워야 하는 엔티티.
+ *
+ * @param entityName Hibernate 엔티티 이름 (클래스 이름)
+ */
+public record EntityCacheInvalidation(String entityName, Long id) {
+    private static final String SEPARATOR = "#";
+
+    public static EntityCacheInvalidation parse(String message) {
+        int separator = message.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 2차 캐시 무효화 메시지입니다. (message = " + message + ")");
+        }
+        return new EntityCacheInvalidation(message.substring(0, separator), Long.valueOf(message.substring(separator + 1)));
+    }
+
+    public String toMessage() {
+        return entityName + SEPARATOR + id;
+    }
+}
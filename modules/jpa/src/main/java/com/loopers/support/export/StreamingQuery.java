@@ -0,0 +1,99 @@
+package com.loopers.support.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.SQLExceptionSubclassTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 확보한 커넥션 하나로 조회를 한 번 실행하며, 행을 읽는 대로 {@link RowHandler} 에 넘긴다.
+ * MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 인 forward-only 결과를 한 행씩 받아오므로(streaming result set),
+ * 결과 크기와 관계없이 메모리 사용량이 일정하다.
+ * 조회 중에는 같은 커넥션으로 다른 statement 를 실행할 수 없으며, 다 읽거나 닫을 때까지 커넥션을 점유한다.
+ * 닫아야 커넥션이 반환된다.
+ */
+@Slf4j
+public final class StreamingQuery<T> implements AutoCloseable {
+    private static final SQLExceptionTranslator EXCEPTION_TRANSLATOR = new SQLExceptionSubclassTranslator();
+
+    private final Connection connection;
+    private final String sql;
+    private final RowMapper<T> rowMapper;
+    private final Object[] args;
+    private boolean executed;
+
+    StreamingQuery(Connection connection, String sql, RowMapper<T> rowMapper, Object[] args) {
+        this.connection = connection;
+        this.sql = sql;
+        this.rowMapper = rowMapper;
+        this.args = args;
+    }
+
+    /**
+     * @return 읽은 행 수
+     * @throws IOException handler 가 던진 예외 (응답을 쓰다가 클라이언트 연결이 끊긴 경우 등)
+     */
+    public long forEach(RowHandler<? super T> handler) throws IOException {
+        if (executed) {
+            throw new IllegalStateException("이미 실행한 조회입니다.");
+        }
+        executed = true;
+
+        try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                long count = 0;
+                while (resultSet.next()) {
+                    T row = rowMapper.mapRow(resultSet, (int) Math.min(count, Integer.MAX_VALUE));
+                    try {
+                        handler.handle(row);
+                    } catch (IOException | RuntimeException e) {
+                        cancel(statement);
+                        throw e;
+                    }
+                    count++;
+                }
+                return count;
+            }
+        } catch (SQLException e) {
+            DataAccessException translated = EXCEPTION_TRANSLATOR.translate("streaming query", sql, e);
+            throw translated != null ? translated : new UncategorizedSQLException("streaming query", sql, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("스트리밍 조회 커넥션을 반환하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * streaming result set 은 닫을 때 남은 행을 끝까지 읽어 버리므로, 중단할 때는 서버의 조회를 먼저 취소한다.
+     */
+    private void cancel(PreparedStatement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            log.warn("중단한 스트리밍 조회를 취소하지 못했습니다.", e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface RowHandler<T> {
+        void handle(T row) throws IOException;
+    }
+}
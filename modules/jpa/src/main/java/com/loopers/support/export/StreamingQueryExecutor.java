@@ -0,0 +1,52 @@
+package com.loopers.support.export;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 테이블 전체처럼 큰 결과를 메모리에 모으지 않고 한 행씩 읽는다. (export 등)
+ * 요청 처리용 pool(mysql-main-pool / mysql-replica-pool)과 분리된 읽기 전용 pool(datasource.mysql-jpa.export)을 사용하므로,
+ * 오래 걸리는 조회가 요청 처리용 커넥션을 점유하지 않는다. 동시에 실행할 수 있는 조회 수는 pool 크기로 제한된다.
+ */
+public class StreamingQueryExecutor implements AutoCloseable {
+    private final DataSource dataSource;
+    private final int maxConcurrency;
+
+    public StreamingQueryExecutor(DataSource dataSource, int maxConcurrency) {
+        this.dataSource = dataSource;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * 커넥션을 먼저 확보해 두고, 실제 조회는 {@link StreamingQuery#forEach} 에서 실행한다.
+     * 응답을 쓰기 시작하기 전에 호출하면, 커넥션이 없을 때 오류 응답을 돌려줄 수 있다.
+     *
+     * @throws StreamingQueryUnavailableException export pool 의 커넥션을 connection-timeout 안에 얻지 못한 경우
+     */
+    public <T> StreamingQuery<T> open(String sql, RowMapper<T> rowMapper, Object... args) {
+        Connection connection;
+        try {
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new StreamingQueryUnavailableException("진행 중인 export 가 많아 커넥션을 얻지 못했습니다.", e);
+        }
+        return new StreamingQuery<>(connection, sql, rowMapper, args);
+    }
+
+    /**
+     * 동시에 실행할 수 있는 조회 수 (export pool 의 maximum-pool-size)
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
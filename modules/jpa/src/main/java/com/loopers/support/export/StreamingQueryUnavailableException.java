@@ -0,0 +1,11 @@
+package com.loopers.support.export;
+
+/**
+ * export pool 의 커넥션이 모두 사용 중이어서 스트리밍 조회를 시작하지 못했을 때 발생한다.
+ */
+public class StreamingQueryUnavailableException extends IllegalStateException {
+
+    public StreamingQueryUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.support.pagination;
+
+/**
+ * 해석할 수 없거나, 다른 정렬 기준으로 만든 커서를 받았을 때 발생한다.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
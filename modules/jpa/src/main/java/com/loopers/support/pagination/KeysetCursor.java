@@ -0,0 +1,43 @@
+package com.loopers.support.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 마지막으로 응답한 행의 (sort key, id) 를 담는 불투명한 커서.
+ * 클라이언트가 내용에 의존하지 않도록 "{정렬 이름}|{sort key}|{id}" 를 base64url 로 인코딩한다.
+ */
+record KeysetCursor<K extends Comparable<? super K>>(K sortValue, Long id) {
+    private static final String DELIMITER = "|";
+
+    static <K extends Comparable<? super K>> String encode(KeysetSort<?, K> sort, K sortValue, Long id) {
+        String raw = sort.name() + DELIMITER + sort.encoder().apply(sortValue) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static <K extends Comparable<? super K>> KeysetCursor<K> decode(KeysetSort<?, K> sort, String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("커서 형식이 올바르지 않습니다.", e);
+        }
+
+        int first = raw.indexOf(DELIMITER);
+        int last = raw.lastIndexOf(DELIMITER);
+        if (first < 0 || first == last) {
+            throw new InvalidCursorException("커서 형식이 올바르지 않습니다.");
+        }
+        if (!sort.name().equals(raw.substring(0, first))) {
+            throw new InvalidCursorException("다른 정렬 기준으로 만든 커서입니다.");
+        }
+
+        try {
+            K sortValue = sort.decoder().apply(raw.substring(first + 1, last));
+            Long id = Long.valueOf(raw.substring(last + 1));
+            return new KeysetCursor<>(sortValue, id);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("커서 형식이 올바르지 않습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.support.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @param content    조회한 페이지
+ * @param nextCursor 다음 페이지 커서. 마지막 페이지이면 null
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
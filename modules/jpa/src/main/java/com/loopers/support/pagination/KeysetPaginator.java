@@ -0,0 +1,93 @@
+package com.loopers.support.pagination;
+
+import com.loopers.domain.BaseEntity;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link BaseEntity} 테이블을 keyset(커서) 방식으로 페이지 조회한다.
+ * OFFSET 대신 마지막으로 응답한 행의 (sort key, id) 다음부터 읽으므로, 페이지가 깊어져도 읽는 행 수가 size + 1 로 일정하다.
+ * 삭제된 행(deletedAt IS NOT NULL)은 제외한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class KeysetPaginator {
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * @param entity    조회할 엔티티 (QueryDSL Q 타입)
+     * @param condition 추가 조회 조건 (없으면 null)
+     * @param sort      정렬 기준
+     * @param cursor    이전 페이지의 nextCursor. 첫 페이지는 null
+     * @param size      페이지 크기
+     * @throws InvalidCursorException 커서를 해석할 수 없는 경우
+     */
+    public <E extends BaseEntity, K extends Comparable<? super K>> KeysetPage<E> fetch(
+        EntityPathBase<E> entity,
+        Predicate condition,
+        KeysetSort<E, K> sort,
+        String cursor,
+        int size
+    ) {
+        PathBuilder<E> path = new PathBuilder<>(entity.getType(), entity.getMetadata());
+        ComparableExpression<K> sortKey = path.getComparable(sort.property(), sort.type());
+        NumberPath<Long> id = path.getNumber(KeysetSort.ID, Long.class);
+        Order order = sort.direction() == KeysetSort.Direction.ASC ? Order.ASC : Order.DESC;
+
+        BooleanBuilder where = new BooleanBuilder(condition)
+            .and(path.get("deletedAt").isNull());
+        if (cursor != null && !cursor.isBlank()) {
+            where.and(after(sort, sortKey, id, KeysetCursor.decode(sort, cursor)));
+        }
+
+        List<OrderSpecifier<?>> orders = sort.isIdOnly()
+            ? List.of(new OrderSpecifier<>(order, id))
+            : List.of(new OrderSpecifier<>(order, sortKey), new OrderSpecifier<>(order, id));
+
+        List<E> rows = queryFactory.selectFrom(entity)
+            .where(where)
+            .orderBy(orders.toArray(OrderSpecifier[]::new))
+            .limit(size + 1L)
+            .fetch();
+
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<E> content = rows.subList(0, size);
+        E last = content.get(size - 1);
+        return new KeysetPage<>(
+            List.copyOf(content),
+            KeysetCursor.encode(sort, sort.extractor().apply(last), last.getId())
+        );
+    }
+
+    /**
+     * 커서 다음 행의 조건. (sort key, id) 를 풀어서 쓰면 (deleted_at, sort key) 인덱스의 범위 탐색을 탈 수 있다.
+     */
+    private static <K extends Comparable<? super K>> BooleanExpression after(
+        KeysetSort<?, K> sort,
+        ComparableExpression<K> sortKey,
+        NumberPath<Long> id,
+        KeysetCursor<K> cursor
+    ) {
+        boolean asc = sort.direction() == KeysetSort.Direction.ASC;
+        if (sort.isIdOnly()) {
+            return asc ? id.gt(cursor.id()) : id.lt(cursor.id());
+        }
+        BooleanExpression sortKeyAfter = asc ? sortKey.gt(cursor.sortValue()) : sortKey.lt(cursor.sortValue());
+        BooleanExpression idAfter = asc ? id.gt(cursor.id()) : id.lt(cursor.id());
+        return sortKeyAfter.or(sortKey.eq(cursor.sortValue()).and(idAfter));
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.support.pagination;
+
+import com.loopers.domain.BaseEntity;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지의 정렬 기준. (sort key, id) 순서로 정렬하고, 같은 sort key 는 id 로 구분한다.
+ * sort key 는 (deleted_at, sort key) 인덱스로 범위 탐색할 수 있는 컬럼이어야 페이지 깊이와 무관하게 일정한 비용이 든다.
+ *
+ * @param name      정렬 이름. 다른 정렬로 만든 커서를 거부하기 위해 커서에 함께 담는다.
+ * @param property  엔티티의 정렬 필드 이름
+ * @param type      정렬 필드 타입
+ * @param direction 정렬 방향
+ * @param extractor 엔티티에서 정렬 값을 꺼낸다.
+ * @param encoder   정렬 값을 커서 문자열로 바꾼다.
+ * @param decoder   커서 문자열을 정렬 값으로 되돌린다.
+ */
+public record KeysetSort<E extends BaseEntity, K extends Comparable<? super K>>(
+    String name,
+    String property,
+    Class<K> type,
+    Direction direction,
+    Function<? super E, K> extractor,
+    Function<K, String> encoder,
+    Function<String, K> decoder
+) {
+    static final String ID = "id";
+
+    public enum Direction {
+        ASC, DESC
+    }
+
+    /**
+     * id 만으로 정렬한다.
+     */
+    public static <E extends BaseEntity> KeysetSort<E, Long> byId(Direction direction) {
+        return new KeysetSort<>(
+            "id-" + direction.name().toLowerCase(),
+            ID,
+            Long.class,
+            direction,
+            BaseEntity::getId,
+            String::valueOf,
+            Long::valueOf
+        );
+    }
+
+    /**
+     * 생성 시각으로 정렬한다. 생성 시각이 같으면 id 로 정렬한다.
+     */
+    public static <E extends BaseEntity> KeysetSort<E, ZonedDateTime> byCreatedAt(Direction direction) {
+        return new KeysetSort<>(
+            "created-at-" + direction.name().toLowerCase(),
+            "createdAt",
+            ZonedDateTime.class,
+            direction,
+            BaseEntity::getCreatedAt,
+            value -> value.toInstant().toString(),
+            value -> Instant.parse(value).atZone(ZoneOffset.UTC)
+        );
+    }
+
+    boolean isIdOnly() {
+        return ID.equals(property);
+    }
+}
@@ -0,0 +1,227 @@
+package com.loopers.support.query;
+
+import com.loopers.config.jpa.QueryMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 실행된 statement 를 기록한다. (datasource.mysql-jpa.query-metrics)
+ * <ul>
+ *     <li>jdbc.statements : pool / operation / 정규화한 SQL 별 실행 시간</li>
+ *     <li>jdbc.statements.slow : slowQueryThreshold 를 넘은 statement 수. 일부(slowQuerySampleRate)는 traceId 와 함께 로그로 남긴다.</li>
+ *     <li>jdbc.statements.per.scope / jdbc.n-plus-one : 요청 / 트랜잭션({@link QueryScope})마다 실행한 statement 수와, 같은 SQL 을 반복 실행한 횟수</li>
+ * </ul>
+ * SQL 은 값(literal)을 ? 로 바꾸고 IN 목록 / 다중 VALUES 를 하나로 줄여 정규화하므로, 로그와 지표에 파라미터 값이 남지 않는다.
+ */
+@Slf4j
+public class QueryInspector {
+    private static final String TRACE_ID = "traceId";
+    private static final String OTHER_SQL = "other";
+    private static final int MAX_SQL_TAG_LENGTH = 300;
+    private static final int MAX_NORMALIZED_CACHE_SIZE = 2_000;
+
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin ?\\( ?\\?(?: ?, ?\\?)* ?\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(\\( ?\\?(?: ?, ?\\?)* ?\\))(?: ?, ?\\( ?\\?(?: ?, ?\\?)* ?\\))+");
+    private static final Pattern OPERATION = Pattern.compile("^\\(?\\s*(select|insert|update|delete|replace|with|call)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final ThreadLocal<QueryScope> currentScope = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+    private final QueryMetricsProperties properties;
+    private final long slowQueryThresholdNanos;
+    private final Map<String, String> normalizedSqls = new ConcurrentHashMap<>();
+    private final Set<String> sqlTags = ConcurrentHashMap.newKeySet();
+    private final Map<StatementKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public QueryInspector(MeterRegistry meterRegistry, QueryMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.slowQueryThresholdNanos = properties.slowQueryThreshold().toNanos();
+    }
+
+    /**
+     * 요청처럼 여러 트랜잭션을 묶는 단위의 scope 를 연다. 이미 열린 scope 가 있으면 바깥 scope 에 합산한다.
+     * 열린 scope 가 없으면 트랜잭션마다 scope 를 열고 커밋 / 롤백할 때 닫는다.
+     */
+    public QueryScope openScope(String type) {
+        if (currentScope.get() != null) {
+            return new QueryScope(this, type, false);
+        }
+        QueryScope scope = new QueryScope(this, type, true);
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * @param pool        statement 를 실행한 커넥션 풀 이름
+     * @param sql         실행한 SQL (정규화 전)
+     * @param elapsedNanos 실행 시간
+     * @param failed      예외로 끝났는지 여부
+     */
+    public void record(String pool, String sql, long elapsedNanos, boolean failed) {
+        String normalizedSql = normalize(sql);
+        String operation = operation(normalizedSql);
+        timers.computeIfAbsent(new StatementKey(pool, operation, sqlTag(normalizedSql), failed), this::timer)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        QueryScope scope = scope();
+        if (scope != null) {
+            scope.count(normalizedSql);
+        }
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            Counter.builder("jdbc.statements.slow")
+                .tag("pool", pool)
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+            if (ThreadLocalRandom.current().nextDouble() < properties.slowQuerySampleRate()) {
+                log.warn("[traceId={}] 슬로우 쿼리 {}ms (pool = {}) {}",
+                    MDC.get(TRACE_ID), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), pool, normalizedSql);
+            }
+        }
+    }
+
+    /**
+     * 커넥션을 얻지 못한 경우(pool 대기 timeout 등)를 기록한다.
+     */
+    public void recordConnectionFailure(String pool, Exception e) {
+        Counter.builder("jdbc.connections.acquire.failures")
+            .description("커넥션을 얻지 못한 요청 수 (connection-timeout, bulkhead 초과 등)")
+            .tag("pool", pool)
+            .tag("exception", e.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+        log.warn("[traceId={}] 커넥션을 얻지 못했습니다. (pool = {}) {}", MDC.get(TRACE_ID), pool, e.getMessage());
+    }
+
+    void close(QueryScope scope) {
+        if (currentScope.get() == scope) {
+            currentScope.remove();
+        }
+
+        DistributionSummary.builder("jdbc.statements.per.scope")
+            .description("요청 / 트랜잭션 하나가 실행한 statement 수")
+            .tag("scope", scope.type())
+            .serviceLevelObjectives(1, 5, 10, 20, 50, 100)
+            .register(meterRegistry)
+            .record(scope.getStatementCount());
+
+        scope.counts().forEach((sql, count) -> {
+            if (count < properties.nPlusOneThreshold()) {
+                return;
+            }
+            Counter.builder("jdbc.n-plus-one")
+                .description("같은 SQL 을 nPlusOneThreshold 번 이상 반복한 요청 / 트랜잭션 수")
+                .tag("scope", scope.type())
+                .tag("sql", sqlTag(sql))
+                .register(meterRegistry)
+                .increment();
+            log.warn("[traceId={}] N+1 이 의심됩니다. 같은 SQL 을 {}번 실행했습니다. ({}) {}",
+                MDC.get(TRACE_ID), count, scope.description(), sql);
+        });
+    }
+
+    /**
+     * 열린 scope 가 없으면, 트랜잭션 안에서는 트랜잭션이 끝날 때 닫히는 scope 를 연다.
+     */
+    private QueryScope scope() {
+        QueryScope scope = currentScope.get();
+        if (scope != null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return scope;
+        }
+
+        QueryScope transactionScope = openScope("transaction");
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName != null) {
+            transactionScope.describe(transactionName);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                transactionScope.close();
+            }
+        });
+        return transactionScope;
+    }
+
+    private Timer timer(StatementKey key) {
+        return Timer.builder("jdbc.statements")
+            .description("statement 실행 시간")
+            .tag("pool", key.pool())
+            .tag("operation", key.operation())
+            .tag("sql", key.sql())
+            .tag("outcome", key.failed() ? "failure" : "success")
+            .serviceLevelObjectives(
+                Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(50),
+                Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(5)
+            )
+            .register(meterRegistry);
+    }
+
+    /**
+     * 종류가 maxSqlTags 를 넘으면 새 SQL 은 "other" 로 묶는다.
+     */
+    private String sqlTag(String normalizedSql) {
+        String tag = normalizedSql.length() > MAX_SQL_TAG_LENGTH ? normalizedSql.substring(0, MAX_SQL_TAG_LENGTH) : normalizedSql;
+        if (sqlTags.contains(tag)) {
+            return tag;
+        }
+        if (sqlTags.size() >= properties.maxSqlTags()) {
+            return OTHER_SQL;
+        }
+        sqlTags.add(tag);
+        return tag;
+    }
+
+    String normalize(String sql) {
+        if (sql == null) {
+            return OTHER_SQL;
+        }
+        String normalized = normalizedSqls.get(sql);
+        if (normalized != null) {
+            return normalized;
+        }
+
+        normalized = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = VALUES_ROWS.matcher(normalized).replaceAll("$1");
+        // 한 번씩만 실행되는 SQL 이 많으면 캐시하지 않는다.
+        if (normalizedSqls.size() < MAX_NORMALIZED_CACHE_SIZE) {
+            normalizedSqls.put(sql, normalized);
+        }
+        return normalized;
+    }
+
+    private static String operation(String normalizedSql) {
+        var matcher = OPERATION.matcher(normalizedSql);
+        if (!matcher.find()) {
+            return OTHER_SQL;
+        }
+        String operation = matcher.group(1).toLowerCase(Locale.ROOT);
+        return operation.equals("with") ? "select" : operation;
+    }
+
+    private record StatementKey(String pool, String operation, String sql, boolean failed) {}
+}
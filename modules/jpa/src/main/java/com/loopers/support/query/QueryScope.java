@@ -0,0 +1,58 @@
+package com.loopers.support.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 하나의 요청 / 트랜잭션에서 실행된 statement 수를 SQL 별로 센다. 닫을 때 N+1 로 의심되는 SQL 을 기록한다.
+ * 스레드에 묶여 있으므로 연 스레드에서 닫아야 한다.
+ */
+public final class QueryScope implements AutoCloseable {
+    private final QueryInspector inspector;
+    private final String type;
+    private final boolean owner;
+    private final Map<String, Integer> counts = new HashMap<>();
+    private String description;
+    private int statementCount;
+
+    QueryScope(QueryInspector inspector, String type, boolean owner) {
+        this.inspector = inspector;
+        this.type = type;
+        this.owner = owner;
+    }
+
+    /**
+     * 로그에 남길 설명. (예: GET /api/v1/examples/{exampleId})
+     */
+    public void describe(String description) {
+        this.description = description;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    @Override
+    public void close() {
+        if (owner) {
+            inspector.close(this);
+        }
+    }
+
+    void count(String sql) {
+        statementCount++;
+        counts.merge(sql, 1, Integer::sum);
+    }
+
+    String type() {
+        return type;
+    }
+
+    String description() {
+        return description != null ? description : type;
+    }
+
+    Map<String, Integer> counts() {
+        return counts;
+    }
+}
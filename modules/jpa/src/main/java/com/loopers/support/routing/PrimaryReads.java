@@ -0,0 +1,30 @@
+package com.loopers.support.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * 감싼 작업의 읽기 전용 트랜잭션도 replica 대신 main pool 에서 읽게 한다. (datasource.mysql-jpa.routing)
+ * 캐시를 채우는 조회처럼, 복제 지연 동안 읽은 이전 값이 캐시 ttl 만큼 오래 남는 경우에 사용한다.
+ * 커넥션은 트랜잭션의 첫 statement 에서 고르므로, 트랜잭션을 시작하기 전에(트랜잭션 경계 바깥에서) 감싼다.
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryReads() {}
+
+    public static <T> T call(Supplier<T> task) {
+        if (isPinned()) {
+            return task.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.support.softdelete;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 삭제된 엔티티까지 조회해야 하는 경우(관리자 조회, 복구, 배치 등) soft delete 필터를 잠시 끈다.
+ * 필터는 세션 단위이므로, 트랜잭션 안에서 호출하면 같은 세션에서, 밖에서 호출하면 새 읽기 전용 트랜잭션에서 조회한다.
+ */
+@Component
+public class SoftDeleteFilter {
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SoftDeleteFilter(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> T includingDeleted(Supplier<T> query) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return readOnlyTransaction.execute(status -> includingDeleted(query));
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        if (session.getEnabledFilter(BaseEntity.SOFT_DELETE_FILTER) == null) {
+            return query.get();
+        }
+        session.disableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        try {
+            return query.get();
+        } finally {
+            session.enableFilter(BaseEntity.SOFT_DELETE_FILTER);
+        }
+    }
+}
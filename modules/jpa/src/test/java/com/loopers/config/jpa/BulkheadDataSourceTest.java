@@ -0,0 +1,165 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadDataSourceTest {
+    private final DataSource target = mock(DataSource.class);
+
+    private BulkheadDataSource bulkhead(int maxConcurrency, int maxWaiting, Duration acquireTimeout) {
+        return new BulkheadDataSource(target, new DataSourceBulkheadProperties(true, maxConcurrency, maxWaiting, acquireTimeout));
+    }
+
+    @DisplayName("permit 이 모두 점유되었을 때, ")
+    @Nested
+    class Exhausted {
+        @DisplayName("대기열이 가득 찼으면, 기다리지 않고 즉시 실패한다.")
+        @Test
+        void failsImmediately_whenWaitingQueueIsFull() throws Exception {
+            // arrange
+            when(target.getConnection()).thenReturn(mock(Connection.class));
+            BulkheadDataSource dataSource = bulkhead(1, 0, Duration.ofSeconds(10));
+            dataSource.getConnection();
+
+            // act
+            long startedAt = System.nanoTime();
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+            // assert
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+            verify(target, times(1)).getConnection();
+        }
+
+        @DisplayName("acquireTimeout 안에 반환되지 않으면, 대기 후 실패한다.")
+        @Test
+        void failsAfterTimeout_whenPermitIsNotReleased() throws Exception {
+            // arrange
+            when(target.getConnection()).thenReturn(mock(Connection.class));
+            BulkheadDataSource dataSource = bulkhead(1, 1, Duration.ofMillis(100));
+            dataSource.getConnection();
+
+            // act
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+            // assert
+            verify(target, times(1)).getConnection();
+        }
+
+        @DisplayName("대기 중에 커넥션이 close 되면, 반환된 permit 으로 커넥션을 얻는다.")
+        @Test
+        void acquiresConnection_whenPermitIsReleasedWhileWaiting() throws Exception {
+            // arrange
+            when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+            BulkheadDataSource dataSource = bulkhead(1, 1, Duration.ofSeconds(5));
+            Connection first = dataSource.getConnection();
+            Thread closer = Thread.ofVirtual().start(() -> {
+                try {
+                    Thread.sleep(100);
+                    first.close();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // act
+            Connection second = dataSource.getConnection();
+            closer.join();
+
+            // assert
+            assertThat(second).isNotNull();
+            verify(target, times(2)).getConnection();
+        }
+    }
+
+    @DisplayName("permit 을 반환할 때, ")
+    @Nested
+    class Release {
+        @DisplayName("커넥션을 close 하면, permit 을 반환한다.")
+        @Test
+        void releasesPermit_whenConnectionIsClosed() throws Exception {
+            // arrange
+            Connection connection = mock(Connection.class);
+            when(target.getConnection()).thenReturn(connection);
+            BulkheadDataSource dataSource = bulkhead(1, 0, Duration.ofMillis(100));
+
+            // act
+            dataSource.getConnection().close();
+            Connection result = dataSource.getConnection();
+
+            // assert
+            assertThat(result).isNotNull();
+            verify(connection, times(1)).close();
+        }
+
+        @DisplayName("같은 커넥션을 여러 번 close 해도, permit 은 한 번만 반환한다.")
+        @Test
+        void releasesPermitOnce_whenConnectionIsClosedTwice() throws Exception {
+            // arrange
+            when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+            BulkheadDataSource dataSource = bulkhead(1, 0, Duration.ofMillis(100));
+            Connection connection = dataSource.getConnection();
+            connection.close();
+            connection.close();
+
+            // act
+            dataSource.getConnection();
+
+            // assert
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+
+        @DisplayName("커넥션 획득에 실패하면, permit 을 반환한다.")
+        @Test
+        void releasesPermit_whenTargetFailsToConnect() throws Exception {
+            // arrange
+            Connection connection = mock(Connection.class);
+            when(target.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenThrow(new IllegalStateException("pool closed"))
+                .thenReturn(connection);
+            BulkheadDataSource dataSource = bulkhead(1, 0, Duration.ofMillis(100));
+
+            // act
+            assertThrows(SQLException.class, dataSource::getConnection);
+            assertThrows(IllegalStateException.class, dataSource::getConnection);
+            Connection result = dataSource.getConnection();
+
+            // assert
+            assertThat(result).isNotNull();
+            verify(target, times(3)).getConnection();
+        }
+
+        @DisplayName("close 가 예외를 던져도, permit 을 반환한다.")
+        @Test
+        void releasesPermit_whenCloseThrows() throws Exception {
+            // arrange
+            Connection failing = mock(Connection.class);
+            doThrow(new SQLException("broken")).when(failing).close();
+            when(target.getConnection()).thenReturn(failing).thenReturn(mock(Connection.class));
+            BulkheadDataSource dataSource = bulkhead(1, 0, Duration.ofMillis(100));
+            Connection connection = dataSource.getConnection();
+
+            // act
+            assertThrows(SQLException.class, connection::close);
+            Connection result = dataSource.getConnection();
+
+            // assert
+            assertThat(result).isNotNull();
+        }
+    }
+}
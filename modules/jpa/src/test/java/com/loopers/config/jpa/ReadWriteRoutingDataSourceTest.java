@@ -0,0 +1,305 @@
+package com.loopers.config.jpa;
+
+import com.loopers.support.routing.PrimaryReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadWriteRoutingDataSourceTest {
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReadWriteRoutingDataSource routing() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        return new ReadWriteRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+    }
+
+    /**
+     * 트랜잭션 안에서 첫 statement 를 만들어 실제 커넥션을 획득하게 한다.
+     * (기본 auto-commit / 격리 수준을 확인하려고 main pool 커넥션을 한 번 가져오므로, 어느 커넥션으로 statement 를 만들었는지로 검증한다)
+     */
+    private void executeStatement(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                DataSourceUtils.getConnection(dataSource).createStatement();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private double fallbackCount() {
+        return meterRegistry.get("datasource.replica.fallback").counter().count();
+    }
+
+    @DisplayName("replica 를 사용할 수 있을 때, ")
+    @Nested
+    class ReplicaAvailable {
+        @DisplayName("읽기 전용 트랜잭션은 replica pool 의 커넥션을 사용한다.")
+        @Test
+        void usesReplica_whenTransactionIsReadOnly() throws Exception {
+            // arrange
+            when(lagMonitor.isAvailable()).thenReturn(true);
+            ReadWriteRoutingDataSource dataSource = routing();
+
+            // act
+            executeStatement(dataSource, true);
+
+            // assert
+            assertAll(
+                () -> verify(replicaConnection).createStatement(),
+                () -> verify(primaryConnection, never()).createStatement(),
+                () -> assertThat(fallbackCount()).isZero()
+            );
+        }
+
+        @DisplayName("읽기-쓰기 트랜잭션은 main pool 의 커넥션을 사용한다.")
+        @Test
+        void usesPrimary_whenTransactionIsReadWrite() throws Exception {
+            // arrange
+            when(lagMonitor.isAvailable()).thenReturn(true);
+            ReadWriteRoutingDataSource dataSource = routing();
+
+            // act
+            executeStatement(dataSource, false);
+
+            // assert
+            assertAll(
+                () -> verify(primaryConnection).createStatement(),
+                () -> verify(replica, never()).getConnection(),
+                () -> assertThat(fallbackCount()).isZero()
+            );
+        }
+    }
+
+    @DisplayName("replica 를 사용할 수 없을 때, ")
+    @Nested
+    class ReplicaUnavailable {
+        @DisplayName("읽기 전용 트랜잭션도 main pool 의 커넥션을 사용하고, fallback 수를 기록한다.")
+        @Test
+        void fallsBackToPrimary_whenTransactionIsReadOnly() throws Exception {
+            // arrange
+            when(lagMonitor.isAvailable()).thenReturn(false);
+            ReadWriteRoutingDataSource dataSource = routing();
+
+            // act
+            executeStatement(dataSource, true);
+
+            // assert
+            assertAll(
+                () -> verify(primaryConnection).createStatement(),
+                () -> verify(replica, never()).getConnection(),
+                () -> assertThat(fallbackCount()).isEqualTo(1)
+            );
+        }
+    }
+
+    @DisplayName("replica 가 복제 지연으로 이전 값을 가지고 있을 때, ")
+    @Nested
+    class StaleReplica {
+        private static final String SQL = "SELECT description FROM example WHERE id = 1";
+
+        private ReadWriteRoutingDataSource staleRouting() throws Exception {
+            when(lagMonitor.isAvailable()).thenReturn(true);
+            stubDescription(primaryConnection, "변경된 설명");
+            stubDescription(replicaConnection, "이전 설명");
+            return routing();
+        }
+
+        private void stubDescription(Connection connection, String description) throws SQLException {
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery(SQL)).thenReturn(resultSet);
+            when(resultSet.next()).thenReturn(true);
+            when(resultSet.getString(1)).thenReturn(description);
+        }
+
+        private String readDescription(DataSource dataSource) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            transactionTemplate.setReadOnly(true);
+            return transactionTemplate.execute(status -> {
+                try (ResultSet resultSet = DataSourceUtils.getConnection(dataSource).createStatement().executeQuery(SQL)) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        @DisplayName("PrimaryReads 로 감싼 읽기 전용 트랜잭션은, main pool 에서 변경된 값을 읽는다.")
+        @Test
+        void readsLatestValueFromPrimary_whenPinned() throws Exception {
+            // arrange
+            ReadWriteRoutingDataSource dataSource = staleRouting();
+
+            // act
+            String description = PrimaryReads.call(() -> readDescription(dataSource));
+
+            // assert
+            assertAll(
+                () -> assertThat(description).isEqualTo("변경된 설명"),
+                () -> verify(replica, never()).getConnection(),
+                () -> assertThat(fallbackCount()).isZero(),
+                () -> assertThat(PrimaryReads.isPinned()).isFalse()
+            );
+        }
+
+        @DisplayName("감싸지 않은 읽기 전용 트랜잭션은, replica 의 이전 값을 읽는다.")
+        @Test
+        void readsStaleValueFromReplica_whenNotPinned() throws Exception {
+            // arrange
+            ReadWriteRoutingDataSource dataSource = staleRouting();
+
+            // act
+            String description = readDescription(dataSource);
+
+            // assert
+            assertThat(description).isEqualTo("이전 설명");
+        }
+    }
+
+    /**
+     * 모니터 스레드가 mock 을 호출하는 동안 stubbing 을 바꾸지 않도록, 응답은 필드 값으로 바꾼다.
+     */
+    @DisplayName("replica 복제 지연을 확인할 때, ")
+    @Nested
+    class LagMonitor {
+        private final AtomicReference<Long> lagSeconds = new AtomicReference<>(0L);
+        private final AtomicBoolean hasReplicaStatus = new AtomicBoolean(true);
+        private final AtomicBoolean failing = new AtomicBoolean(false);
+        private ReplicaLagMonitor monitor;
+
+        private ReplicaLagMonitor monitor(Duration maxLag) throws SQLException {
+            DataSource monitored = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            when(monitored.getConnection()).thenAnswer(invocation -> {
+                if (failing.get()) {
+                    throw new SQLTransientConnectionException("replica down");
+                }
+                return connection;
+            });
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+            when(resultSet.next()).thenAnswer(invocation -> hasReplicaStatus.get());
+            when(resultSet.getLong("Seconds_Behind_Source")).thenAnswer(invocation -> {
+                Long lag = lagSeconds.get();
+                return lag == null ? 0L : lag;
+            });
+            when(resultSet.wasNull()).thenAnswer(invocation -> lagSeconds.get() == null);
+            monitor = new ReplicaLagMonitor(monitored, new DataSourceRoutingProperties(true, maxLag, Duration.ofMillis(20)));
+            return monitor;
+        }
+
+        @AfterEach
+        void tearDown() {
+            if (monitor != null) {
+                monitor.close();
+            }
+        }
+
+        @DisplayName("지연이 maxLag 이하이면, 사용할 수 있는 상태가 된다.")
+        @Test
+        void becomesAvailable_whenLagIsWithinMaxLag() throws Exception {
+            // arrange
+            lagSeconds.set(3L);
+
+            // act
+            ReplicaLagMonitor monitor = monitor(Duration.ofSeconds(5));
+
+            // assert
+            await().atMost(Duration.ofSeconds(2)).until(monitor::isAvailable);
+        }
+
+        @DisplayName("지연이 maxLag 를 넘으면, 사용할 수 없는 상태로 바뀐다.")
+        @Test
+        void becomesUnavailable_whenLagExceedsMaxLag() throws Exception {
+            // arrange
+            lagSeconds.set(1L);
+            ReplicaLagMonitor monitor = monitor(Duration.ofSeconds(5));
+            await().atMost(Duration.ofSeconds(2)).until(monitor::isAvailable);
+
+            // act
+            lagSeconds.set(10L);
+
+            // assert
+            await().atMost(Duration.ofSeconds(2)).until(() -> !monitor.isAvailable());
+        }
+
+        @DisplayName("복제가 멈춰 지연이 NULL 이면, 사용할 수 없는 상태로 바뀐다.")
+        @Test
+        void becomesUnavailable_whenReplicationIsStopped() throws Exception {
+            // arrange
+            ReplicaLagMonitor monitor = monitor(Duration.ofSeconds(5));
+            await().atMost(Duration.ofSeconds(2)).until(monitor::isAvailable);
+
+            // act
+            lagSeconds.set(null);
+
+            // assert
+            await().atMost(Duration.ofSeconds(2)).until(() -> !monitor.isAvailable());
+        }
+
+        @DisplayName("복제 구성이 없는 서버(결과 없음)이면, 지연이 없는 것으로 본다.")
+        @Test
+        void becomesAvailable_whenServerIsNotReplica() throws Exception {
+            // arrange
+            hasReplicaStatus.set(false);
+
+            // act
+            ReplicaLagMonitor monitor = monitor(Duration.ofSeconds(5));
+
+            // assert
+            await().atMost(Duration.ofSeconds(2)).until(monitor::isAvailable);
+        }
+
+        @DisplayName("지연 확인에 실패하면, 사용할 수 없는 상태로 바뀌고 복구되면 다시 사용한다.")
+        @Test
+        void becomesUnavailable_whenLagCheckFails() throws Exception {
+            // arrange
+            ReplicaLagMonitor monitor = monitor(Duration.ofSeconds(5));
+            await().atMost(Duration.ofSeconds(2)).until(monitor::isAvailable);
+
+            // act
+            failing.set(true);
+            await().atMost(Duration.ofSeconds(2)).until(() -> !monitor.isAvailable());
+            failing.set(false);
+
+            // assert
+            await().atMost(Duration.ofSeconds(2)).until(monitor::isAvailable);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.config.jpa;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SecondLevelCacheConfigTest {
+    private final SecondLevelCacheProperties properties = new SecondLevelCacheProperties(
+        true, Map.of("example", new SecondLevelCacheProperties.Region(Duration.ofMinutes(10), 100))
+    );
+
+    @DisplayName("같은 JVM 에서 context 마다 CacheManager 를 만들면, 서로 다른 CacheManager 에 region 을 만들고 따로 닫힌다.")
+    @Test
+    void createsIndependentCacheManager_perContext() {
+        // arrange
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+        CacheManager first = config.jpaSecondLevelCacheManager(properties);
+
+        // act
+        CacheManager second = config.jpaSecondLevelCacheManager(properties);
+        first.getCache("example").put("1", "first");
+        first.close();
+
+        // assert
+        try (second) {
+            assertAll(
+                () -> assertThat(second).isNotSameAs(first),
+                () -> assertThat(first.isClosed()).isTrue(),
+                () -> assertThat(second.isClosed()).isFalse(),
+                () -> assertThat(second.getCache("example")).isNotNull(),
+                () -> assertThat(second.getCache("example").get("1")).isNull()
+            );
+        }
+    }
+}
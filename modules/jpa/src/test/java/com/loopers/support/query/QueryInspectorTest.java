@@ -0,0 +1,234 @@
+package com.loopers.support.query;
+
+import com.loopers.config.jpa.QueryMetricsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class QueryInspectorTest {
+    private static final int N_PLUS_ONE_THRESHOLD = 3;
+    private static final long ELAPSED_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryInspector inspector = new QueryInspector(
+        meterRegistry, new QueryMetricsProperties(true, Duration.ofSeconds(1), 0.0, N_PLUS_ONE_THRESHOLD, 300)
+    );
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @DisplayName("SQL 을 정규화할 때, ")
+    @Nested
+    class Normalize {
+        @DisplayName("문자열 안의 쉼표는 값과 함께 하나의 ? 로 바뀐다.")
+        @Test
+        void replacesStringLiteral_whenItContainsCommas() {
+            // act
+            String normalized = inspector.normalize("select * from example where name = 'a, b, c' and id = 1");
+
+            // assert
+            assertThat(normalized).isEqualTo("select * from example where name = ? and id = ?");
+        }
+
+        @DisplayName("escape 된 따옴표('' 또는 \\')가 있어도 문자열 전체가 하나의 ? 로 바뀐다.")
+        @Test
+        void replacesStringLiteral_whenItContainsEscapedQuotes() {
+            // act
+            String doubled = inspector.normalize("select * from example where name = 'it''s, ok' and id = 1");
+            String backslashed = inspector.normalize("select * from example where name = 'it\\'s, ok' and id = 1");
+
+            // assert
+            assertAll(
+                () -> assertThat(doubled).isEqualTo("select * from example where name = ? and id = ?"),
+                () -> assertThat(backslashed).isEqualTo("select * from example where name = ? and id = ?")
+            );
+        }
+
+        @DisplayName("다중 VALUES 는 행 수와 관계없이 한 행으로 줄어든다.")
+        @Test
+        void collapsesValuesRows() {
+            // act
+            String twoRows = inspector.normalize("insert into example (id, name) values (1, 'a, b'), (2, 'c')");
+            String threeRows = inspector.normalize("insert into example (id, name) values (?, ?), (?, ?), (?, ?)");
+
+            // assert
+            assertAll(
+                () -> assertThat(twoRows).isEqualTo("insert into example (id, name) values (?, ?)"),
+                () -> assertThat(threeRows).isEqualTo(twoRows)
+            );
+        }
+
+        @DisplayName("IN 목록은 원소 수와 관계없이 하나의 ? 로 줄어든다.")
+        @Test
+        void collapsesInList() {
+            // act
+            String literals = inspector.normalize("select * from example where id in (1, 2, 3)");
+            String parameters = inspector.normalize("select * from example where id IN (?,?)");
+
+            // assert
+            assertAll(
+                () -> assertThat(literals).isEqualTo("select * from example where id in (?)"),
+                () -> assertThat(parameters).isEqualTo(literals)
+            );
+        }
+
+        @DisplayName("주석과 공백을 정리하고, 식별자 안의 숫자는 남긴다.")
+        @Test
+        void removesCommentsAndKeepsIdentifiers() {
+            // act
+            String normalized = inspector.normalize("/* load example */ select e1_0.id\n  from example e1_0\twhere e1_0.id = -10.5");
+
+            // assert
+            assertThat(normalized).isEqualTo("select e1_0.id from example e1_0 where e1_0.id = ?");
+        }
+    }
+
+    @DisplayName("같은 SQL 의 반복 실행을 셀 때, ")
+    @Nested
+    class NPlusOne {
+        @DisplayName("하나의 scope 에서 값만 다른 SQL 을 nPlusOneThreshold 번 실행하면, N+1 로 기록한다.")
+        @Test
+        void records_whenSameSqlReachesThreshold() {
+            // arrange
+            QueryScope scope = inspector.openScope("request");
+
+            // act
+            for (int id = 1; id <= N_PLUS_ONE_THRESHOLD; id++) {
+                inspector.record("main", "select * from example where id = " + id, ELAPSED_NANOS, false);
+            }
+            scope.close();
+
+            // assert
+            assertAll(
+                () -> assertThat(nPlusOneCount("request")).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("jdbc.n-plus-one").counter().getId().getTag("sql"))
+                    .isEqualTo("select * from example where id = ?")
+            );
+        }
+
+        @DisplayName("nPlusOneThreshold 보다 적게 실행하면, 기록하지 않는다.")
+        @Test
+        void doesNotRecord_whenBelowThreshold() {
+            // arrange
+            QueryScope scope = inspector.openScope("request");
+
+            // act
+            for (int id = 1; id < N_PLUS_ONE_THRESHOLD; id++) {
+                inspector.record("main", "select * from example where id = " + id, ELAPSED_NANOS, false);
+            }
+            scope.close();
+
+            // assert
+            assertThat(nPlusOneCount("request")).isZero();
+        }
+
+        @DisplayName("scope 를 닫으면 횟수가 초기화되어, 다음 scope 와 합산하지 않는다.")
+        @Test
+        void resetsCounts_whenScopeIsClosed() {
+            // arrange
+            try (QueryScope first = inspector.openScope("request")) {
+                for (int id = 1; id < N_PLUS_ONE_THRESHOLD; id++) {
+                    inspector.record("main", "select * from example where id = " + id, ELAPSED_NANOS, false);
+                }
+            }
+
+            // act
+            QueryScope second = inspector.openScope("request");
+            inspector.record("main", "select * from example where id = 100", ELAPSED_NANOS, false);
+            second.close();
+
+            // assert
+            assertAll(
+                () -> assertThat(second.getStatementCount()).isEqualTo(1),
+                () -> assertThat(nPlusOneCount("request")).isZero(),
+                () -> assertThat(meterRegistry.get("jdbc.statements.per.scope").summary().count()).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("안쪽 scope 의 실행은 바깥 scope 에 합산한다.")
+        @Test
+        void addsToOuterScope_whenScopeIsNested() {
+            // arrange
+            QueryScope outer = inspector.openScope("request");
+
+            // act
+            for (int id = 1; id <= N_PLUS_ONE_THRESHOLD; id++) {
+                try (QueryScope inner = inspector.openScope("request")) {
+                    inspector.record("main", "select * from example where id = " + id, ELAPSED_NANOS, false);
+                }
+            }
+            long beforeOuterClosed = nPlusOneCount("request");
+            outer.close();
+
+            // assert
+            assertAll(
+                () -> assertThat(beforeOuterClosed).isZero(),
+                () -> assertThat(outer.getStatementCount()).isEqualTo(N_PLUS_ONE_THRESHOLD),
+                () -> assertThat(nPlusOneCount("request")).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("열린 scope 없이 트랜잭션 안에서 실행하면, 트랜잭션이 끝날 때 기록하고 초기화한다.")
+        @Test
+        void recordsPerTransaction_whenNoScopeIsOpen() {
+            // arrange
+            TransactionSynchronizationManager.initSynchronization();
+            for (int id = 1; id <= N_PLUS_ONE_THRESHOLD; id++) {
+                inspector.record("main", "select * from example where id = " + id, ELAPSED_NANOS, false);
+            }
+
+            // act
+            completeTransaction();
+            TransactionSynchronizationManager.initSynchronization();
+            inspector.record("main", "select * from example where id = 100", ELAPSED_NANOS, false);
+            completeTransaction();
+
+            // assert
+            assertAll(
+                () -> assertThat(nPlusOneCount("transaction")).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("jdbc.statements.per.scope").tag("scope", "transaction").summary().count())
+                    .isEqualTo(2)
+            );
+        }
+
+        @DisplayName("열린 scope 도 트랜잭션도 없으면, 세지 않는다.")
+        @Test
+        void doesNotCount_whenNoScopeOrTransaction() {
+            // act
+            for (int id = 1; id <= N_PLUS_ONE_THRESHOLD; id++) {
+                inspector.record("main", "select * from example where id = " + id, ELAPSED_NANOS, false);
+            }
+
+            // assert
+            assertAll(
+                () -> assertThat(meterRegistry.find("jdbc.statements.per.scope").summary()).isNull(),
+                () -> assertThat(meterRegistry.get("jdbc.statements").timer().count()).isEqualTo(N_PLUS_ONE_THRESHOLD)
+            );
+        }
+
+        private void completeTransaction() {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private long nPlusOneCount(String scope) {
+        Counter counter = meterRegistry.find("jdbc.n-plus-one").tag("scope", scope).counter();
+        return counter == null ? 0 : (long) counter.count();
+    }
+}
@@ -32,5 +32,14 @@ public class MySqlTestContainersConfig {
         System.setProperty("datasource.mysql-jpa.main.jdbc-url", mySqlJdbcUrl);
         System.setProperty("datasource.mysql-jpa.main.username", mySqlContainer.getUsername());
         System.setProperty("datasource.mysql-jpa.main.password", mySqlContainer.getPassword());
+
+        // replica 는 같은 컨테이너를 바라본다. 복제 지연 확인(SHOW REPLICA STATUS)에 필요한 권한이 있는 root 계정을 사용한다.
+        System.setProperty("datasource.mysql-jpa.replica.jdbc-url", mySqlJdbcUrl);
+        System.setProperty("datasource.mysql-jpa.replica.username", "root");
+        System.setProperty("datasource.mysql-jpa.replica.password", mySqlContainer.getPassword());
+
+        System.setProperty("datasource.mysql-jpa.export.jdbc-url", mySqlJdbcUrl);
+        System.setProperty("datasource.mysql-jpa.export.username", mySqlContainer.getUsername());
+        System.setProperty("datasource.mysql-jpa.export.password", mySqlContainer.getPassword());
     }
 }
@@ -0,0 +1,58 @@
+package com.loopers.confg.kafka;
+
+import com.loopers.support.kafka.DltReplayer;
+import com.loopers.support.kafka.RetryTopicRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(KafkaRetryTopicProperties.class)
+public class KafkaRetryTopicConfig {
+    public static final String RAW_KAFKA_TEMPLATE = "rawKafkaTemplate";
+
+    /**
+     * 컨슈머가 받은 key / value 를 다시 직렬화하지 않고 그대로 옮기기 위한 템플릿.
+     */
+    @Bean(name = RAW_KAFKA_TEMPLATE)
+    public KafkaTemplate<String, byte[]> rawKafkaTemplate(KafkaProperties kafkaProperties, MeterRegistry meterRegistry) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    @Bean
+    public RetryTopicRouter retryTopicRouter(
+        KafkaTemplate<String, byte[]> rawKafkaTemplate,
+        KafkaRetryTopicProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new RetryTopicRouter(rawKafkaTemplate, properties.backoffs(), properties.sendTimeout(), meterRegistry);
+    }
+
+    @Bean
+    public DltReplayer dltReplayer(
+        ConsumerFactory<Object, Object> consumerFactory,
+        KafkaTemplate<String, byte[]> rawKafkaTemplate,
+        KafkaRetryTopicProperties properties,
+        @Value("${spring.application.name}") String applicationName
+    ) {
+        return new DltReplayer(consumerFactory, rawKafkaTemplate, applicationName + "-dlt-replayer", properties.sendTimeout());
+    }
+}
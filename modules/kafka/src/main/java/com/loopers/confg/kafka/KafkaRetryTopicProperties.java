@@ -0,0 +1,19 @@
+package com.loopers.confg.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param backoffs    retry topic 단계별 대기 시간. 단계 수만큼 retry topic 이 생기며, 대기하는 동안 해당 파티션만 pause 된다.
+ * @param partitions  retry topic / DLT 생성 시 파티션 수
+ * @param sendTimeout retry topic / DLT 로 보낼 때 브로커 ack 대기 시간
+ */
+@ConfigurationProperties(prefix = "kafka.retry-topic")
+public record KafkaRetryTopicProperties(
+    @DefaultValue({"1s", "10s", "60s"}) List<Duration> backoffs,
+    @DefaultValue("3") int partitions,
+    @DefaultValue("10s") Duration sendTimeout
+) {}
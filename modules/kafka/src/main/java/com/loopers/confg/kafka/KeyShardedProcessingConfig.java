@@ -0,0 +1,43 @@
+package com.loopers.confg.kafka;
+
+import com.loopers.support.kafka.KeyShardedBatchProcessor;
+import com.loopers.support.kafka.RetryTopicRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 컨슈머 앱에서만 켠다. (kafka.key-sharded.enabled) 발행만 하는 앱이 샤드 worker 스레드를 만들지 않도록 한다.
+ */
+@ConditionalOnProperty(name = "kafka.key-sharded.enabled", havingValue = "true")
+@Configuration
+@EnableConfigurationProperties(KeyShardedProcessingProperties.class)
+public class KeyShardedProcessingConfig {
+    public static final String KEY_SHARDED_EXECUTOR = "keyShardedExecutor";
+
+    @Bean(name = KEY_SHARDED_EXECUTOR, destroyMethod = "close")
+    public ExecutorService keyShardedExecutor(KeyShardedProcessingProperties properties) {
+        if (properties.virtualThreads()) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-shard-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(
+            properties.threads(),
+            Thread.ofPlatform().name("kafka-shard-", 0).daemon().factory()
+        );
+    }
+
+    /**
+     * 단건으로도 처리되지 않는 레코드는 retry topic / DLT 로 보내고 나머지는 커밋한다.
+     */
+    @Bean
+    public KeyShardedBatchProcessor keyShardedBatchProcessor(
+        KeyShardedProcessingProperties properties,
+        RetryTopicRouter retryTopicRouter
+    ) {
+        return new KeyShardedBatchProcessor(keyShardedExecutor(properties), properties.shardCount(), retryTopicRouter);
+    }
+}
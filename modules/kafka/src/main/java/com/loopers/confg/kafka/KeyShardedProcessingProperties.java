@@ -0,0 +1,18 @@
+package com.loopers.confg.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled        샤드 처리기(KeyShardedBatchProcessor)와 worker 를 만들지 여부. batch listener 로 소비하는 앱에서만 켠다.
+ * @param shardCount     한 번의 poll 을 나누어 동시에 처리할 샤드 수
+ * @param threads        샤드를 처리하는 worker 수 (platform thread 사용 시). 컨슈머 스레드 수 x shardCount 이면 대기 없이 처리된다.
+ * @param virtualThreads true 이면 worker 를 풀링하지 않고 샤드마다 virtual thread 로 실행한다.
+ */
+@ConfigurationProperties(prefix = "kafka.key-sharded")
+public record KeyShardedProcessingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("8") int shardCount,
+    @DefaultValue("24") int threads,
+    @DefaultValue("false") boolean virtualThreads
+) {}
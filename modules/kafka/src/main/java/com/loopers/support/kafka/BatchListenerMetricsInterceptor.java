@@ -0,0 +1,83 @@
+package com.loopers.support.kafka;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * batch listener 의 poll 크기와 처리 시간을 기록한다.
+ * <ul>
+ *     <li>kafka.listener.batch.size : poll 한 번에 받은 레코드 수 (maxPollRecords 대비 채움 정도)</li>
+ *     <li>kafka.listener.batch.duration : listener 처리 시간 (maxPollInterval 대비 여유)</li>
+ * </ul>
+ * intercept 와 success / failure 는 같은 컨슈머 스레드에서 호출되므로, 시작 시각을 ThreadLocal 로 전달한다.
+ */
+public class BatchListenerMetricsInterceptor implements BatchInterceptor<Object, Object> {
+    private static final String TAG_GROUP = "group";
+    private static final String TAG_RESULT = "result";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxPollRecords;
+    private final Duration maxPollInterval;
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    public BatchListenerMetricsInterceptor(MeterRegistry meterRegistry, int maxPollRecords, Duration maxPollInterval) {
+        this.meterRegistry = meterRegistry;
+        this.maxPollRecords = maxPollRecords;
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        DistributionSummary.builder("kafka.listener.batch.size")
+            .tag(TAG_GROUP, groupId(consumer))
+            .baseUnit("records")
+            .serviceLevelObjectives(1, maxPollRecords / 10.0, maxPollRecords / 2.0, maxPollRecords)
+            .maximumExpectedValue((double) maxPollRecords)
+            .register(meterRegistry)
+            .record(records.count());
+        startedAt.set(System.nanoTime());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        recordDuration(consumer, "success");
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        recordDuration(consumer, "failure");
+    }
+
+    private void recordDuration(Consumer<Object, Object> consumer, String result) {
+        Long started = startedAt.get();
+        startedAt.remove();
+        if (started == null) {
+            return;
+        }
+        Timer.builder("kafka.listener.batch.duration")
+            .tag(TAG_GROUP, groupId(consumer))
+            .tag(TAG_RESULT, result)
+            .serviceLevelObjectives(
+                Duration.ofMillis(100),
+                Duration.ofSeconds(1),
+                maxPollInterval.dividedBy(4),
+                maxPollInterval.dividedBy(2),
+                maxPollInterval
+            )
+            .maximumExpectedValue(maxPollInterval)
+            .register(meterRegistry)
+            .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private String groupId(Consumer<Object, Object> consumer) {
+        return consumer.groupMetadata().groupId();
+    }
+}
@@ -0,0 +1,138 @@
+package com.loopers.support.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DLT 에 쌓인 레코드를 원래 topic 으로 다시 발행한다.
+ * 전용 consumer group 으로 offset 을 커밋하므로, 여러 번 나누어 실행해도 같은 레코드를 중복해서 재발행하지 않는다.
+ */
+@Slf4j
+public class DltReplayer {
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final int MAX_EMPTY_POLLS = 3;
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final String groupId;
+    private final Duration sendTimeout;
+
+    public DltReplayer(
+        ConsumerFactory<Object, Object> consumerFactory,
+        KafkaTemplate<String, byte[]> kafkaTemplate,
+        String groupId,
+        Duration sendTimeout
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.groupId = groupId;
+        this.sendTimeout = sendTimeout;
+    }
+
+    /**
+     * @param dltTopic 재발행할 DLT (ex. example.internal.topic-v1.dlt). 운영 중인 topic 을 자기 자신에게 다시 발행하지 않도록 DLT 만 받는다.
+     * @param limit    이번 실행에서 재발행할 최대 레코드 수
+     * @return 재발행한 레코드 수
+     */
+    public int replay(String dltTopic, int limit) {
+        if (!RetryTopicRouter.isDltTopic(dltTopic)) {
+            throw new IllegalArgumentException("DLT(" + RetryTopicRouter.dltTopic("{topic}") + ")만 재발행할 수 있습니다: " + dltTopic);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit 은 1 이상이어야 합니다.");
+        }
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(limit, 500));
+
+        int replayed = 0;
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(groupId, null, "-dlt-replayer", overrides)) {
+            // group 합류를 기다리지 않도록 모든 파티션을 직접 할당한다.
+            consumer.assign(consumer.partitionsFor(dltTopic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList());
+
+            int emptyPolls = 0;
+            while (replayed < limit && emptyPolls < MAX_EMPTY_POLLS) {
+                List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+                consumer.poll(POLL_TIMEOUT).forEach(records::add);
+                if (records.isEmpty()) {
+                    emptyPolls++;
+                    continue;
+                }
+                emptyPolls = 0;
+
+                List<ConsumerRecord<Object, Object>> batch = records.subList(0, Math.min(records.size(), limit - replayed));
+                republish(batch);
+                consumer.commitSync(nextOffsets(batch));
+                replayed += batch.size();
+
+                if (batch.size() < records.size()) {
+                    break;
+                }
+            }
+        }
+        log.info("{} 에서 {}건을 재발행했습니다.", dltTopic, replayed);
+        return replayed;
+    }
+
+    private void republish(List<ConsumerRecord<Object, Object>> records) {
+        List<CompletableFuture<?>> futures = records.stream()
+            .map(record -> kafkaTemplate.send(new ProducerRecord<>(
+                RetryTopicRouter.originalTopic(record),
+                null,
+                (String) record.key(),
+                (byte[]) record.value(),
+                withoutRoutingHeaders(record.headers())
+            )))
+            .<CompletableFuture<?>>map(future -> future)
+            .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재발행이 중단되었습니다.", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("DLT 재발행에 실패했습니다. offset 은 커밋되지 않았습니다.", e);
+        }
+    }
+
+    private Headers withoutRoutingHeaders(Headers headers) {
+        Headers copied = new RecordHeaders();
+        for (Header header : headers) {
+            if (!RetryTopicRouter.isRoutingHeader(header.key())) {
+                copied.add(header);
+            }
+        }
+        return copied;
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> nextOffsets(List<ConsumerRecord<Object, Object>> records) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        records.forEach(record -> offsets.put(
+            new TopicPartition(record.topic(), record.partition()),
+            new OffsetAndMetadata(record.offset() + 1)
+        ));
+        return offsets;
+    }
+}
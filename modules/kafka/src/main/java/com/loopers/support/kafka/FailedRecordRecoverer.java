@@ -0,0 +1,12 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+@FunctionalInterface
+public interface FailedRecordRecoverer {
+
+    /**
+     * @return recover 에 성공하면 true. 이 경우 레코드는 처리된 것으로 보고 offset 을 커밋한다.
+     */
+    boolean recover(ConsumerRecord<?, ?> record, Exception exception);
+}
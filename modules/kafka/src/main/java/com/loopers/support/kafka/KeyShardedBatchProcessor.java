@@ -0,0 +1,172 @@
+package com.loopers.support.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * batch listener 가 받은 레코드를 key 기준으로 샤드에 나누어 병렬로 처리한다.
+ * <p>
+ * 같은 key 는 항상 같은 샤드에 poll 순서대로 담기므로 key 단위 순서가 보장되고,
+ * 샤드 수만큼 동시에 처리되므로 파티션(컨슈머 스레드) 수를 넘어서는 처리량을 낼 수 있다.
+ * <p>
+ * 처리 후에는 파티션별로 앞에서부터 연속으로 성공한 offset 까지만 커밋하고,
+ * 실패가 있는 파티션은 첫 실패 offset 으로 되돌려 다음 poll 에서 다시 받는다.
+ * 이때 실패 이후의 성공한 레코드도 다시 전달되므로, handler 는 멱등해야 한다.
+ * <p>
+ * {@link FailedRecordRecoverer} 가 주어지면, 실패한 샤드를 절반씩 나누어 다시 처리하며 실패 원인인 레코드만 골라낸 뒤
+ * recoverer(ex. retry topic / DLT)로 넘긴다. 넘겨진 레코드는 처리된 것으로 보아 나머지와 함께 커밋되므로,
+ * 하나의 poison message 가 파티션 전체를 막지 않는다. 대신 해당 key 의 이후 이벤트가 먼저 반영될 수 있다.
+ */
+@Slf4j
+public class KeyShardedBatchProcessor {
+    private final Executor executor;
+    private final int shardCount;
+    private final FailedRecordRecoverer recoverer;
+
+    public KeyShardedBatchProcessor(Executor executor, int shardCount) {
+        this(executor, shardCount, null);
+    }
+
+    public KeyShardedBatchProcessor(Executor executor, int shardCount, FailedRecordRecoverer recoverer) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount 는 1 이상이어야 합니다.");
+        }
+        this.executor = executor;
+        this.shardCount = shardCount;
+        this.recoverer = recoverer;
+    }
+
+    /**
+     * 반드시 listener(컨슈머) 스레드에서 호출한다. 컨슈머는 샤드 처리가 모두 끝난 뒤 이 스레드에서만 사용된다.
+     *
+     * @param handler 한 샤드의 레코드를 순서대로 처리한다. 예외를 던지면 트랜잭션 단위로 롤백되어야 한다.
+     * @return 처리도, recover 도 되지 않아 다시 전달될 레코드 수
+     */
+    public <K, V> int processAndCommit(
+        List<ConsumerRecord<K, V>> records,
+        Consumer<?, ?> consumer,
+        ShardHandler<K, V> handler
+    ) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        List<List<ConsumerRecord<K, V>>> shards = shard(records);
+        List<CompletableFuture<List<ConsumerRecord<K, V>>>> futures = shards.stream()
+            .filter(shard -> !shard.isEmpty())
+            .map(shard -> CompletableFuture.supplyAsync(() -> handle(shard, handler), executor))
+            .toList();
+
+        Set<ConsumerRecord<K, V>> failed = new HashSet<>();
+        futures.forEach(future -> failed.addAll(future.join()));
+
+        commitContiguous(records, failed, consumer);
+        return failed.size();
+    }
+
+    private <K, V> List<List<ConsumerRecord<K, V>>> shard(List<ConsumerRecord<K, V>> records) {
+        List<List<ConsumerRecord<K, V>>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (ConsumerRecord<K, V> record : records) {
+            // key 가 없으면 파티션 단위로 순서를 유지한다.
+            Object shardKey = record.key() != null ? record.key() : record.partition();
+            int hash = shardKey instanceof byte[] bytes ? Arrays.hashCode(bytes) : Objects.hashCode(shardKey);
+            shards.get(Math.floorMod(hash, shardCount)).add(record);
+        }
+        return shards;
+    }
+
+    /**
+     * @return 처리하지 못한 레코드 (모두 처리되면 빈 목록)
+     */
+    private <K, V> List<ConsumerRecord<K, V>> handle(List<ConsumerRecord<K, V>> shard, ShardHandler<K, V> handler) {
+        try {
+            handler.handle(shard);
+            return List.of();
+        } catch (Exception e) {
+            log.warn("샤드 처리 실패 ({}건, 첫 레코드: {}-{}@{})",
+                shard.size(), shard.get(0).topic(), shard.get(0).partition(), shard.get(0).offset(), e);
+            if (recoverer == null) {
+                return shard;
+            }
+            List<ConsumerRecord<K, V>> unrecovered = new ArrayList<>();
+            bisect(shard, e, handler, unrecovered);
+            return unrecovered;
+        }
+    }
+
+    /**
+     * 통째로 실패한 범위를 절반씩 나누어 앞쪽부터 다시 처리하고, 단건으로도 실패한 레코드만 recoverer 로 넘긴다.
+     */
+    private <K, V> void bisect(
+        List<ConsumerRecord<K, V>> failed,
+        Exception cause,
+        ShardHandler<K, V> handler,
+        List<ConsumerRecord<K, V>> unrecovered
+    ) {
+        if (failed.size() == 1) {
+            if (!recoverer.recover(failed.get(0), cause)) {
+                unrecovered.add(failed.get(0));
+            }
+            return;
+        }
+
+        int mid = failed.size() / 2;
+        for (List<ConsumerRecord<K, V>> half : List.of(failed.subList(0, mid), failed.subList(mid, failed.size()))) {
+            try {
+                handler.handle(half);
+            } catch (Exception e) {
+                bisect(half, e, handler, unrecovered);
+            }
+        }
+    }
+
+    private <K, V> void commitContiguous(
+        List<ConsumerRecord<K, V>> records,
+        Set<ConsumerRecord<K, V>> failed,
+        Consumer<?, ?> consumer
+    ) {
+        // poll 결과는 파티션 안에서 offset 순으로 정렬되어 있다.
+        Map<TopicPartition, Long> nextOffsets = new HashMap<>();
+        Map<TopicPartition, Long> firstFailedOffsets = new HashMap<>();
+        for (ConsumerRecord<K, V> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (firstFailedOffsets.containsKey(partition)) {
+                continue;
+            }
+            if (failed.contains(record)) {
+                firstFailedOffsets.put(partition, record.offset());
+            } else {
+                nextOffsets.put(partition, record.offset() + 1);
+            }
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        nextOffsets.forEach((partition, offset) -> commits.put(partition, new OffsetAndMetadata(offset)));
+        if (!commits.isEmpty()) {
+            consumer.commitSync(commits);
+        }
+        firstFailedOffsets.forEach(consumer::seek);
+    }
+
+    @FunctionalInterface
+    public interface ShardHandler<K, V> {
+        void handle(List<ConsumerRecord<K, V>> records) throws Exception;
+    }
+}
@@ -0,0 +1,128 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * retry topic 을 단계마다 별도의 컨테이너와 consumer group({groupId}.retry-{n})으로 소비한다.
+ * <p>
+ * 단계마다 지연 시간이 같아 파티션 안에서는 due 시각이 offset 순으로 증가하므로, due 되지 않은 레코드를 만나면
+ * 그 파티션을 해당 offset 으로 되돌리고 남은 시간만큼 pause 한 뒤 resume 한다.
+ * 컨슈머 스레드가 잠들지 않으므로 poll / rebalance 가 지연되지 않고, 같은 단계의 다른 파티션이나 다른 단계의 레코드는 기다리지 않는다.
+ */
+public class RetryTopicListenerContainers implements SmartLifecycle {
+    private final List<ConcurrentMessageListenerContainer<Object, Object>> containers = new ArrayList<>();
+    private final RetryTopicRouter retryTopicRouter;
+    private final RetryBatchHandler handler;
+    private final ScheduledExecutorService resumeScheduler;
+    private volatile boolean running;
+
+    /**
+     * @param topic       원본 topic. {@link RetryTopicRouter#retryTopics(String)} 의 topic 마다 컨테이너를 만든다.
+     * @param groupId     원본 topic 의 consumer group. 단계마다 {groupId}.retry-{n} 으로 소비한다.
+     * @param concurrency 단계별 컨테이너의 컨슈머 스레드 수
+     * @param handler     due 된 레코드를 처리하고 offset 을 커밋한다. (listener 스레드에서 호출된다)
+     */
+    public RetryTopicListenerContainers(
+        ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory,
+        RetryTopicRouter retryTopicRouter,
+        String topic,
+        String groupId,
+        int concurrency,
+        RetryBatchHandler handler
+    ) {
+        this.retryTopicRouter = retryTopicRouter;
+        this.handler = handler;
+        this.resumeScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("kafka-retry-resume-" + topic).daemon().factory()
+        );
+
+        for (String retryTopic : retryTopicRouter.retryTopics(topic)) {
+            ConcurrentMessageListenerContainer<Object, Object> container = containerFactory.createContainer(retryTopic);
+            container.getContainerProperties().setGroupId(groupId + retryTopic.substring(topic.length()));
+            container.setConcurrency(concurrency);
+            container.setBeanName(retryTopic + "-listener");
+            container.setupMessageListener((BatchAcknowledgingConsumerAwareMessageListener<Object, Object>)
+                (records, acknowledgment, consumer) -> onMessage(container, records, consumer));
+            containers.add(container);
+        }
+    }
+
+    void onMessage(
+        ConcurrentMessageListenerContainer<Object, Object> container,
+        List<ConsumerRecord<Object, Object>> records,
+        Consumer<?, ?> consumer
+    ) {
+        long now = System.currentTimeMillis();
+        List<ConsumerRecord<Object, Object>> due = new ArrayList<>(records.size());
+        Map<TopicPartition, Long> pauseMillis = new LinkedHashMap<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            if (pauseMillis.containsKey(partition)) {
+                continue;
+            }
+            long remaining = retryTopicRouter.remainingDelayMillis(record, now);
+            if (remaining > 0) {
+                // 이번 poll 에서 이 파티션의 나머지 레코드는 버리고, resume 후 이 offset 부터 다시 받는다.
+                consumer.seek(partition, record.offset());
+                pauseMillis.put(partition, remaining);
+            } else {
+                due.add(record);
+            }
+        }
+
+        // 처리에 실패한 레코드가 있으면 handler 가 더 앞의 offset 으로 다시 되돌린다.
+        if (!due.isEmpty()) {
+            handler.handle(due, consumer);
+        }
+        pauseMillis.forEach((partition, millis) -> {
+            container.pausePartition(partition);
+            resumeScheduler.schedule(() -> container.resumePartition(partition), millis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    @Override
+    public void start() {
+        containers.forEach(ConcurrentMessageListenerContainer::start);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        resumeScheduler.shutdownNow();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * {@code @KafkaListener} 컨테이너와 같은 단계에서 시작하고 멈춘다.
+     */
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+
+    @FunctionalInterface
+    public interface RetryBatchHandler {
+        void handle(List<ConsumerRecord<Object, Object>> records, Consumer<?, ?> consumer);
+    }
+}
@@ -0,0 +1,172 @@
+package com.loopers.support.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 처리에 실패한 레코드를 단계별 retry topic 으로, 마지막 단계까지 실패하면 DLT 로 보낸다.
+ * <pre>
+ * {topic} → {topic}.retry-0 (backoffs[0] 후) → {topic}.retry-1 (backoffs[1] 후) → ... → {topic}.dlt
+ * </pre>
+ * retry topic 은 단계마다 지연 시간이 같아 파티션 안에서는 due 시각이 offset 순으로 증가하므로,
+ * retry listener 는 due 되지 않은 첫 레코드에서 파티션을 멈추면 된다. ({@link RetryTopicListenerContainers})
+ * 원본 레코드의 key / value(byte[]) / header 를 그대로 옮기므로, 역직렬화 전의 raw 레코드를 받는 listener 에서 사용한다.
+ */
+@Slf4j
+public class RetryTopicRouter implements FailedRecordRecoverer {
+    public static final String HEADER_ATTEMPT = "x-retry-attempt";
+    public static final String HEADER_DUE_AT = "x-retry-due-at";
+    public static final String HEADER_ORIGINAL_TOPIC = "x-original-topic";
+    public static final String HEADER_EXCEPTION = "x-exception";
+    private static final Set<String> ROUTING_HEADERS = Set.of(HEADER_ATTEMPT, HEADER_DUE_AT, HEADER_ORIGINAL_TOPIC, HEADER_EXCEPTION);
+    private static final String RETRY_SUFFIX = ".retry-";
+    private static final String DLT_SUFFIX = ".dlt";
+    private static final int MAX_EXCEPTION_LENGTH = 1_000;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final List<Duration> backoffs;
+    private final Duration sendTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public RetryTopicRouter(
+        KafkaTemplate<String, byte[]> kafkaTemplate,
+        List<Duration> backoffs,
+        Duration sendTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.backoffs = List.copyOf(backoffs);
+        this.sendTimeout = sendTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean recover(ConsumerRecord<?, ?> record, Exception exception) {
+        if (!(record.value() == null || record.value() instanceof byte[])
+            || !(record.key() == null || record.key() instanceof String)) {
+            log.error("raw 레코드(String key, byte[] value)만 retry topic 으로 보낼 수 있습니다. ({}-{}@{})",
+                record.topic(), record.partition(), record.offset());
+            return false;
+        }
+
+        int attempt = intHeader(record.headers(), HEADER_ATTEMPT, 0);
+        String originalTopic = originalTopic(record);
+        boolean exhausted = attempt >= backoffs.size();
+        String target = exhausted ? dltTopic(originalTopic) : retryTopic(originalTopic, attempt);
+
+        Headers headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!ROUTING_HEADERS.contains(header.key())) {
+                headers.add(header);
+            }
+        }
+        headers.add(HEADER_ORIGINAL_TOPIC, originalTopic.getBytes(StandardCharsets.UTF_8));
+        headers.add(HEADER_ATTEMPT, ByteBuffer.allocate(Integer.BYTES).putInt(attempt + 1).array());
+        headers.add(HEADER_EXCEPTION, exceptionSummary(exception).getBytes(StandardCharsets.UTF_8));
+        if (!exhausted) {
+            long dueAt = System.currentTimeMillis() + backoffs.get(attempt).toMillis();
+            headers.add(HEADER_DUE_AT, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        }
+
+        try {
+            kafkaTemplate.send(new ProducerRecord<>(target, null, (String) record.key(), (byte[]) record.value(), headers))
+                .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("{} 로 레코드를 보내지 못했습니다. ({}-{}@{})", target, record.topic(), record.partition(), record.offset(), e);
+            return false;
+        }
+
+        Counter.builder("kafka.retry.routed")
+            .tag("topic", originalTopic)
+            .tag("target", exhausted ? "dlt" : "retry-" + attempt)
+            .register(meterRegistry)
+            .increment();
+        log.warn("처리 실패한 레코드를 {} 로 보냈습니다. ({}-{}@{})", target, record.topic(), record.partition(), record.offset());
+        return true;
+    }
+
+    /**
+     * @return 레코드가 due 될 때까지 남은 시간(ms). due 되었거나 due 시각이 없으면 0 이고, 가장 긴 backoff 를 넘지 않는다.
+     */
+    public long remainingDelayMillis(ConsumerRecord<?, ?> record, long nowMillis) {
+        long dueAt = longHeader(record.headers(), HEADER_DUE_AT, 0L);
+        long maxDelay = backoffs.stream().mapToLong(Duration::toMillis).max().orElse(0L);
+        return Math.max(0L, Math.min(dueAt - nowMillis, maxDelay));
+    }
+
+    public List<String> retryTopics(String topic) {
+        return IntStream.range(0, backoffs.size()).mapToObj(attempt -> retryTopic(topic, attempt)).toList();
+    }
+
+    public List<String> allTopics(String topic) {
+        List<String> topics = new ArrayList<>(retryTopics(topic));
+        topics.add(dltTopic(topic));
+        return topics;
+    }
+
+    public static String retryTopic(String topic, int attempt) {
+        return topic + RETRY_SUFFIX + attempt;
+    }
+
+    public static String dltTopic(String topic) {
+        return topic + DLT_SUFFIX;
+    }
+
+    public static boolean isDltTopic(String topic) {
+        return topic.endsWith(DLT_SUFFIX) && topic.length() > DLT_SUFFIX.length();
+    }
+
+    /**
+     * retry topic / DLT 의 레코드라면 처음 발행된 topic 을, 아니라면 레코드의 topic 을 반환한다.
+     */
+    static String originalTopic(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(HEADER_ORIGINAL_TOPIC);
+        if (header != null) {
+            return new String(header.value(), StandardCharsets.UTF_8);
+        }
+        String topic = record.topic();
+        return isDltTopic(topic) ? topic.substring(0, topic.length() - DLT_SUFFIX.length()) : topic;
+    }
+
+    private static int intHeader(Headers headers, String key, int defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header == null || header.value().length != Integer.BYTES ? defaultValue : ByteBuffer.wrap(header.value()).getInt();
+    }
+
+    private static long longHeader(Headers headers, String key, long defaultValue) {
+        Header header = headers.lastHeader(key);
+        return header == null || header.value().length != Long.BYTES ? defaultValue : ByteBuffer.wrap(header.value()).getLong();
+    }
+
+    private static String exceptionSummary(Exception exception) {
+        Throwable root = exception;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String summary = root.getClass().getName() + ": " + root.getMessage();
+        return summary.length() > MAX_EXCEPTION_LENGTH ? summary.substring(0, MAX_EXCEPTION_LENGTH) : summary;
+    }
+
+    static boolean isRoutingHeader(String key) {
+        return ROUTING_HEADERS.contains(key);
+    }
+}
@@ -0,0 +1,167 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DltReplayerTest {
+    private static final String GROUP_ID = "commerce-streamer-dlt-replayer";
+    private static final String DLT = "example.dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<Object, Object> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, byte[]>> sent;
+
+    // 재발행 후 닫힌 consumer 의 커밋 결과를 확인할 수 있도록 close 를 무시한다.
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+        @Override
+        public synchronized void close() {
+        }
+    };
+
+    private DltReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        replayer = new DltReplayer(consumerFactory, kafkaTemplate, GROUP_ID, Duration.ofSeconds(1));
+        lenient().when(consumerFactory.createConsumer(eq(GROUP_ID), isNull(), anyString(), any(Properties.class))).thenReturn(consumer);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, Node.noNode(), new Node[0], new Node[0])));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+    }
+
+    @DisplayName("DLT 의 레코드를 라우팅 헤더를 뗀 채 원래 topic 으로 재발행하고, 재발행한 offset 까지 커밋한다.")
+    @Test
+    void republishesToOriginalTopicAndCommits() {
+        // arrange
+        when(kafkaTemplate.send(sent.capture())).thenReturn(acked());
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(dltRecord(0));
+            consumer.addRecord(dltRecord(1));
+        });
+
+        // act
+        int replayed = replayer.replay(DLT, 10);
+
+        // assert
+        ProducerRecord<String, byte[]> first = sent.getAllValues().get(0);
+        assertAll(
+            () -> assertThat(replayed).isEqualTo(2),
+            () -> assertThat(sent.getAllValues()).extracting(ProducerRecord::topic).containsExactly("example", "example"),
+            () -> assertThat(first.key()).isEqualTo("key-0"),
+            () -> assertThat(first.headers().lastHeader("trace-id")).isNotNull(),
+            () -> assertThat(first.headers().lastHeader(RetryTopicRouter.HEADER_ATTEMPT)).isNull(),
+            () -> assertThat(first.headers().lastHeader(RetryTopicRouter.HEADER_ORIGINAL_TOPIC)).isNull(),
+            () -> assertThat(consumer.committed(Set.of(PARTITION))).containsEntry(PARTITION, new OffsetAndMetadata(2))
+        );
+    }
+
+    @DisplayName("limit 을 넘는 레코드는, 재발행하지도 커밋하지도 않는다.")
+    @Test
+    void stopsAtLimit() {
+        // arrange
+        when(kafkaTemplate.send(sent.capture())).thenReturn(acked());
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < 5; offset++) {
+                consumer.addRecord(dltRecord(offset));
+            }
+        });
+
+        // act
+        int replayed = replayer.replay(DLT, 3);
+
+        // assert
+        assertAll(
+            () -> assertThat(replayed).isEqualTo(3),
+            () -> assertThat(sent.getAllValues()).hasSize(3),
+            () -> assertThat(consumer.committed(Set.of(PARTITION))).containsEntry(PARTITION, new OffsetAndMetadata(3))
+        );
+    }
+
+    @DisplayName("재발행에 실패하면, offset 을 커밋하지 않고 예외를 던진다.")
+    @Test
+    void doesNotCommit_whenRepublishFails() {
+        // arrange
+        when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, byte[]>>any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        consumer.schedulePollTask(() -> consumer.addRecord(dltRecord(0)));
+
+        // act
+        assertThrows(IllegalStateException.class, () -> replayer.replay(DLT, 10));
+
+        // assert
+        assertThat(consumer.committed(Set.of(PARTITION))).isEmpty();
+    }
+
+    @DisplayName("DLT 가 아닌 topic 이면, consumer 를 만들지 않고 거부한다.")
+    @Test
+    void rejectsNonDltTopic() {
+        // act
+        assertThrows(IllegalArgumentException.class, () -> replayer.replay("example", 10));
+        assertThrows(IllegalArgumentException.class, () -> replayer.replay("example.retry-0", 10));
+
+        // assert
+        verify(consumerFactory, never()).createConsumer(anyString(), any(), anyString(), any(Properties.class));
+    }
+
+    private ConsumerRecord<Object, Object> dltRecord(long offset) {
+        Headers headers = new RecordHeaders()
+            .add("trace-id", "t".getBytes(StandardCharsets.UTF_8))
+            .add(RetryTopicRouter.HEADER_ORIGINAL_TOPIC, "example".getBytes(StandardCharsets.UTF_8))
+            .add(RetryTopicRouter.HEADER_ATTEMPT, new byte[]{0, 0, 0, 4});
+        return new ConsumerRecord<>(
+            DLT, 0, offset, 0L, TimestampType.CREATE_TIME, 5, 5, "key-" + offset, "value".getBytes(StandardCharsets.UTF_8), headers, Optional.empty()
+        );
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> acked() {
+        return CompletableFuture.completedFuture(new SendResult<>(null, null));
+    }
+}
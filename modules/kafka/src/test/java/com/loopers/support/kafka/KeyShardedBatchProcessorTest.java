@@ -0,0 +1,257 @@
+package com.loopers.support.kafka;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KeyShardedBatchProcessorTest {
+    private static final String TOPIC = "example";
+    // "a" 와 "c" 는 같은 샤드, "b" 는 다른 샤드에 담긴다. (shardCount = 2)
+    private static final int SHARD_COUNT = 2;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(SHARD_COUNT);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("모든 샤드가 처리되면, ")
+    @Nested
+    class Success {
+        @DisplayName("파티션별로 마지막 offset 의 다음 offset 을 커밋한다.")
+        @Test
+        void commitsNextOffsetPerPartition() {
+            // arrange
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, SHARD_COUNT);
+            List<ConsumerRecord<String, String>> records = List.of(
+                record(0, 10, "a"), record(0, 11, "b"), record(1, 20, "c"), record(1, 21, "b")
+            );
+
+            // act
+            int unprocessed = processor.processAndCommit(records, consumer, shard -> {});
+
+            // assert
+            assertAll(
+                () -> assertThat(unprocessed).isZero(),
+                () -> verify(consumer).commitSync(Map.of(
+                    new TopicPartition(TOPIC, 0), new OffsetAndMetadata(12),
+                    new TopicPartition(TOPIC, 1), new OffsetAndMetadata(22)
+                )),
+                () -> verify(consumer, never()).seek(any(TopicPartition.class), anyLong())
+            );
+        }
+
+        @DisplayName("뒤쪽 offset 의 샤드가 먼저 끝나도, 모두 끝난 뒤에 마지막 offset 까지 커밋한다.")
+        @Test
+        void commitsLastOffset_whenShardsCompleteOutOfOrder() {
+            // arrange
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, SHARD_COUNT);
+            List<ConsumerRecord<String, String>> records = List.of(
+                record(0, 0, "a"), record(0, 1, "b"), record(0, 2, "a"), record(0, 3, "b")
+            );
+            CountDownLatch laterShardDone = new CountDownLatch(1);
+            List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+            // act
+            processor.processAndCommit(records, consumer, shard -> {
+                String key = shard.get(0).key();
+                if (key.equals("a")) {
+                    // offset 0 을 가진 샤드는 뒤쪽 샤드가 끝날 때까지 기다린다.
+                    assertThat(laterShardDone.await(5, TimeUnit.SECONDS)).isTrue();
+                } else {
+                    laterShardDone.countDown();
+                }
+                completed.add(key);
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(completed).containsExactly("b", "a"),
+                () -> verify(consumer).commitSync(Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(4)))
+            );
+        }
+
+        @DisplayName("같은 key 의 레코드는, poll 순서대로 같은 샤드에 담긴다.")
+        @Test
+        void keepsRecordOrderPerKey() {
+            // arrange
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, SHARD_COUNT);
+            List<ConsumerRecord<String, String>> records = List.of(
+                record(0, 0, "a"), record(1, 0, "b"), record(0, 1, "a"), record(0, 2, "c"), record(0, 3, "a")
+            );
+            List<List<Long>> shards = Collections.synchronizedList(new ArrayList<>());
+
+            // act
+            processor.processAndCommit(records, consumer, shard -> shards.add(shard.stream().map(ConsumerRecord::offset).toList()));
+
+            // assert
+            assertThat(shards).containsExactlyInAnyOrder(List.of(0L, 1L, 2L, 3L), List.of(0L));
+        }
+    }
+
+    @DisplayName("샤드 처리에 실패하면, ")
+    @Nested
+    class Failure {
+        @DisplayName("실패한 파티션은 첫 실패 offset 직전까지 커밋하고, 첫 실패 offset 으로 되돌린다.")
+        @Test
+        void commitsUpToFirstFailureAndSeeks_whenMiddleShardFails() {
+            // arrange
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, SHARD_COUNT);
+            List<ConsumerRecord<String, String>> records = List.of(
+                record(0, 0, "a"), record(0, 1, "b"), record(0, 2, "a"), record(0, 3, "b"), record(1, 5, "c")
+            );
+
+            // act
+            int unprocessed = processor.processAndCommit(records, consumer, shard -> {
+                if (shard.get(0).key().equals("b")) {
+                    throw new IllegalStateException("failed");
+                }
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(unprocessed).isEqualTo(2),
+                () -> verify(consumer).commitSync(Map.of(
+                    new TopicPartition(TOPIC, 0), new OffsetAndMetadata(1),
+                    new TopicPartition(TOPIC, 1), new OffsetAndMetadata(6)
+                )),
+                () -> verify(consumer).seek(new TopicPartition(TOPIC, 0), 1L)
+            );
+        }
+
+        @DisplayName("첫 레코드부터 실패한 파티션은, 커밋하지 않고 첫 offset 으로 되돌린다.")
+        @Test
+        void seeksWithoutCommit_whenFirstRecordFails() {
+            // arrange
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, SHARD_COUNT);
+            List<ConsumerRecord<String, String>> records = List.of(record(0, 7, "b"), record(0, 8, "a"));
+
+            // act
+            processor.processAndCommit(records, consumer, shard -> {
+                if (shard.get(0).key().equals("b")) {
+                    throw new IllegalStateException("failed");
+                }
+            });
+
+            // assert
+            assertAll(
+                () -> verify(consumer, never()).commitSync(anyMap()),
+                () -> verify(consumer).seek(new TopicPartition(TOPIC, 0), 7L)
+            );
+        }
+
+        @DisplayName("recoverer 가 있으면, 실패 원인인 레코드만 넘기고 나머지와 함께 커밋한다.")
+        @Test
+        void recoversOnlyPoisonRecord_whenRecovererIsGiven() {
+            // arrange
+            List<Long> recovered = Collections.synchronizedList(new ArrayList<>());
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, 1, (record, exception) -> {
+                recovered.add(record.offset());
+                return true;
+            });
+            List<ConsumerRecord<String, String>> records = List.of(
+                record(0, 0, "a"), record(0, 1, "b"), record(0, 2, "poison"), record(0, 3, "c"), record(0, 4, "a")
+            );
+            List<Long> handled = Collections.synchronizedList(new ArrayList<>());
+
+            // act
+            int unprocessed = processor.processAndCommit(records, consumer, shard -> {
+                if (shard.stream().anyMatch(record -> record.key().equals("poison"))) {
+                    throw new IllegalStateException("poison");
+                }
+                shard.forEach(record -> handled.add(record.offset()));
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(unprocessed).isZero(),
+                () -> assertThat(recovered).containsExactly(2L),
+                () -> assertThat(handled).containsExactlyInAnyOrder(0L, 1L, 3L, 4L),
+                () -> verify(consumer).commitSync(Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(5))),
+                () -> verify(consumer, never()).seek(any(TopicPartition.class), anyLong())
+            );
+        }
+
+        @DisplayName("poison 레코드가 여러 개이면, 절반씩 나누어 각각만 recoverer 로 넘긴다.")
+        @Test
+        void recoversEachPoisonRecord_whenShardHasSeveral() {
+            // arrange
+            List<Long> recovered = Collections.synchronizedList(new ArrayList<>());
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, 1, (record, exception) -> {
+                recovered.add(record.offset());
+                return true;
+            });
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            for (int offset = 0; offset < 8; offset++) {
+                records.add(record(0, offset, offset == 1 || offset == 6 ? "poison" : "a"));
+            }
+            List<Long> handled = Collections.synchronizedList(new ArrayList<>());
+
+            // act
+            processor.processAndCommit(records, consumer, shard -> {
+                if (shard.stream().anyMatch(record -> record.key().equals("poison"))) {
+                    throw new IllegalStateException("poison");
+                }
+                shard.forEach(record -> handled.add(record.offset()));
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(recovered).containsExactly(1L, 6L),
+                () -> assertThat(handled).containsExactly(0L, 2L, 3L, 4L, 5L, 7L),
+                () -> verify(consumer).commitSync(Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(8)))
+            );
+        }
+
+        @DisplayName("recoverer 가 넘기지 못한 레코드는, 실패로 보고 그 offset 으로 되돌린다.")
+        @Test
+        void seeksToUnrecoveredRecord_whenRecovererFails() {
+            // arrange
+            KeyShardedBatchProcessor processor = new KeyShardedBatchProcessor(executor, 1, (record, exception) -> false);
+            List<ConsumerRecord<String, String>> records = List.of(record(0, 0, "a"), record(0, 1, "poison"), record(0, 2, "a"));
+
+            // act
+            int unprocessed = processor.processAndCommit(records, consumer, shard -> {
+                if (shard.stream().anyMatch(record -> record.key().equals("poison"))) {
+                    throw new IllegalStateException("poison");
+                }
+            });
+
+            // assert
+            assertAll(
+                () -> assertThat(unprocessed).isEqualTo(1),
+                () -> verify(consumer).commitSync(Map.of(new TopicPartition(TOPIC, 0), new OffsetAndMetadata(1))),
+                () -> verify(consumer).seek(new TopicPartition(TOPIC, 0), 1L)
+            );
+        }
+    }
+
+    private ConsumerRecord<String, String> record(int partition, long offset, String key) {
+        return new ConsumerRecord<>(TOPIC, partition, offset, key, "value-" + offset);
+    }
+}
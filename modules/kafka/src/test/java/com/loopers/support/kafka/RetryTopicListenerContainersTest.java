@@ -0,0 +1,145 @@
+package com.loopers.support.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetryTopicListenerContainersTest {
+    private static final String TOPIC = "example";
+    private static final String RETRY_TOPIC = "example.retry-0";
+
+    @Mock
+    private ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory;
+
+    @Mock
+    private ConcurrentMessageListenerContainer<Object, Object> container;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private final ContainerProperties containerProperties = new ContainerProperties(RETRY_TOPIC);
+    private final Consumer<?, ?> consumer = mock(Consumer.class);
+    private final List<List<Long>> handled = new ArrayList<>();
+    private RetryTopicListenerContainers containers;
+
+    @BeforeEach
+    void setUp() {
+        when(containerFactory.createContainer(ArgumentMatchers.<String>any())).thenReturn(container);
+        when(container.getContainerProperties()).thenReturn(containerProperties);
+        RetryTopicRouter router = new RetryTopicRouter(kafkaTemplate, List.of(Duration.ofSeconds(1)), Duration.ofSeconds(1), new SimpleMeterRegistry());
+        containers = new RetryTopicListenerContainers(containerFactory, router, TOPIC, "loopers", 1, (records, consumer) ->
+            handled.add(records.stream().map(ConsumerRecord::offset).toList())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.stop();
+    }
+
+    @DisplayName("단계마다 {groupId}.retry-{n} consumer group 으로 소비한다.")
+    @Test
+    void usesGroupIdPerTier() {
+        assertThat(containerProperties.getGroupId()).isEqualTo("loopers.retry-0");
+    }
+
+    @DisplayName("due 된 레코드만 처리하고, due 되지 않은 파티션은 그 offset 으로 되돌려 남은 시간만큼 pause 한다.")
+    @Test
+    void pausesPartitionUntilDue_whenRecordIsNotDue() {
+        // arrange
+        long now = System.currentTimeMillis();
+        List<ConsumerRecord<Object, Object>> records = List.of(
+            record(0, 10, now - 1),
+            record(0, 11, now + 200),
+            record(0, 12, now - 1),
+            record(1, 20, now - 1)
+        );
+        TopicPartition notDue = new TopicPartition(RETRY_TOPIC, 0);
+
+        // act
+        containers.onMessage(container, records, consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(handled).containsExactly(List.of(10L, 20L)),
+            () -> verify(consumer).seek(notDue, 11L),
+            () -> verify(consumer, never()).seek(new TopicPartition(RETRY_TOPIC, 1), 20L),
+            () -> verify(container).pausePartition(notDue),
+            () -> verify(container, timeout(2_000)).resumePartition(notDue)
+        );
+    }
+
+    @DisplayName("모두 due 되었으면, 멈추지 않고 모두 처리한다.")
+    @Test
+    void handlesAllWithoutPause_whenAllRecordsAreDue() {
+        // arrange
+        long now = System.currentTimeMillis();
+        List<ConsumerRecord<Object, Object>> records = List.of(record(0, 10, now - 1), record(0, 11, now));
+
+        // act
+        containers.onMessage(container, records, consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(handled).containsExactly(List.of(10L, 11L)),
+            () -> verify(consumer, never()).seek(any(TopicPartition.class), anyLong()),
+            () -> verify(container, never()).pausePartition(any())
+        );
+    }
+
+    @DisplayName("모두 due 되지 않았으면, handler 를 호출하지 않는다.")
+    @Test
+    void doesNotCallHandler_whenNoRecordIsDue() {
+        // arrange
+        long now = System.currentTimeMillis();
+
+        // act
+        containers.onMessage(container, List.of(record(0, 10, now + 500)), consumer);
+
+        // assert
+        assertAll(
+            () -> assertThat(handled).isEmpty(),
+            () -> verify(container).pausePartition(new TopicPartition(RETRY_TOPIC, 0))
+        );
+    }
+
+    private ConsumerRecord<Object, Object> record(int partition, long offset, long dueAt) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(RetryTopicRouter.HEADER_DUE_AT, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+        return new ConsumerRecord<>(
+            RETRY_TOPIC, partition, offset, 0L, TimestampType.CREATE_TIME, 0, 0, "key", new byte[0], headers, Optional.empty()
+        );
+    }
+}
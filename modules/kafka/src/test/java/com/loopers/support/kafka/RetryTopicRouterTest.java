@@ -0,0 +1,240 @@
+package com.loopers.support.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetryTopicRouterTest {
+    private static final String TOPIC = "example";
+    private static final List<Duration> BACKOFFS = List.of(Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, byte[]>> sent;
+
+    private RetryTopicRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new RetryTopicRouter(kafkaTemplate, BACKOFFS, Duration.ofSeconds(1), new SimpleMeterRegistry());
+    }
+
+    @DisplayName("처리에 실패한 레코드를 보낼 때, ")
+    @Nested
+    class Recover {
+        @DisplayName("원본 topic 의 레코드는, 첫 단계 retry topic 으로 due 시각과 함께 보낸다.")
+        @Test
+        void routesToFirstRetryTopic_whenRecordIsFromOriginalTopic() {
+            // arrange
+            when(kafkaTemplate.send(sent.capture())).thenReturn(acked());
+            Headers headers = new RecordHeaders().add("trace-id", bytes("t-1"));
+            long before = System.currentTimeMillis();
+
+            // act
+            boolean recovered = router.recover(record(TOPIC, headers), new IllegalStateException("boom"));
+
+            // assert
+            ProducerRecord<String, byte[]> result = sent.getValue();
+            assertAll(
+                () -> assertThat(recovered).isTrue(),
+                () -> assertThat(result.topic()).isEqualTo("example.retry-0"),
+                () -> assertThat(result.key()).isEqualTo("key"),
+                () -> assertThat(result.value()).isEqualTo(bytes("value")),
+                () -> assertThat(header(result.headers(), "trace-id")).isEqualTo("t-1"),
+                () -> assertThat(header(result.headers(), RetryTopicRouter.HEADER_ORIGINAL_TOPIC)).isEqualTo(TOPIC),
+                () -> assertThat(intHeader(result.headers(), RetryTopicRouter.HEADER_ATTEMPT)).isEqualTo(1),
+                () -> assertThat(header(result.headers(), RetryTopicRouter.HEADER_EXCEPTION)).isEqualTo("java.lang.IllegalStateException: boom"),
+                () -> assertThat(longHeader(result.headers(), RetryTopicRouter.HEADER_DUE_AT))
+                    .isBetween(before + 1_000, System.currentTimeMillis() + 1_000)
+            );
+        }
+
+        @DisplayName("retry topic 의 레코드는, 라우팅 헤더를 바꿔 다음 단계로 보낸다.")
+        @Test
+        void routesToNextTier_whenRecordIsFromRetryTopic() {
+            // arrange
+            when(kafkaTemplate.send(sent.capture())).thenReturn(acked());
+            Headers headers = routedHeaders(1);
+
+            // act
+            router.recover(record("example.retry-0", headers), new IllegalStateException("again"));
+
+            // assert
+            ProducerRecord<String, byte[]> result = sent.getValue();
+            assertAll(
+                () -> assertThat(result.topic()).isEqualTo("example.retry-1"),
+                () -> assertThat(intHeader(result.headers(), RetryTopicRouter.HEADER_ATTEMPT)).isEqualTo(2),
+                () -> assertThat(result.headers().headers(RetryTopicRouter.HEADER_ATTEMPT)).hasSize(1),
+                () -> assertThat(result.headers().headers(RetryTopicRouter.HEADER_DUE_AT)).hasSize(1),
+                () -> assertThat(header(result.headers(), RetryTopicRouter.HEADER_EXCEPTION)).isEqualTo("java.lang.IllegalStateException: again")
+            );
+        }
+
+        @DisplayName("마지막 단계까지 실패한 레코드는, due 시각 없이 DLT 로 보낸다.")
+        @Test
+        void routesToDlt_whenAllTiersAreExhausted() {
+            // arrange
+            when(kafkaTemplate.send(sent.capture())).thenReturn(acked());
+
+            // act
+            router.recover(record("example.retry-2", routedHeaders(3)), new IllegalStateException("poison"));
+
+            // assert
+            ProducerRecord<String, byte[]> result = sent.getValue();
+            assertAll(
+                () -> assertThat(result.topic()).isEqualTo("example.dlt"),
+                () -> assertThat(intHeader(result.headers(), RetryTopicRouter.HEADER_ATTEMPT)).isEqualTo(4),
+                () -> assertThat(result.headers().lastHeader(RetryTopicRouter.HEADER_DUE_AT)).isNull()
+            );
+        }
+
+        @DisplayName("브로커로 보내지 못하면, 실패로 반환한다.")
+        @Test
+        void returnsFalse_whenSendFails() {
+            // arrange
+            when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, byte[]>>any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+            // act
+            boolean recovered = router.recover(record(TOPIC, new RecordHeaders()), new IllegalStateException("boom"));
+
+            // assert
+            assertThat(recovered).isFalse();
+        }
+
+        @DisplayName("역직렬화된 레코드는, 보내지 않고 실패로 반환한다.")
+        @Test
+        void returnsFalse_whenRecordIsNotRaw() {
+            // arrange
+            ConsumerRecord<String, Object> record = new ConsumerRecord<>(TOPIC, 0, 0L, "key", new Object());
+
+            // act
+            boolean recovered = router.recover(record, new IllegalStateException("boom"));
+
+            // assert
+            assertAll(
+                () -> assertThat(recovered).isFalse(),
+                () -> verify(kafkaTemplate, never()).send(ArgumentMatchers.<ProducerRecord<String, byte[]>>any())
+            );
+        }
+    }
+
+    @DisplayName("retry 레코드의 남은 대기 시간은, ")
+    @Nested
+    class RemainingDelay {
+        @DisplayName("due 시각까지 남은 시간이다.")
+        @Test
+        void returnsTimeUntilDue() {
+            // arrange
+            long now = 1_000_000L;
+            Headers headers = new RecordHeaders().add(RetryTopicRouter.HEADER_DUE_AT, longBytes(now + 5_000));
+
+            // act & assert
+            assertThat(router.remainingDelayMillis(record("example.retry-1", headers), now)).isEqualTo(5_000);
+        }
+
+        @DisplayName("due 시각이 지났거나 없으면, 0 이다.")
+        @Test
+        void returnsZero_whenDueOrMissing() {
+            // arrange
+            long now = 1_000_000L;
+            Headers due = new RecordHeaders().add(RetryTopicRouter.HEADER_DUE_AT, longBytes(now - 1));
+
+            // act & assert
+            assertAll(
+                () -> assertThat(router.remainingDelayMillis(record("example.retry-0", due), now)).isZero(),
+                () -> assertThat(router.remainingDelayMillis(record("example.retry-0", new RecordHeaders()), now)).isZero()
+            );
+        }
+
+        @DisplayName("가장 긴 backoff 를 넘지 않는다.")
+        @Test
+        void isCappedByLongestBackoff() {
+            // arrange
+            long now = 1_000_000L;
+            Headers headers = new RecordHeaders().add(RetryTopicRouter.HEADER_DUE_AT, longBytes(now + Duration.ofHours(1).toMillis()));
+
+            // act & assert
+            assertThat(router.remainingDelayMillis(record("example.retry-2", headers), now)).isEqualTo(60_000);
+        }
+    }
+
+    @DisplayName("원본 topic 은, 헤더가 있으면 헤더에서, 없으면 DLT 접미사를 떼어 구한다.")
+    @Test
+    void resolvesOriginalTopic() {
+        assertAll(
+            () -> assertThat(RetryTopicRouter.originalTopic(record("example.retry-0", routedHeaders(1)))).isEqualTo(TOPIC),
+            () -> assertThat(RetryTopicRouter.originalTopic(record("example.dlt", new RecordHeaders()))).isEqualTo(TOPIC),
+            () -> assertThat(RetryTopicRouter.originalTopic(record(TOPIC, new RecordHeaders()))).isEqualTo(TOPIC),
+            () -> assertThat(RetryTopicRouter.isDltTopic(".dlt")).isFalse()
+        );
+    }
+
+    private ConsumerRecord<String, byte[]> record(String topic, Headers headers) {
+        return new ConsumerRecord<>(
+            topic, 0, 0L, 0L, TimestampType.CREATE_TIME, 3, 5, "key", bytes("value"), headers, Optional.empty()
+        );
+    }
+
+    private Headers routedHeaders(int attempt) {
+        return new RecordHeaders()
+            .add(RetryTopicRouter.HEADER_ORIGINAL_TOPIC, bytes(TOPIC))
+            .add(RetryTopicRouter.HEADER_ATTEMPT, ByteBuffer.allocate(Integer.BYTES).putInt(attempt).array())
+            .add(RetryTopicRouter.HEADER_DUE_AT, longBytes(0L))
+            .add(RetryTopicRouter.HEADER_EXCEPTION, bytes("previous"));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> acked() {
+        return CompletableFuture.completedFuture(new SendResult<>(null, null));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] longBytes(long value) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+    }
+
+    private static String header(Headers headers, String key) {
+        return new String(headers.lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    private static int intHeader(Headers headers, String key) {
+        return ByteBuffer.wrap(headers.lastHeader(key).value()).getInt();
+    }
+
+    private static long longHeader(Headers headers, String key) {
+        return ByteBuffer.wrap(headers.lastHeader(key).value()).getLong();
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.testcontainers;
+
+import org.springframework.context.annotation.Configuration;
+import org.testcontainers.kafka.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+@Configuration
+public class KafkaTestContainersConfig {
+    private static final KafkaContainer kafkaContainer = new KafkaContainer(DockerImageName.parse("apache/kafka:3.8.0"));
+
+    static {
+        kafkaContainer.start();
+
+        System.setProperty("spring.kafka.bootstrap-servers", kafkaContainer.getBootstrapServers());
+        // test 프로파일의 admin 전용 주소(kafka:9092) 대신 컨테이너를 바라본다.
+        System.setProperty("spring.kafka.admin.properties.bootstrap.servers", kafkaContainer.getBootstrapServers());
+    }
+}
@@ -5,6 +5,13 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // local cache
+    api("com.github.ben-manes.caffeine:caffeine")
+    // value codec
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4Version"]}")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
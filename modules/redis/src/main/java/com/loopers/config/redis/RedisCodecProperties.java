@@ -0,0 +1,22 @@
+package com.loopers.config.redis;
+
+import com.loopers.support.redis.codec.RedisValueCompression;
+import com.loopers.support.redis.codec.RedisValueFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 객체 값을 저장하는 Redis 템플릿(RedisValueTemplateFactory)의 직렬화 설정.
+ * 읽을 때는 값의 헤더를 보고 형식을 판단하므로, 설정을 바꾸어도 이전 형식으로 저장된 값을 읽을 수 있다.
+ *
+ * @param format               저장 형식
+ * @param compression          압축 방식
+ * @param compressionThreshold 이 크기 이상인 값만 압축한다. (작은 값은 압축해도 줄지 않는다.)
+ */
+@ConfigurationProperties(prefix = "datasource.redis.codec")
+public record RedisCodecProperties(
+    @DefaultValue("smile") RedisValueFormat format,
+    @DefaultValue("lz4") RedisValueCompression compression,
+    @DefaultValue("512B") DataSize compressionThreshold
+) {}
@@ -0,0 +1,24 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * @param bufferEnabled CounterBuffer 사용 여부. 카운터 증가분을 쌓는 애플리케이션에서만 켠다.
+ * @param flushInterval 프로세스 안에 모은 카운터 증가분을 Redis 로 보내는 주기.
+ *                      길수록 Redis 명령이 줄지만, 반영이 늦어지고 프로세스가 비정상 종료될 때 잃는 증가분이 늘어난다.
+ */
+@ConfigurationProperties(prefix = "datasource.redis.counter")
+public record RedisCounterProperties(
+    @DefaultValue("false") boolean bufferEnabled,
+    @DefaultValue("200ms") Duration flushInterval
+) {
+
+    public RedisCounterProperties {
+        if (flushInterval.isZero() || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("flushInterval 은 0 보다 커야 합니다.");
+        }
+    }
+}
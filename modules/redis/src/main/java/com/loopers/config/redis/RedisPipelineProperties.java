@@ -0,0 +1,20 @@
+package com.loopers.config.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param flushSize 파이프라인 한 번에 보내고 응답을 기다리는 최대 명령 수 (다중 key 명령은 최대 key 수).
+ *                  너무 크면 Redis 의 output buffer 와 응답을 모으는 메모리가 커지고, 다른 클라이언트의 명령이 오래 기다린다.
+ */
+@ConfigurationProperties(prefix = "datasource.redis.pipeline")
+public record RedisPipelineProperties(
+    @DefaultValue("500") int flushSize
+) {
+
+    public RedisPipelineProperties {
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("flushSize 는 0 보다 커야 합니다.");
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.loopers.config.redis;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
 import java.util.List;
 
+/**
+ * @param commandTimeout 명령 하나의 응답을 기다리는 시간. Redis 가 응답하지 않을 때 요청 스레드가 묶이는 최대 시간이다. (Lettuce 기본값 60s)
+ */
 @ConfigurationProperties(value = "datasource.redis")
 public record RedisProperties(
         int database,
         RedisNodeInfo master,
-        List<RedisNodeInfo> replicas
+        List<RedisNodeInfo> replicas,
+        @DefaultValue("2s") Duration commandTimeout
 ) { }
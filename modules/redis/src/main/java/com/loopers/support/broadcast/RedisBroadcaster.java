@@ -0,0 +1,95 @@
+package com.loopers.support.broadcast;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.RedisNodeInfo;
+import com.loopers.config.redis.RedisProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 으로 모든 노드에 메시지를 알린다. 보낸 노드 자신은 받지 않는다.
+ * pub/sub 은 구독 중인 노드에만 전달되고 저장되지 않으므로, 연결이 끊긴 동안의 메시지는 유실된다.
+ * (노드 로컬 캐시 무효화처럼, 놓쳐도 ttl 로 복구되는 용도로 사용한다.)
+ * <p>
+ * master / replica 구성의 연결로는 구독할 수 없으므로, 처음 구독할 때 master 로 구독 전용 연결을 연다.
+ */
+@Slf4j
+@Component
+public class RedisBroadcaster {
+    private static final String SEPARATOR = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisProperties redisProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private LettuceConnectionFactory subscriptionConnectionFactory;
+    private RedisMessageListenerContainer listenerContainer;
+
+    public RedisBroadcaster(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        RedisProperties redisProperties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisProperties = redisProperties;
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, nodeId + SEPARATOR + message);
+    }
+
+    /**
+     * @param listener 다른 노드가 보낸 메시지를 구독 스레드에서 받는다. 오래 걸리는 작업은 하지 않는다.
+     */
+    public synchronized void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer().addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf(SEPARATOR);
+            if (separator < 0 || body.startsWith(nodeId + SEPARATOR)) {
+                return;
+            }
+            try {
+                listener.accept(body.substring(separator + 1));
+            } catch (RuntimeException e) {
+                log.warn("[channel={}] 메시지를 처리하지 못했습니다. (message = {})", channel, body, e);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    @PreDestroy
+    synchronized void shutdown() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+            subscriptionConnectionFactory.destroy();
+        }
+    }
+
+    private RedisMessageListenerContainer listenerContainer() {
+        if (listenerContainer != null) {
+            return listenerContainer;
+        }
+
+        RedisNodeInfo master = redisProperties.master();
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(master.host(), master.port());
+        configuration.setDatabase(redisProperties.database());
+        subscriptionConnectionFactory = new LettuceConnectionFactory(configuration);
+        subscriptionConnectionFactory.afterPropertiesSet();
+        subscriptionConnectionFactory.start();
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(subscriptionConnectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        return listenerContainer;
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.support.cache;
+
+/**
+ * 캐시에 저장되는 값과 조기 갱신 판단에 필요한 정보.
+ *
+ * @param value     원본 값
+ * @param loadMillis 원본을 읽는 데 걸린 시간 (ms)
+ * @param expireAt  L2 만료 시각 (epoch ms)
+ */
+record CachedValue<V>(V value, long loadMillis, long expireAt) {}
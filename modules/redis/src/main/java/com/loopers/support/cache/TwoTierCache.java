@@ -0,0 +1,322 @@
+package com.loopers.support.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * L1(로컬 Caffeine) + L2(Redis) 2단 read-through 캐시.
+ * L2 조회는 replica 우선 템플릿으로, 쓰기/삭제는 master 템플릿으로 수행한다.
+ * L2 값은 RedisValueCodec (datasource.redis.codec) 으로 저장한다.
+ * L1 은 노드 로컬이므로 evict 이후에도 다른 노드의 L1 은 최대 l1Ttl 동안 이전 값을 응답할 수 있다.
+ * Redis 장애 시에는 L2 를 건너뛰고 loader 로 폴백한다.
+ * <p>
+ * 같은 key 의 동시 miss 는 {@link SingleFlight} 로 합쳐 원본 조회를 한 번만 수행하고,
+ * earlyRefreshBeta 가 0 보다 크면 만료 직전의 엔트리를 확률적으로 미리 갱신한다. (XFetch)
+ */
+@Slf4j
+public class TwoTierCache<V> {
+
+    /**
+     * @param l1MaximumSize    노드당 L1 최대 엔트리 수
+     * @param l1Ttl            L1 엔트리 유지 시간 (노드 간 정합성 지연의 상한)
+     * @param l2Ttl            L2(Redis) 엔트리 유지 시간
+     * @param earlyRefreshBeta 조기 갱신 강도 (0 = 비활성화, 1.0 권장, 클수록 더 일찍 갱신)
+     */
+    public record Spec(long l1MaximumSize, Duration l1Ttl, Duration l2Ttl, double earlyRefreshBeta) {}
+
+    private final String name;
+    private final Cache<String, CachedValue<V>> local;
+    private final RedisTemplate<String, CachedValue<V>> readTemplate;
+    private final RedisTemplate<String, CachedValue<V>> writeTemplate;
+    private final RedisSerializer<CachedValue<V>> valueSerializer;
+    private final Duration l2Ttl;
+    private final double earlyRefreshBeta;
+    private final SingleFlight<String, V> singleFlight;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Counter l2Error;
+    private final Counter earlyRefresh;
+    private final Timer l2GetTimer;
+    private final Timer l2MultiGetTimer;
+    private final Timer loadTimer;
+
+    TwoTierCache(
+        String name,
+        Cache<String, CachedValue<V>> local,
+        RedisTemplate<String, CachedValue<V>> readTemplate,
+        RedisTemplate<String, CachedValue<V>> writeTemplate,
+        RedisSerializer<CachedValue<V>> valueSerializer,
+        Spec spec,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.local = local;
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+        this.valueSerializer = valueSerializer;
+        this.l2Ttl = spec.l2Ttl();
+        this.earlyRefreshBeta = spec.earlyRefreshBeta();
+
+        this.l1Hit = getsCounter(meterRegistry, "l1", "hit");
+        this.l1Miss = getsCounter(meterRegistry, "l1", "miss");
+        this.l2Hit = getsCounter(meterRegistry, "l2", "hit");
+        this.l2Miss = getsCounter(meterRegistry, "l2", "miss");
+        this.l2Error = getsCounter(meterRegistry, "l2", "error");
+        this.earlyRefresh = Counter.builder("cache.tier.early.refreshes")
+            .tag("cache", name)
+            .register(meterRegistry);
+        Counter coalesced = Counter.builder("cache.tier.coalesced.loads")
+            .tag("cache", name)
+            .register(meterRegistry);
+        this.singleFlight = new SingleFlight<>(coalesced::increment);
+        this.l2GetTimer = latencyTimer(meterRegistry, "l2.get");
+        this.l2MultiGetTimer = latencyTimer(meterRegistry, "l2.mget");
+        this.loadTimer = latencyTimer(meterRegistry, "load");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * L1 → L2 순서로 조회하고, 모두 없으면 loader 로 원본을 읽어 L1/L2 에 채운다.
+     * 같은 key 로 동시에 들어온 miss 는 하나의 loader 호출 결과를 공유한다.
+     * loader 가 null 을 반환하면 캐시하지 않는다.
+     */
+    public V get(String key, Supplier<V> loader) {
+        CachedValue<V> cached = lookup(key);
+        if (cached == null) {
+            return singleFlight.execute(key, () -> loadIfAbsent(key, loader));
+        }
+        if (!shouldRefreshEarly(cached)) {
+            return cached.value();
+        }
+
+        earlyRefresh.increment();
+        try {
+            return singleFlight.execute(key, () -> load(key, loader));
+        } catch (RuntimeException e) {
+            // 만료 전이므로 기존 값은 여전히 유효하다.
+            log.warn("[cache={}] 조기 갱신에 실패하여 기존 값을 응답합니다. key={}", name, key, e);
+            return cached.value();
+        }
+    }
+
+    /**
+     * 여러 key 를 한 번에 조회한다. L1 에 없는 key 는 Redis MGET 한 번으로, L2 에도 없는 key 는 loader 한 번으로 읽고,
+     * loader 결과는 파이프라인으로 L2 에 채운다.
+     *
+     * @param loader L2 까지 없던 key 목록을 받아 찾은 값만 담은 Map 을 반환한다.
+     * @return 찾은 값만 담긴 Map (keys 순서 유지)
+     */
+    public Map<String, V> getAll(Collection<String> keys, Function<List<String>, Map<String, V>> loader) {
+        Map<String, CachedValue<V>> localHits = local.getAllPresent(keys);
+        l1Hit.increment(localHits.size());
+        l1Miss.increment(keys.size() - localHits.size());
+
+        List<String> localMisses = keys.stream().filter(key -> !localHits.containsKey(key)).toList();
+        Map<String, CachedValue<V>> remoteHits = readRemote(localMisses);
+        local.putAll(remoteHits);
+
+        List<String> remoteMisses = localMisses.stream().filter(key -> !remoteHits.containsKey(key)).toList();
+        Map<String, V> loaded = remoteMisses.isEmpty() ? Map.of() : loadTimer.record(() -> loader.apply(remoteMisses));
+        putAll(loaded);
+
+        Map<String, V> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            CachedValue<V> cached = localHits.containsKey(key) ? localHits.get(key) : remoteHits.get(key);
+            V value = cached != null ? cached.value() : loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    public Optional<V> getIfPresent(String key) {
+        return Optional.ofNullable(lookup(key)).map(CachedValue::value);
+    }
+
+    public void put(String key, V value) {
+        put(key, new CachedValue<>(value, 0L, System.currentTimeMillis() + l2Ttl.toMillis()));
+    }
+
+    public void evict(String key) {
+        local.invalidate(key);
+        try {
+            writeTemplate.delete(redisKey(key));
+        } catch (RuntimeException e) {
+            log.warn("[cache={}] L2 삭제에 실패했습니다. key={}", name, key, e);
+        }
+    }
+
+    private CachedValue<V> lookup(String key) {
+        CachedValue<V> cached = local.getIfPresent(key);
+        if (cached != null) {
+            l1Hit.increment();
+            return cached;
+        }
+        l1Miss.increment();
+
+        CachedValue<V> remote = readRemote(key);
+        if (remote != null) {
+            local.put(key, remote);
+        }
+        return remote;
+    }
+
+    /**
+     * single-flight 가 끝난 직후 도착한 요청이 다시 원본을 읽지 않도록, L1 을 한 번 더 확인한다.
+     */
+    private V loadIfAbsent(String key, Supplier<V> loader) {
+        CachedValue<V> loaded = local.getIfPresent(key);
+        if (loaded != null) {
+            return loaded.value();
+        }
+        return load(key, loader);
+    }
+
+    private V load(String key, Supplier<V> loader) {
+        long startedAt = System.nanoTime();
+        V value = loadTimer.record(loader);
+        if (value != null) {
+            long loadMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+            put(key, new CachedValue<>(value, loadMillis, System.currentTimeMillis() + l2Ttl.toMillis()));
+        }
+        return value;
+    }
+
+    /**
+     * XFetch: 원본 조회 비용(loadMillis)이 클수록, 만료가 가까울수록 갱신 확률이 높아진다.
+     */
+    private boolean shouldRefreshEarly(CachedValue<V> cached) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double gap = cached.loadMillis() * earlyRefreshBeta * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= cached.expireAt();
+    }
+
+    private void put(String key, CachedValue<V> cached) {
+        local.put(key, cached);
+        try {
+            writeTemplate.opsForValue().set(redisKey(key), cached, l2Ttl);
+        } catch (RuntimeException e) {
+            log.warn("[cache={}] L2 저장에 실패했습니다. key={}", name, key, e);
+        }
+    }
+
+    private void putAll(Map<String, V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        long expireAt = System.currentTimeMillis() + l2Ttl.toMillis();
+        Map<byte[], byte[]> serialized = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            CachedValue<V> cached = new CachedValue<>(value, 0L, expireAt);
+            local.put(key, cached);
+            try {
+                serialized.put(
+                    redisKey(key).getBytes(StandardCharsets.UTF_8),
+                    valueSerializer.serialize(cached)
+                );
+            } catch (RuntimeException e) {
+                log.warn("[cache={}] L2 직렬화에 실패했습니다. key={}", name, key, e);
+            }
+        });
+
+        try {
+            writeTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                Expiration expiration = Expiration.from(l2Ttl);
+                serialized.forEach((key, value) ->
+                    connection.stringCommands().set(key, value, expiration, RedisStringCommands.SetOption.upsert())
+                );
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("[cache={}] L2 일괄 저장에 실패했습니다. size={}", name, serialized.size(), e);
+        }
+    }
+
+    private Map<String, CachedValue<V>> readRemote(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<String> redisKeys = keys.stream().map(this::redisKey).toList();
+        try {
+            List<CachedValue<V>> values = l2MultiGetTimer.record(() -> readTemplate.opsForValue().multiGet(redisKeys));
+            Map<String, CachedValue<V>> hits = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                CachedValue<V> value = values != null ? values.get(i) : null;
+                if (value != null) {
+                    hits.put(keys.get(i), value);
+                }
+            }
+            l2Hit.increment(hits.size());
+            l2Miss.increment(keys.size() - hits.size());
+            return hits;
+        } catch (RuntimeException e) {
+            l2Error.increment(keys.size());
+            log.warn("[cache={}] L2 일괄 조회에 실패하여 원본 조회로 대체합니다. size={}", name, keys.size(), e);
+            return Map.of();
+        }
+    }
+
+    private CachedValue<V> readRemote(String key) {
+        try {
+            CachedValue<V> value = l2GetTimer.record(() -> readTemplate.opsForValue().get(redisKey(key)));
+            if (value == null) {
+                l2Miss.increment();
+                return null;
+            }
+            l2Hit.increment();
+            return value;
+        } catch (RuntimeException e) {
+            l2Error.increment();
+            log.warn("[cache={}] L2 조회에 실패하여 원본 조회로 대체합니다. key={}", name, key, e);
+            return null;
+        }
+    }
+
+    private String redisKey(String key) {
+        return name + ":" + key;
+    }
+
+    private Counter getsCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+            .tag("cache", name)
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private Timer latencyTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("cache.tier.latency")
+            .tag("cache", name)
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.support.redis.codec.RedisValueCodec;
+import com.loopers.support.redis.codec.RedisValueTemplateFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TwoTierCache} 를 생성한다.
+ * L2 조회는 replica 우선 템플릿, 쓰기는 master 템플릿을 사용한다.
+ */
+@Component
+public class TwoTierCacheFactory {
+    private final RedisValueTemplateFactory redisValueTemplateFactory;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public TwoTierCacheFactory(
+        RedisValueTemplateFactory redisValueTemplateFactory,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisValueTemplateFactory = redisValueTemplateFactory;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <V> TwoTierCache<V> create(String name, Class<V> valueType, TwoTierCache.Spec spec) {
+        Cache<String, CachedValue<V>> local = Caffeine.newBuilder()
+            .maximumSize(spec.l1MaximumSize())
+            .expireAfterWrite(spec.l1Ttl())
+            .recordStats()
+            .build();
+        // L1 의 size / eviction / hit ratio 는 Caffeine 통계로 노출한다.
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name);
+
+        JavaType cachedValueType = objectMapper.getTypeFactory().constructParametricType(CachedValue.class, valueType);
+        RedisValueCodec<CachedValue<V>> codec = redisValueTemplateFactory.codec(cachedValueType);
+        return new TwoTierCache<>(
+            name,
+            local,
+            redisValueTemplateFactory.replicaPreferredTemplate(codec),
+            redisValueTemplateFactory.masterTemplate(codec),
+            codec,
+            spec,
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package com.loopers.support.counter;
+
+import com.loopers.config.redis.RedisCounterProperties;
+import com.loopers.config.redis.RedisPipelineProperties;
+import com.loopers.support.redis.RedisBatchOperations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 / 좋아요 수처럼 자주 바뀌는 카운터의 증가분을 프로세스 안에 모았다가, flushInterval 마다 Redis 로 보낸다.
+ * 요청마다 DB 행을 갱신하면 같은 행의 row lock 을 기다리는 요청이 줄을 서므로, 증가분만 모아 Redis 를 거쳐 DB 에 나누어 반영한다.
+ * <ul>
+ *     <li>프로세스 : id 별 {@link LongAdder} 에 더한다. 스레드가 서로 다른 cell 에 더하므로 같은 id 에 몰려도 경합하지 않는다.</li>
+ *     <li>Redis : 카운터별 pending hash 에 id 별 증가분을 파이프라인 HINCRBY 로 더한다. ({@link RedisCounterStore})</li>
+ *     <li>DB : 반영하는 애플리케이션이 pending 을 snapshot 으로 옮겨 batch upsert 하고 snapshot 을 지운다.</li>
+ * </ul>
+ * Redis 로 보내지 못한 증가분은 버퍼에 되돌려 다음 주기에 다시 보낸다.
+ * 종료할 때 남은 증가분을 보내지만, 비정상 종료 시에는 마지막 flushInterval 동안의 증가분을 잃을 수 있다.
+ * 증가분을 쌓는 애플리케이션에서만 flush 스레드가 돌도록, datasource.redis.counter.buffer-enabled 로 켠다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "datasource.redis.counter.buffer-enabled", havingValue = "true")
+@Component
+public class CounterBuffer {
+    private final RedisBatchOperations redisBatchOperations;
+    private final int flushSize;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "counter-buffer-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ConcurrentHashMap<CounterKey, LongAdder> active = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<CounterKey, LongAdder> retired = new ConcurrentHashMap<>();
+
+    public CounterBuffer(
+        RedisBatchOperations redisBatchOperations,
+        RedisCounterProperties counterProperties,
+        RedisPipelineProperties pipelineProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisBatchOperations = redisBatchOperations;
+        this.flushSize = pipelineProperties.flushSize();
+        this.flushedCounter = Counter.builder("counter.buffer.flushed")
+            .description("Redis 로 보낸 id 별 증가분 수")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("counter.buffer.flushed")
+            .tag("result", "failed")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("counter.buffer.flush")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        meterRegistry.gauge("counter.buffer.keys", this, buffer -> buffer.active.size());
+
+        long interval = counterProperties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public void increment(String counter, String id) {
+        increment(counter, id, 1);
+    }
+
+    /**
+     * @param counter 카운터 이름 (예: example.view). 반영하는 쪽에서 같은 이름으로 snapshot 을 가져간다.
+     * @param delta   감소는 음수로 더한다.
+     */
+    public void increment(String counter, String id, long delta) {
+        active.computeIfAbsent(new CounterKey(counter, id), key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 버퍼를 새 Map 으로 바꾼 뒤 이전 버퍼들의 증가분을 꺼내 보낸다.
+     * 교체 직전에 이전 버퍼를 읽은 스레드가 늦게 더하는 증가분도 놓치지 않도록, 교체된 버퍼는 다음 주기에 한 번 더 비운다.
+     * 주기마다 호출되며, 주기를 기다리지 않고 보내야 할 때 직접 호출할 수 있다.
+     */
+    public synchronized void flush() {
+        ConcurrentHashMap<CounterKey, LongAdder> swapped = active;
+        active = new ConcurrentHashMap<>();
+
+        Map<String, Map<String, Long>> deltas = new HashMap<>();
+        drainTo(retired, deltas);
+        drainTo(swapped, deltas);
+        retired = swapped;
+
+        flushTimer.record(() -> deltas.forEach(this::send));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdownNow();
+        flush();
+        // 종료 중에는 다음 주기가 없으므로, 교체된 버퍼까지 바로 비운다.
+        flush();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("카운터 증가분을 보내지 못했습니다.", e);
+        }
+    }
+
+    private void send(String counter, Map<String, Long> deltas) {
+        String pendingKey = RedisCounterStore.pendingKey(counter);
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += flushSize) {
+            List<Map.Entry<String, Long>> chunk = entries.subList(from, Math.min(entries.size(), from + flushSize));
+            try {
+                redisBatchOperations.incrementFields(pendingKey, toMap(chunk));
+                flushedCounter.increment(chunk.size());
+            } catch (RuntimeException e) {
+                // 응답을 받지 못한 묶음은 되돌려 다시 보낸다. (Redis 에 반영된 뒤 연결이 끊겼다면 중복 반영될 수 있다.)
+                List<Map.Entry<String, Long>> unsent = entries.subList(from, entries.size());
+                unsent.forEach(entry -> increment(counter, entry.getKey(), entry.getValue()));
+                failedCounter.increment(unsent.size());
+                log.warn("[counter={}] 증가분 {} 건을 Redis 로 보내지 못해 다음 주기에 다시 보냅니다.", counter, unsent.size(), e);
+                return;
+            }
+        }
+    }
+
+    private static void drainTo(Map<CounterKey, LongAdder> buffer, Map<String, Map<String, Long>> deltas) {
+        buffer.forEach((key, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.computeIfAbsent(key.counter(), counter -> new HashMap<>()).merge(key.id(), delta, Long::sum);
+            }
+        });
+    }
+
+    private static Map<String, Long> toMap(List<Map.Entry<String, Long>> entries) {
+        Map<String, Long> map = new HashMap<>(entries.size() * 2);
+        entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+        return map;
+    }
+
+    private record CounterKey(String counter, String id) {}
+}
@@ -0,0 +1,12 @@
+package com.loopers.support.counter;
+
+/**
+ * 증가분을 쌓는 애플리케이션과 DB 에 반영하는 애플리케이션이 함께 쓰는 카운터 이름.
+ * 이름이 다르면 증가분이 반영되지 않고 Redis 에 쌓이기만 하므로, 양쪽 모두 이 상수를 쓴다.
+ */
+public final class CounterNames {
+    /** example 조회수 (commerce-api → commerce-streamer, example_metrics.view_count) */
+    public static final String EXAMPLE_VIEW = "example.view";
+
+    private CounterNames() {}
+}
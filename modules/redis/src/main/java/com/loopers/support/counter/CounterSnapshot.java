@@ -0,0 +1,13 @@
+package com.loopers.support.counter;
+
+import java.util.Map;
+
+/**
+ * DB 에 반영할 카운터 증가분 묶음.
+ *
+ * @param id       snapshot 마다 새로 발급하는 id. 반영 기록에 남겨, 같은 snapshot 을 다시 반영하지 않도록 한다.
+ * @param deltas   id 별 증가분
+ * @param replayed 이전 반영자가 완료하지 못해 다시 가져온 snapshot 인지 여부
+ */
+public record CounterSnapshot(String counter, String id, Map<String, Long> deltas, boolean replayed) {
+}
@@ -0,0 +1,80 @@
+package com.loopers.support.counter;
+
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link CounterBuffer} 가 Redis 에 쌓은 증가분을 DB 에 반영(write-behind)할 수 있도록 snapshot 단위로 꺼낸다.
+ * <ol>
+ *     <li>{@link #take} : pending hash 를 snapshot 으로 원자적으로 옮긴다. 이후의 증가분은 새 pending 에 쌓인다.</li>
+ *     <li>반영자가 snapshot 을 DB 에 반영하고, snapshot id 를 같은 트랜잭션에 기록한다.</li>
+ *     <li>{@link #complete} : snapshot 을 지운다.</li>
+ * </ol>
+ * 반영 도중 장애가 나면 snapshot 이 남아 있으므로, 다음 {@link #take} 가 같은 snapshot 을 다시 돌려준다.
+ * 이미 커밋된 snapshot 인지는 반영자가 기록한 snapshot id 로 판단한다.
+ * 같은 카운터의 key 는 hash tag 로 같은 slot 에 둔다.
+ */
+@Component
+public class RedisCounterStore {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisScript<String> snapshotScript = RedisScript.of(new ClassPathResource("redis/counter/snapshot.lua"), String.class);
+    private final RedisScript<Long> completeScript = RedisScript.of(new ClassPathResource("redis/counter/complete.lua"), Long.class);
+
+    public RedisCounterStore(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return 반영할 snapshot. 쌓인 증가분이 없으면 empty
+     */
+    public Optional<CounterSnapshot> take(String counter) {
+        String newId = UUID.randomUUID().toString();
+        String id = redisTemplate.execute(
+            snapshotScript,
+            List.of(pendingKey(counter), snapshotKey(counter), snapshotIdKey(counter)),
+            newId
+        );
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(snapshotKey(counter))
+            .forEach((field, value) -> deltas.put(field, Long.parseLong(value)));
+        return Optional.of(new CounterSnapshot(counter, id, deltas, !id.equals(newId)));
+    }
+
+    /**
+     * @return 삭제했으면 true, 다른 반영자가 먼저 완료했으면 false
+     */
+    public boolean complete(CounterSnapshot snapshot) {
+        Long completed = redisTemplate.execute(
+            completeScript,
+            List.of(snapshotKey(snapshot.counter()), snapshotIdKey(snapshot.counter())),
+            snapshot.id()
+        );
+        return completed != null && completed == 1;
+    }
+
+    static String pendingKey(String counter) {
+        return "counter:{" + counter + "}:pending";
+    }
+
+    private static String snapshotKey(String counter) {
+        return "counter:{" + counter + "}:snapshot";
+    }
+
+    private static String snapshotIdKey(String counter) {
+        return "counter:{" + counter + "}:snapshot:id";
+    }
+}
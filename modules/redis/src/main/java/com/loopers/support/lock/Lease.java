@@ -0,0 +1,100 @@
+package com.loopers.support.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link RedisLeaseLockManager} 로 획득한 lease.
+ * 보유하는 동안 watchdog 이 lease 를 연장하며, Redis 에서 lease 가 만료되거나 다른 owner 에게 넘어가면 lost 가 된다.
+ * <p>
+ * fencingToken 은 같은 lock 을 획득할 때마다 증가한다.
+ * GC pause 등으로 lease 를 잃은 줄 모르는 이전 owner 의 쓰기를 막으려면, 쓰기 대상이 더 작은 token 의 요청을 거절하도록 token 을 함께 전달한다.
+ */
+public final class Lease implements AutoCloseable {
+    private final RedisLeaseLockManager manager;
+    private final String group;
+    private final String name;
+    private final long fencingToken;
+    private final Duration leaseTime;
+    private final long acquiredAt = System.nanoTime();
+    private final List<Runnable> lostListeners = new CopyOnWriteArrayList<>();
+
+    private volatile long renewedAt = acquiredAt;
+    private volatile boolean lost;
+    private volatile boolean released;
+
+    Lease(RedisLeaseLockManager manager, String group, String name, long fencingToken, Duration leaseTime) {
+        this.manager = manager;
+        this.group = group;
+        this.name = name;
+        this.fencingToken = fencingToken;
+        this.leaseTime = leaseTime;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    /**
+     * 반납하지 않았고, 잃지 않은 상태
+     */
+    public boolean isHeld() {
+        return !lost && !released;
+    }
+
+    public boolean isLost() {
+        return lost;
+    }
+
+    /**
+     * lease 를 잃었을 때 (watchdog 스레드에서) 실행할 작업을 등록한다. 진행 중인 작업을 멈추는 데 사용한다.
+     */
+    public void onLost(Runnable listener) {
+        lostListeners.add(listener);
+        if (lost) {
+            listener.run();
+        }
+    }
+
+    /**
+     * 반납한다. 이미 잃은 lease 라면 Redis 의 다른 owner 의 lock 은 건드리지 않는다.
+     */
+    @Override
+    public void close() {
+        if (released) {
+            return;
+        }
+        released = true;
+        manager.release(this);
+    }
+
+    String group() {
+        return group;
+    }
+
+    Duration leaseTime() {
+        return leaseTime;
+    }
+
+    long acquiredAt() {
+        return acquiredAt;
+    }
+
+    long renewedAt() {
+        return renewedAt;
+    }
+
+    void renewed(long now) {
+        renewedAt = now;
+    }
+
+    void markLost() {
+        lost = true;
+        lostListeners.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,228 @@
+package com.loopers.support.lock;
+
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 노드 / 파드 사이에서 하나의 작업만 실행되도록 하는 Redis lease lock.
+ * <ul>
+ *     <li>lease : 보유자가 죽어도 leaseTime 이 지나면 lock 이 풀린다. 보유하는 동안에는 watchdog 이 leaseTime / 3 마다 연장한다.</li>
+ *     <li>fencing token : 획득할 때마다 증가하는 번호. ({@link Lease})</li>
+ *     <li>공정 대기 : 기다리는 owner 는 도착 순서대로 획득한다. 대기를 포기한 owner 는 heartbeat 가 끊겨 대기열에서 빠진다.</li>
+ * </ul>
+ * lock 이름은 group 과 key 로 구성하며, metric 은 group 단위로 기록한다.
+ */
+@Slf4j
+@Component
+public class RedisLeaseLockManager {
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration WAITER_TTL = Duration.ofSeconds(3);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RedisScript<Long> acquireScript = RedisScript.of(new ClassPathResource("redis/lock/acquire.lua"), Long.class);
+    private final RedisScript<Long> renewScript = RedisScript.of(new ClassPathResource("redis/lock/renew.lua"), Long.class);
+    private final RedisScript<Long> releaseScript = RedisScript.of(new ClassPathResource("redis/lock/release.lua"), Long.class);
+    private final Map<Lease, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-lease-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisLeaseLockManager(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("lock.leases.active", renewals, Map::size);
+    }
+
+    /**
+     * 기다리지 않고 한 번만 시도한다. (앞선 대기자가 있으면 실패한다.)
+     * Redis 장애 시의 처리(실행 / 중단)는 호출하는 쪽이 정하도록 예외를 그대로 던진다.
+     */
+    public Optional<Lease> tryAcquire(String group, String key, Duration leaseTime) {
+        String owner = UUID.randomUUID().toString();
+        long token = tryAcquireOnce(group, key, owner, leaseTime, false);
+        if (token == 0) {
+            acquiresCounter(group, "rejected").increment();
+            return Optional.empty();
+        }
+        return Optional.of(acquired(group, key, token, leaseTime));
+    }
+
+    /**
+     * waitTimeout 동안 도착 순서대로 기다려 획득한다.
+     */
+    public Optional<Lease> acquire(String group, String key, Duration leaseTime, Duration waitTimeout) {
+        String owner = UUID.randomUUID().toString();
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + waitTimeout.toNanos();
+        try {
+            while (true) {
+                long token = tryAcquireOnce(group, key, owner, leaseTime, true);
+                if (token != 0) {
+                    Timer.builder("lock.wait").tag("group", group).register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    return Optional.of(acquired(group, key, token, leaseTime));
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    leaveQueue(group, key, owner);
+                    acquiresCounter(group, "timeout").increment();
+                    return Optional.empty();
+                }
+                long jitter = ThreadLocalRandom.current().nextLong(POLL_INTERVAL.toMillis() / 2);
+                Thread.sleep(POLL_INTERVAL.toMillis() + jitter);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            leaveQueue(group, key, owner);
+            acquiresCounter(group, "interrupted").increment();
+            return Optional.empty();
+        }
+    }
+
+    void release(Lease lease) {
+        ScheduledFuture<?> renewal = renewals.remove(lease);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+        Timer.builder("lock.held").tag("group", lease.group()).register(meterRegistry)
+            .record(System.nanoTime() - lease.acquiredAt(), TimeUnit.NANOSECONDS);
+        if (lease.isLost()) {
+            return;
+        }
+        try {
+            Long released = redisTemplate.execute(releaseScript, List.of(lockKey(lease.getName())), String.valueOf(lease.getFencingToken()));
+            if (released == null || released == 0) {
+                lost(lease, "반납 시점에 이미 다른 owner 에게 넘어갔습니다.");
+            }
+        } catch (RuntimeException e) {
+            // 반납하지 못해도 leaseTime 이 지나면 풀린다.
+            log.warn("[lock={}] 반납에 실패했습니다. lease 만료 후 해제됩니다.", lease.getName(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        Set.copyOf(renewals.keySet()).forEach(Lease::close);
+        watchdog.shutdownNow();
+    }
+
+    private Lease acquired(String group, String key, long token, Duration leaseTime) {
+        acquiresCounter(group, "acquired").increment();
+        Lease lease = new Lease(this, group, name(group, key), token, leaseTime);
+        long interval = Math.max(1, leaseTime.toMillis() / 3);
+        renewals.put(lease, watchdog.scheduleAtFixedRate(() -> renew(lease), interval, interval, TimeUnit.MILLISECONDS));
+        return lease;
+    }
+
+    private void renew(Lease lease) {
+        if (!lease.isHeld()) {
+            return;
+        }
+        long now = System.nanoTime();
+        try {
+            Long renewed = redisTemplate.execute(
+                renewScript,
+                List.of(lockKey(lease.getName())),
+                String.valueOf(lease.getFencingToken()),
+                String.valueOf(lease.leaseTime().toMillis())
+            );
+            if (renewed != null && renewed == 1) {
+                lease.renewed(now);
+                return;
+            }
+            lost(lease, "lease 가 만료되어 다른 owner 에게 넘어갔습니다.");
+        } catch (RuntimeException e) {
+            // 마지막 연장 이후 leaseTime 이 지났다면 Redis 에서도 만료된 것으로 본다.
+            if (now - lease.renewedAt() >= lease.leaseTime().toNanos()) {
+                lost(lease, "Redis 장애로 leaseTime 동안 연장하지 못했습니다.");
+            } else {
+                log.warn("[lock={}] lease 연장에 실패하여 다시 시도합니다.", lease.getName(), e);
+            }
+        }
+    }
+
+    private void lost(Lease lease, String reason) {
+        ScheduledFuture<?> renewal = renewals.remove(lease);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+        Counter.builder("lock.lost").tag("group", lease.group()).register(meterRegistry).increment();
+        log.error("[lock={}, token={}] lease 를 잃었습니다. {}", lease.getName(), lease.getFencingToken(), reason);
+        try {
+            lease.markLost();
+        } catch (RuntimeException e) {
+            log.error("[lock={}] lease 를 잃은 뒤 실행할 작업이 실패했습니다.", lease.getName(), e);
+        }
+    }
+
+    private long tryAcquireOnce(String group, String key, String owner, Duration leaseTime, boolean wait) {
+        String name = name(group, key);
+        Long token = redisTemplate.execute(
+            acquireScript,
+            List.of(lockKey(name), lockKey(name) + ":queue", lockKey(name) + ":waiters", lockKey(name) + ":fencing"),
+            owner,
+            String.valueOf(leaseTime.toMillis()),
+            String.valueOf(WAITER_TTL.toMillis()),
+            wait ? "1" : "0"
+        );
+        return token != null ? token : 0;
+    }
+
+    /**
+     * 대기를 포기하면 대기열에서 나간다. (남아 있으면 heartbeat 만료 전까지 뒤의 대기자를 막는다.)
+     */
+    private void leaveQueue(String group, String key, String owner) {
+        String name = name(group, key);
+        try {
+            redisTemplate.opsForZSet().remove(lockKey(name) + ":queue", owner);
+            redisTemplate.opsForHash().delete(lockKey(name) + ":waiters", owner);
+        } catch (RuntimeException e) {
+            log.warn("[lock={}] 대기열에서 나가지 못했습니다. heartbeat 만료 후 제거됩니다.", name, e);
+        }
+    }
+
+    private Counter acquiresCounter(String group, String result) {
+        return Counter.builder("lock.acquires")
+            .tag("group", group)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static String name(String group, String key) {
+        return group + ":" + key;
+    }
+
+    /**
+     * 같은 lock 의 key 들이 Redis Cluster 에서도 한 slot 에 모이도록 hash tag 로 감싼다.
+     */
+    private static String lockKey(String name) {
+        return "lock:{" + name + "}";
+    }
+}
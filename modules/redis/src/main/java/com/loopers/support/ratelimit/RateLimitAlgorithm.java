@@ -0,0 +1,15 @@
+package com.loopers.support.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitAlgorithm {
+    /** period 동안 limit 개의 토큰이 고르게 채워지며, 최대 limit 개까지 순간 요청(burst)을 허용한다. */
+    TOKEN_BUCKET("redis/ratelimit/token-bucket.lua"),
+    /** period 윈도우당 limit 개의 요청을 허용한다. 이전 윈도우의 요청 수를 가중치로 반영하여 경계에서 두 배가 허용되지 않는다. */
+    SLIDING_WINDOW("redis/ratelimit/sliding-window.lua");
+
+    private final String scriptLocation;
+}
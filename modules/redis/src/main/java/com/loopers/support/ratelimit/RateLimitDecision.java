@@ -0,0 +1,19 @@
+package com.loopers.support.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * @param allowed    허용 여부
+ * @param remaining  남은 허용량 (노드에서 소비 중인 허용량은 포함하지 않는다.)
+ * @param retryAfter 거절된 경우, 다시 허용될 때까지의 최소 대기 시간
+ */
+public record RateLimitDecision(boolean allowed, long remaining, Duration retryAfter) {
+
+    static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, Duration.ZERO);
+    }
+
+    static RateLimitDecision reject(Duration retryAfter) {
+        return new RateLimitDecision(false, 0, retryAfter);
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.support.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * @param name       정책 이름 (Redis key 와 metric tag 에 사용한다.)
+ * @param algorithm  허용 여부를 계산하는 알고리즘
+ * @param limit      period 당 허용 요청 수
+ * @param period     limit 이 적용되는 기간
+ * @param localBatch Redis 에서 한 번에 가져와 노드에서 소비하는 허용량.
+ *                   클수록 Redis 호출이 줄지만, 노드 수 x localBatch 만큼 limit 을 넘거나 덜 허용할 수 있다. (1 = 매 요청 Redis 확인)
+ */
+public record RateLimitPolicy(String name, RateLimitAlgorithm algorithm, long limit, Duration period, int localBatch) {
+
+    public RateLimitPolicy {
+        if (limit <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("limit 과 period 는 0 보다 커야 합니다. (policy = " + name + ")");
+        }
+        if (localBatch <= 0 || localBatch > limit) {
+            throw new IllegalArgumentException("localBatch 는 1 이상 limit 이하여야 합니다. (policy = " + name + ")");
+        }
+    }
+}
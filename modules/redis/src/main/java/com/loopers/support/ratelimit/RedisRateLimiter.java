@@ -0,0 +1,201 @@
+package com.loopers.support.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis Lua 스크립트로 여러 노드가 하나의 허용량을 나누어 쓰는 rate limiter.
+ * 허용량 계산은 스크립트 안에서 원자적으로 수행되므로, 노드 수와 무관하게 policy 의 limit 이 지켜진다.
+ * <p>
+ * 대부분의 요청이 Redis 를 거치지 않도록 노드에서 먼저 확인한다.
+ * <ul>
+ *     <li>허용 : Redis 에서 localBatch 만큼 한 번에 가져와, 남은 허용량을 최대 {@link #MAX_LEASE_TTL} 동안 노드에서 소비한다.</li>
+ *     <li>거절 : Redis 가 거절하면 retryAfter 동안은 Redis 에 묻지 않고 노드에서 바로 거절한다.</li>
+ * </ul>
+ * Redis 장애 시에는 요청을 허용한다. (rate limiter 장애가 전체 장애로 번지지 않도록 한다.)
+ * 확인에 실패하면 {@link #FAIL_OPEN_WINDOW} 동안은 Redis 에 묻지 않고 바로 허용하여, 요청마다 command timeout 만큼 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+    private static final Duration MAX_LEASE_TTL = Duration.ofSeconds(1);
+    private static final Duration FAIL_OPEN_WINDOW = Duration.ofSeconds(5);
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<RateLimitAlgorithm, RedisScript<List>> scripts = new EnumMap<>(RateLimitAlgorithm.class);
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterAccess(Duration.ofMinutes(1))
+        .build();
+    private final Map<String, PolicyMeters> meters = new ConcurrentHashMap<>();
+    private final AtomicLong failOpenUntil = new AtomicLong(System.nanoTime());
+
+    public RedisRateLimiter(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            scripts.put(algorithm, RedisScript.of(new ClassPathResource(algorithm.getScriptLocation()), List.class));
+        }
+    }
+
+    /**
+     * policy 에 따라 key 의 요청 하나를 허용할지 결정한다.
+     */
+    public RateLimitDecision tryAcquire(RateLimitPolicy policy, String key) {
+        PolicyMeters policyMeters = meters.computeIfAbsent(policy.name(), this::policyMeters);
+        String bucketKey = policy.name() + ":" + key;
+        LocalBucket bucket = localBuckets.get(bucketKey, k -> new LocalBucket());
+
+        long now = System.nanoTime();
+        RateLimitDecision local = bucket.tryAcquire(now);
+        if (local != null) {
+            (local.allowed() ? policyMeters.allowedLocal : policyMeters.rejectedLocal).increment();
+            return local;
+        }
+
+        if (now - failOpenUntil.get() < 0) {
+            policyMeters.failOpen.increment();
+            return RateLimitDecision.allow(0);
+        }
+
+        List<Long> result;
+        try {
+            result = policyMeters.redisLatency.record(() -> execute(policy, bucketKey));
+        } catch (RuntimeException e) {
+            policyMeters.failOpen.increment();
+            openFailOpenWindow(policy, e);
+            return RateLimitDecision.allow(0);
+        }
+
+        long granted = result.get(0);
+        long remaining = result.get(1);
+        if (granted == 0) {
+            Duration retryAfter = Duration.ofMillis(result.get(2));
+            bucket.reject(now + retryAfter.toNanos());
+            policyMeters.rejectedRedis.increment();
+            return RateLimitDecision.reject(retryAfter);
+        }
+        // 이번 요청에 하나를 쓰고 나머지는 노드에서 소비한다.
+        if (granted > 1) {
+            bucket.lease(granted - 1, now + leaseTtl(policy).toNanos());
+        }
+        policyMeters.allowedRedis.increment();
+        return RateLimitDecision.allow(remaining);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> execute(RateLimitPolicy policy, String bucketKey) {
+        return redisTemplate.execute(
+            scripts.get(policy.algorithm()),
+            List.of(KEY_PREFIX + bucketKey),
+            String.valueOf(policy.limit()),
+            String.valueOf(policy.period().toMillis()),
+            String.valueOf(policy.localBatch())
+        );
+    }
+
+    /**
+     * 동시에 실패한 요청 중 window 를 연 요청만 로그를 남긴다. (장애 중에는 window 마다 한 번)
+     */
+    private void openFailOpenWindow(RateLimitPolicy policy, RuntimeException e) {
+        long now = System.nanoTime();
+        long until = failOpenUntil.get();
+        if (now - until >= 0 && failOpenUntil.compareAndSet(until, now + FAIL_OPEN_WINDOW.toNanos())) {
+            log.warn("[ratelimit={}] Redis 확인에 실패하여 {}s 동안 Redis 를 확인하지 않고 요청을 허용합니다. cause={}",
+                policy.name(), FAIL_OPEN_WINDOW.toSeconds(), e.toString());
+        }
+    }
+
+    /**
+     * 노드에 남은 허용량은 다른 노드가 쓸 수 없으므로, 짧게만 보유한다.
+     */
+    private Duration leaseTtl(RateLimitPolicy policy) {
+        return policy.period().compareTo(MAX_LEASE_TTL) < 0 ? policy.period() : MAX_LEASE_TTL;
+    }
+
+    private PolicyMeters policyMeters(String policy) {
+        return new PolicyMeters(
+            requestsCounter(policy, "allowed", "local"),
+            requestsCounter(policy, "allowed", "redis"),
+            requestsCounter(policy, "allowed", "fail-open"),
+            requestsCounter(policy, "rejected", "local"),
+            requestsCounter(policy, "rejected", "redis"),
+            Timer.builder("ratelimit.redis.latency")
+                .tag("policy", policy)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+        );
+    }
+
+    private Counter requestsCounter(String policy, String result, String source) {
+        return Counter.builder("ratelimit.requests")
+            .tag("policy", policy)
+            .tag("result", result)
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+
+    private record PolicyMeters(
+        Counter allowedLocal,
+        Counter allowedRedis,
+        Counter failOpen,
+        Counter rejectedLocal,
+        Counter rejectedRedis,
+        Timer redisLatency
+    ) {}
+
+    /**
+     * 노드에서 소비 중인 허용량과 거절 상태. (시각은 System.nanoTime 기준)
+     */
+    private static final class LocalBucket {
+        private long permits;
+        private long permitsExpireAt;
+        private long rejectedUntil;
+
+        /**
+         * @return 노드에서 결정할 수 있으면 결과, Redis 확인이 필요하면 null
+         */
+        synchronized RateLimitDecision tryAcquire(long now) {
+            if (now - rejectedUntil < 0) {
+                return RateLimitDecision.reject(Duration.ofNanos(rejectedUntil - now));
+            }
+            if (permits > 0 && now - permitsExpireAt < 0) {
+                permits--;
+                return RateLimitDecision.allow(permits);
+            }
+            return null;
+        }
+
+        synchronized void lease(long permits, long expireAt) {
+            this.permits = permits;
+            this.permitsExpireAt = expireAt;
+        }
+
+        synchronized void reject(long until) {
+            this.permits = 0;
+            this.rejectedUntil = until;
+        }
+    }
+}
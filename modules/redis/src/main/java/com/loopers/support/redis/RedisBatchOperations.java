@@ -0,0 +1,182 @@
+package com.loopers.support.redis;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.RedisPipelineProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 key 에 대한 명령을 파이프라인으로 묶어 보낸다. (명령마다 왕복하지 않는다.)
+ * 조회는 replica 우선 템플릿(defaultRedisTemplate), 쓰기는 master 템플릿으로 수행한다.
+ * <p>
+ * 명령은 flushSize 개씩 나누어 보내고, 각 묶음의 응답을 받은 뒤 다음 묶음을 보낸다.
+ * 묶음 사이에 실패하면 앞선 묶음은 이미 반영되어 있으므로, 쓰기는 다시 실행해도 같은 결과가 되는 용도로 사용한다.
+ * (incrementAll / incrementFields / incrementScores 는 재실행 시 중복 반영된다.)
+ */
+@Component
+public class RedisBatchOperations {
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final int flushSize;
+
+    public RedisBatchOperations(
+        RedisTemplate<String, String> defaultRedisTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+        RedisPipelineProperties properties
+    ) {
+        this.readTemplate = defaultRedisTemplate;
+        this.writeTemplate = masterRedisTemplate;
+        this.flushSize = properties.flushSize();
+    }
+
+    /**
+     * @return 존재하는 key 의 값만 담은 Map (keys 순서 유지)
+     */
+    public Map<String, String> getAll(Collection<String> keys) {
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        List<Object> results = pipelined(readTemplate, partition(distinctKeys, flushSize), 1, (connection, command) ->
+            connection.stringCommands().mGet(serialize(command))
+        );
+
+        List<Object> values = results.stream().flatMap(result -> ((List<?>) result).stream().map(Object.class::cast)).toList();
+        Map<String, String> found = new LinkedHashMap<>();
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(distinctKeys.get(i), (String) values.get(i));
+            }
+        }
+        return found;
+    }
+
+    public void setAll(Map<String, String> values, Duration ttl) {
+        Expiration expiration = Expiration.from(ttl);
+        pipelined(writeTemplate, List.copyOf(values.entrySet()), flushSize, (connection, entry) ->
+            connection.stringCommands().set(
+                serialize(entry.getKey()),
+                serialize(entry.getValue()),
+                expiration,
+                RedisStringCommands.SetOption.upsert()
+            )
+        );
+    }
+
+    /**
+     * 값을 반환하지 않는 UNLINK 로 삭제하므로, 큰 값도 Redis 를 막지 않는다.
+     *
+     * @return 삭제된 key 수
+     */
+    public long deleteAll(Collection<String> keys) {
+        List<List<String>> commands = partition(List.copyOf(keys), flushSize);
+        return pipelined(writeTemplate, commands, 1, (connection, command) ->
+            connection.keyCommands().unlink(serialize(command))
+        ).stream().mapToLong(result -> (Long) result).sum();
+    }
+
+    /**
+     * @param deltas key 별 증가량 (INCRBY)
+     * @return key 별 증가 후 값
+     */
+    public Map<String, Long> incrementAll(Map<String, Long> deltas) {
+        List<Map.Entry<String, Long>> entries = List.copyOf(deltas.entrySet());
+        List<Object> results = pipelined(writeTemplate, entries, flushSize, (connection, entry) ->
+            connection.stringCommands().incrBy(serialize(entry.getKey()), entry.getValue())
+        );
+
+        Map<String, Long> incremented = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            incremented.put(entries.get(i).getKey(), (Long) results.get(i));
+        }
+        return incremented;
+    }
+
+    /**
+     * hash 의 field 별 값을 더한다. (HINCRBY)
+     */
+    public void incrementFields(String key, Map<String, Long> deltas) {
+        byte[] rawKey = serialize(key);
+        pipelined(writeTemplate, List.copyOf(deltas.entrySet()), flushSize, (connection, entry) ->
+            connection.hashCommands().hIncrBy(rawKey, serialize(entry.getKey()), entry.getValue())
+        );
+    }
+
+    /**
+     * sorted set 의 member 별 점수를 더한다. (ZINCRBY)
+     */
+    public void incrementScores(String key, Map<String, Double> deltas) {
+        byte[] rawKey = serialize(key);
+        pipelined(writeTemplate, List.copyOf(deltas.entrySet()), flushSize, (connection, entry) ->
+            connection.zSetCommands().zIncrBy(rawKey, entry.getValue(), serialize(entry.getKey()))
+        );
+    }
+
+    /**
+     * sorted set 의 member 별 점수를 설정한다. (ZADD, flushSize 개의 member 를 명령 하나로 보낸다.)
+     */
+    public void setScores(String key, Map<String, Double> scores) {
+        byte[] rawKey = serialize(key);
+        List<List<Map.Entry<String, Double>>> commands = partition(List.copyOf(scores.entrySet()), flushSize);
+        pipelined(writeTemplate, commands, 1, (connection, command) ->
+            connection.zSetCommands().zAdd(
+                rawKey,
+                command.stream()
+                    .map(entry -> new DefaultTuple(serialize(entry.getKey()), entry.getValue()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new)),
+                RedisZSetCommands.ZAddArgs.empty()
+            )
+        );
+    }
+
+    /**
+     * 명령을 commandsPerFlush 개씩 파이프라인으로 보내고, 명령 순서대로 응답을 모은다.
+     * 다중 key 명령(MGET, UNLINK, ZADD)은 명령 하나에 flushSize 개의 key 가 담기므로 한 번에 하나씩 보낸다.
+     */
+    private <T> List<Object> pipelined(
+        RedisTemplate<String, String> template,
+        List<T> items,
+        int commandsPerFlush,
+        BiConsumer<RedisConnection, T> command
+    ) {
+        List<Object> results = new ArrayList<>(items.size());
+        for (List<T> chunk : partition(items, commandsPerFlush)) {
+            results.addAll(template.executePipelined((RedisCallback<Object>) connection -> {
+                chunk.forEach(item -> command.accept(connection, item));
+                return null;
+            }));
+        }
+        return results;
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return chunks;
+    }
+
+    private static byte[] serialize(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] serialize(List<String> values) {
+        return values.stream().map(RedisBatchOperations::serialize).toArray(byte[][]::new);
+    }
+}
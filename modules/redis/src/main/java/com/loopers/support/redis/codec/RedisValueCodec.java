@@ -0,0 +1,129 @@
+package com.loopers.support.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 값 앞에 버전 헤더를 붙여 직렬화한다. 형식 / 압축 방식을 바꾸거나 새 버전을 추가해도 이전 값을 읽을 수 있다.
+ * <pre>
+ * [0x00][version][format][compression][원본 크기 (LZ4 인 경우, 4 byte)][payload]
+ * </pre>
+ * 첫 byte 가 0x00 이 아닌 값은 헤더가 없던 기존 문자열(JSON) 값으로 읽는다. (JSON 은 0x00 으로 시작하지 않는다.)
+ */
+public class RedisValueCodec<T> implements RedisSerializer<T> {
+    private static final byte MARKER = 0x00;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 4;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    /** LZ4 블록의 최대 압축률. 저장된 원본 크기가 이보다 크면 손상된 값으로 본다. */
+    private static final int LZ4_MAX_RATIO = 255;
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final Map<RedisValueFormat, ObjectReader> readers;
+    private final ObjectWriter writer;
+    private final RedisValueFormat format;
+    private final RedisValueCompression compression;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+
+    RedisValueCodec(
+        Map<RedisValueFormat, ObjectReader> readers,
+        ObjectWriter writer,
+        RedisValueFormat format,
+        RedisValueCompression compression,
+        int compressionThreshold
+    ) {
+        this.readers = new EnumMap<>(readers);
+        this.writer = writer;
+        this.format = format;
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        byte[] payload;
+        try {
+            payload = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값을 직렬화하지 못했습니다.", e);
+        }
+
+        if (compression == RedisValueCompression.LZ4 && payload.length >= compressionThreshold) {
+            byte[] compressed = new byte[HEADER_SIZE + LENGTH_SIZE + compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length, compressed, HEADER_SIZE + LENGTH_SIZE);
+            // 줄어들지 않는 값(이미 압축된 데이터 등)은 그대로 저장한다.
+            if (LENGTH_SIZE + compressedLength < payload.length) {
+                ByteBuffer.wrap(compressed, 0, HEADER_SIZE + LENGTH_SIZE)
+                    .put(MARKER).put(VERSION).put(format.getId()).put(RedisValueCompression.LZ4.getId())
+                    .putInt(payload.length);
+                return Arrays.copyOf(compressed, HEADER_SIZE + LENGTH_SIZE + compressedLength);
+            }
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+            .put(MARKER).put(VERSION).put(format.getId()).put(RedisValueCompression.NONE.getId())
+            .put(payload)
+            .array();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            if (bytes.length == 0 || bytes[0] != MARKER) {
+                return readers.get(RedisValueFormat.JSON).readValue(bytes);
+            }
+            if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+                throw new SerializationException("지원하지 않는 Redis 값 버전입니다. (version = " + (bytes.length > 1 ? bytes[1] : "?") + ")");
+            }
+
+            ObjectReader reader = readers.get(RedisValueFormat.of(bytes[2]));
+            return switch (RedisValueCompression.of(bytes[3])) {
+                case NONE -> reader.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+                case LZ4 -> reader.readValue(decompress(bytes));
+            };
+        } catch (IOException | IllegalArgumentException | LZ4Exception e) {
+            throw new SerializationException("Redis 값을 역직렬화하지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 원본 크기는 저장된 값에서 읽으므로 그대로 믿지 않는다.
+     * 입력 범위 안에서만 읽는 safe decompressor 로 풀고, 풀린 크기가 저장된 크기와 같은지 확인한다.
+     */
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE + LENGTH_SIZE) {
+            throw new SerializationException("LZ4 로 압축된 Redis 값의 원본 크기가 없습니다.");
+        }
+        int compressedLength = bytes.length - HEADER_SIZE - LENGTH_SIZE;
+        int length = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+        if (length < 0 || length > (long) compressedLength * LZ4_MAX_RATIO) {
+            throw new SerializationException("LZ4 로 압축된 Redis 값의 원본 크기가 올바르지 않습니다. (length = " + length + ")");
+        }
+        byte[] payload = new byte[length];
+        int decompressedLength = decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, compressedLength, payload, 0, length);
+        if (decompressedLength != length) {
+            throw new SerializationException("LZ4 로 압축된 Redis 값이 손상되었습니다. (length = " + length + ", decompressed = " + decompressedLength + ")");
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.support.redis.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum RedisValueCompression {
+    NONE((byte) 0),
+    /** 압축률보다 속도를 우선한다. 압축 / 해제 비용이 Redis 왕복 비용보다 작다. */
+    LZ4((byte) 1);
+
+    private final byte id;
+
+    static RedisValueCompression of(byte id) {
+        return Arrays.stream(values())
+            .filter(compression -> compression.id == id)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 압축 방식입니다. (id = " + id + ")"));
+    }
+}
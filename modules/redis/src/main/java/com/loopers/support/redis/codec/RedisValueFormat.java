@@ -0,0 +1,24 @@
+package com.loopers.support.redis.codec;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum RedisValueFormat {
+    /** 기존 문자열 경로와 같은 JSON. redis-cli 로 값을 바로 읽을 수 있다. */
+    JSON((byte) 1),
+    /** Jackson Smile (binary JSON). 필드 이름과 숫자를 압축하여 JSON 보다 작고 빠르다. */
+    SMILE((byte) 2);
+
+    private final byte id;
+
+    static RedisValueFormat of(byte id) {
+        return Arrays.stream(values())
+            .filter(format -> format.id == id)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 값 형식입니다. (id = " + id + ")"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.loopers.support.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.loopers.config.redis.RedisCodecProperties;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 객체 값을 {@link RedisValueCodec} 으로 저장하는 타입별 RedisTemplate 을 생성한다.
+ * key 는 기존 템플릿과 같이 문자열로 저장하고, Smile 은 애플리케이션 ObjectMapper 의 설정(모듈, NON_NULL 등)을 그대로 따른다.
+ */
+@Component
+public class RedisValueTemplateFactory {
+    private final RedisConnectionFactory defaultConnectionFactory;
+    private final RedisConnectionFactory masterConnectionFactory;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final RedisCodecProperties properties;
+
+    public RedisValueTemplateFactory(
+        LettuceConnectionFactory defaultRedisConnectionFactory,
+        @Qualifier(RedisConfig.CONNECTION_MASTER) LettuceConnectionFactory masterRedisConnectionFactory,
+        ObjectMapper objectMapper,
+        RedisCodecProperties properties
+    ) {
+        this.defaultConnectionFactory = defaultRedisConnectionFactory;
+        this.masterConnectionFactory = masterRedisConnectionFactory;
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.properties = properties;
+    }
+
+    public <T> RedisValueCodec<T> codec(Class<T> valueType) {
+        return codec(jsonMapper.constructType(valueType));
+    }
+
+    public <T> RedisValueCodec<T> codec(JavaType valueType) {
+        return new RedisValueCodec<>(
+            Map.of(
+                RedisValueFormat.JSON, jsonMapper.readerFor(valueType),
+                RedisValueFormat.SMILE, smileMapper.readerFor(valueType)
+            ),
+            (properties.format() == RedisValueFormat.SMILE ? smileMapper : jsonMapper).writerFor(valueType),
+            properties.format(),
+            properties.compression(),
+            (int) properties.compressionThreshold().toBytes()
+        );
+    }
+
+    /**
+     * 조회용 (replica 우선)
+     */
+    public <T> RedisTemplate<String, T> replicaPreferredTemplate(RedisValueCodec<T> codec) {
+        return template(defaultConnectionFactory, codec);
+    }
+
+    /**
+     * 쓰기용 (master)
+     */
+    public <T> RedisTemplate<String, T> masterTemplate(RedisValueCodec<T> codec) {
+        return template(masterConnectionFactory, codec);
+    }
+
+    private <T> RedisTemplate<String, T> template(RedisConnectionFactory connectionFactory, RedisValueCodec<T> codec) {
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        StringRedisSerializer keySerializer = new StringRedisSerializer();
+        template.setKeySerializer(keySerializer);
+        template.setHashKeySerializer(keySerializer);
+        template.setValueSerializer(codec);
+        template.setHashValueSerializer(codec);
+        template.setConnectionFactory(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,11 @@
+-- 반영을 마친 snapshot 을 지운다.
+-- KEYS[1] : snapshot hash, KEYS[2] : snapshot id
+-- ARGV[1] : 반영한 snapshot id
+-- 반환 : 1 (삭제), 0 (이미 다른 반영자가 완료함)
+
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1], KEYS[2])
+return 1
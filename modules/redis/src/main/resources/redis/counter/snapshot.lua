@@ -0,0 +1,18 @@
+-- 쌓인 증가분(pending)을 반영용 snapshot 으로 옮긴다.
+-- KEYS[1] : pending hash (id -> 증가분), KEYS[2] : snapshot hash, KEYS[3] : snapshot id
+-- ARGV[1] : 새 snapshot id
+-- 반환 : 반영할 snapshot id, 옮길 증가분이 없으면 nil
+-- 이전 snapshot 이 완료되지 않았다면(반영 중 장애) 새로 옮기지 않고 그 snapshot 을 다시 반영하게 한다.
+
+local current = redis.call('GET', KEYS[3])
+if current then
+    return current
+end
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return false
+end
+
+redis.call('RENAME', KEYS[1], KEYS[2])
+redis.call('SET', KEYS[3], ARGV[1])
+return ARGV[1]
@@ -0,0 +1,46 @@
+-- 공정(FIFO) lease lock 획득.
+-- KEYS[1] : lock (hash: owner, token)
+-- KEYS[2] : 대기열 (zset: owner -> 대기 시작 시각)
+-- KEYS[3] : 대기자 heartbeat (hash: owner -> 만료 시각)
+-- KEYS[4] : fencing token 카운터 (만료하지 않는다.)
+-- ARGV[1] : owner, ARGV[2] : lease 시간 (ms), ARGV[3] : 대기자 heartbeat 유지 시간 (ms), ARGV[4] : 1 = 대기열에 남는다, 0 = 바로 포기한다
+-- return  : 획득하면 fencing token, 아니면 0
+local owner = ARGV[1]
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- heartbeat 가 끊긴(대기를 포기하거나 죽은) 선두 대기자를 제거한다.
+while true do
+    local head = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+    if not head then
+        break
+    end
+    local expireAt = tonumber(redis.call('HGET', KEYS[3], head))
+    if expireAt and expireAt >= now then
+        break
+    end
+    redis.call('ZREM', KEYS[2], head)
+    redis.call('HDEL', KEYS[3], head)
+end
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    -- 먼저 기다린 대기자가 있으면 양보한다.
+    local head = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+    if not head or head == owner then
+        redis.call('ZREM', KEYS[2], owner)
+        redis.call('HDEL', KEYS[3], owner)
+        local token = redis.call('INCR', KEYS[4])
+        redis.call('HSET', KEYS[1], 'owner', owner, 'token', token)
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        return token
+    end
+end
+
+if ARGV[4] == '1' then
+    redis.call('ZADD', KEYS[2], 'NX', now, owner)
+    redis.call('HSET', KEYS[3], owner, now + tonumber(ARGV[3]))
+    -- 모든 대기자가 사라지면 대기열도 만료된다.
+    redis.call('PEXPIRE', KEYS[2], ARGV[3])
+    redis.call('PEXPIRE', KEYS[3], ARGV[3])
+end
+return 0
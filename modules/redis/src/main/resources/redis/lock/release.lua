@@ -0,0 +1,8 @@
+-- lease 반납. fencing token 이 같을 때(= 아직 보유 중일 때)만 삭제한다.
+-- KEYS[1] : lock, ARGV[1] : fencing token
+-- return  : 반납하면 1, 이미 잃었으면 0
+if redis.call('HGET', KEYS[1], 'token') == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+return 0
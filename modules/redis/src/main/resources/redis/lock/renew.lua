@@ -0,0 +1,8 @@
+-- lease 연장. fencing token 이 같을 때(= 아직 보유 중일 때)만 연장한다.
+-- KEYS[1] : lock, ARGV[1] : fencing token, ARGV[2] : lease 시간 (ms)
+-- return  : 연장하면 1, 이미 잃었으면 0
+if redis.call('HGET', KEYS[1], 'token') == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+return 0
@@ -0,0 +1,42 @@
+-- sliding window counter: 이전 윈도우의 요청 수를 남은 비율만큼 더해 현재 윈도우의 요청 수를 추정한다.
+-- KEYS[1] : window (hash: w = 현재 윈도우 번호, c = 현재 윈도우 요청 수, p = 이전 윈도우 요청 수)
+-- ARGV[1] : limit (윈도우당 요청 수), ARGV[2] : period (윈도우 크기, ms), ARGV[3] : 요청 수
+-- return  : { 허용된 요청 수, 남은 요청 수, 재시도까지 대기 시간 (ms) }
+local limit = tonumber(ARGV[1])
+local period = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 노드 간 시계 차이가 없도록 Redis 서버 시각을 사용한다.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local current = math.floor(now / period)
+local elapsed = now % period
+
+local state = redis.call('HMGET', KEYS[1], 'w', 'c', 'p')
+local window = tonumber(state[1])
+local count = tonumber(state[2]) or 0
+local previous = tonumber(state[3]) or 0
+if window == current - 1 then
+    previous = count
+    count = 0
+elseif window ~= current then
+    previous = 0
+    count = 0
+end
+
+local estimated = previous * (period - elapsed) / period + count
+local granted = math.max(0, math.min(requested, math.floor(limit - estimated)))
+count = count + granted
+redis.call('HSET', KEYS[1], 'w', current, 'c', count, 'p', previous)
+redis.call('PEXPIRE', KEYS[1], period * 2)
+
+local retryAfter = 0
+if granted == 0 then
+    if count >= limit then
+        retryAfter = period - elapsed
+    else
+        -- 이전 윈도우의 가중치가 줄어 요청 하나가 들어갈 자리가 생기는 시점
+        retryAfter = math.max(1, math.ceil((1 - (limit - 1 - count) / previous) * period - elapsed))
+    end
+end
+return { granted, math.max(0, math.floor(limit - estimated - granted)), retryAfter }
@@ -0,0 +1,28 @@
+-- token bucket: period 동안 limit 개의 토큰이 고르게 채워진다.
+-- KEYS[1] : bucket (hash: tokens, ts)
+-- ARGV[1] : limit (버킷 크기), ARGV[2] : period (ms), ARGV[3] : 요청 토큰 수
+-- return  : { 획득한 토큰 수, 남은 토큰 수, 재시도까지 대기 시간 (ms) }
+local limit = tonumber(ARGV[1])
+local period = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 노드 간 시계 차이가 없도록 Redis 서버 시각을 사용한다.
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1]) or limit
+local ts = tonumber(bucket[2]) or now
+tokens = math.min(limit, tokens + math.max(0, now - ts) * limit / period)
+
+local granted = math.min(math.floor(tokens), requested)
+tokens = tokens - granted
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+-- 가득 찰 때까지의 시간이 지나면 없는 버킷과 같으므로 만료시킨다.
+redis.call('PEXPIRE', KEYS[1], period + 1000)
+
+local retryAfter = 0
+if granted == 0 then
+    retryAfter = math.ceil((1 - tokens) * period / limit)
+end
+return { granted, math.floor(tokens), retryAfter }
@@ -0,0 +1,231 @@
+package com.loopers.support.lock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * RedisTestContainersConfig 가 먼저 생성되어 Redis 접속 정보를 설정하도록 classes 의 첫 번째에 둔다.
+ */
+@SpringBootTest(classes = {
+    RedisTestContainersConfig.class,
+    RedisConfig.class,
+    RedisLeaseLockManager.class,
+    RedisCleanUp.class,
+    SimpleMeterRegistry.class,
+})
+class RedisLeaseLockManagerIntegrationTest {
+    private static final String GROUP = "test";
+    private static final String KEY = "job";
+    private static final String LOCK_KEY = "lock:{" + GROUP + ":" + KEY + "}";
+
+    @Autowired
+    private RedisLeaseLockManager lockManager;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("lease 를 보유하는 동안, ")
+    @Nested
+    class Renewal {
+        @DisplayName("watchdog 이 leaseTime 이 지나도 lease 를 연장하고, 반납하면 lock 이 풀린다.")
+        @Test
+        void renewsLease_whileHeld() throws Exception {
+            // arrange
+            Duration leaseTime = Duration.ofMillis(600);
+            Lease lease = lockManager.tryAcquire(GROUP, KEY, leaseTime).orElseThrow();
+
+            // act
+            Thread.sleep(leaseTime.toMillis() * 3);
+
+            // assert
+            assertAll(
+                () -> assertThat(lease.isHeld()).isTrue(),
+                () -> assertThat(redisTemplate.hasKey(LOCK_KEY)).isTrue(),
+                () -> assertThat(lockManager.tryAcquire(GROUP, KEY, leaseTime)).isEmpty()
+            );
+            lease.close();
+            assertAll(
+                () -> assertThat(redisTemplate.hasKey(LOCK_KEY)).isFalse(),
+                () -> assertThat(lockManager.tryAcquire(GROUP, KEY, leaseTime)).isPresent()
+            );
+        }
+
+        @DisplayName("다시 획득할 때마다 fencing token 이 증가한다.")
+        @Test
+        void increasesFencingToken_whenReacquired() {
+            // arrange
+            long first;
+            try (Lease lease = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10)).orElseThrow()) {
+                first = lease.getFencingToken();
+            }
+
+            // act
+            Lease second = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10)).orElseThrow();
+
+            // assert
+            assertThat(second.getFencingToken()).isGreaterThan(first);
+            second.close();
+        }
+    }
+
+    @DisplayName("lease 가 다른 owner 에게 넘어가면, ")
+    @Nested
+    class LostLease {
+        @DisplayName("다음 연장 시점에 lost 가 되고, 등록한 작업이 실행되어 진행 중인 작업을 멈춘다.")
+        @Test
+        void stopsWork_whenLeaseIsLost() throws Exception {
+            // arrange
+            Duration leaseTime = Duration.ofMillis(600);
+            Lease lease = lockManager.tryAcquire(GROUP, KEY, leaseTime).orElseThrow();
+            CountDownLatch stopped = new CountDownLatch(1);
+            lease.onLost(stopped::countDown);
+            AtomicInteger processed = new AtomicInteger();
+            CompletableFuture<Void> worker = CompletableFuture.runAsync(() -> {
+                while (lease.isHeld()) {
+                    processed.incrementAndGet();
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+
+            // act (lease 가 만료되어 다른 owner 가 획득한 상황)
+            redisTemplate.delete(LOCK_KEY);
+            Lease other = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10)).orElseThrow();
+
+            // assert
+            assertThat(stopped.await(2, TimeUnit.SECONDS)).isTrue();
+            worker.get(2, TimeUnit.SECONDS);
+            assertAll(
+                () -> assertThat(lease.isLost()).isTrue(),
+                () -> assertThat(processed.get()).isPositive(),
+                () -> assertThat(other.getFencingToken()).isGreaterThan(lease.getFencingToken())
+            );
+
+            // 잃은 lease 를 반납해도 새 owner 의 lock 은 풀리지 않는다.
+            lease.close();
+            assertAll(
+                () -> assertThat(other.isHeld()).isTrue(),
+                () -> assertThat(redisTemplate.<String, String>opsForHash().get(LOCK_KEY, "token"))
+                    .isEqualTo(String.valueOf(other.getFencingToken()))
+            );
+            other.close();
+        }
+    }
+
+    @DisplayName("lock 을 기다릴 때, ")
+    @Nested
+    class WaitQueue {
+        @DisplayName("도착한 순서대로 획득한다.")
+        @Test
+        void acquiresInArrivalOrder() throws Exception {
+            // arrange
+            Lease holder = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10)).orElseThrow();
+            List<String> acquiredOrder = new CopyOnWriteArrayList<>();
+            CompletableFuture<Void> first = waitAndHold("first", acquiredOrder);
+            await().atMost(Duration.ofSeconds(2)).until(() -> queueSize() == 1);
+            CompletableFuture<Void> second = waitAndHold("second", acquiredOrder);
+            await().atMost(Duration.ofSeconds(2)).until(() -> queueSize() == 2);
+
+            // act
+            holder.close();
+
+            // assert
+            CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+            assertAll(
+                () -> assertThat(acquiredOrder).containsExactly("first", "second"),
+                () -> assertThat(queueSize()).isZero()
+            );
+        }
+
+        @DisplayName("waitTimeout 안에 획득하지 못하면, 대기열에서 나가고 뒤의 대기자를 막지 않는다.")
+        @Test
+        void leavesQueue_whenWaitTimesOut() {
+            // arrange
+            Lease holder = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10)).orElseThrow();
+
+            // act
+            Optional<Lease> timedOut = lockManager.acquire(GROUP, KEY, Duration.ofSeconds(10), Duration.ofMillis(300));
+
+            // assert
+            assertAll(
+                () -> assertThat(timedOut).isEmpty(),
+                () -> assertThat(queueSize()).isZero()
+            );
+            holder.close();
+            assertThat(lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10))).isPresent();
+        }
+
+        @DisplayName("기다리는 owner 가 있으면, tryAcquire 는 lock 이 풀려 있어도 양보한다.")
+        @Test
+        void tryAcquireYields_whenOwnerIsWaiting() throws Exception {
+            // arrange
+            Lease holder = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10)).orElseThrow();
+            List<String> acquiredOrder = new CopyOnWriteArrayList<>();
+            CompletableFuture<Void> waiter = waitAndHold("waiter", acquiredOrder);
+            await().atMost(Duration.ofSeconds(2)).until(() -> queueSize() == 1);
+
+            // act
+            holder.close();
+            Optional<Lease> barged = lockManager.tryAcquire(GROUP, KEY, Duration.ofSeconds(10));
+
+            // assert
+            waiter.get(5, TimeUnit.SECONDS);
+            assertAll(
+                () -> assertThat(barged).isEmpty(),
+                () -> assertThat(acquiredOrder).containsExactly("waiter")
+            );
+        }
+
+        private CompletableFuture<Void> waitAndHold(String name, List<String> acquiredOrder) {
+            return CompletableFuture.runAsync(() -> {
+                try (Lease lease = lockManager.acquire(GROUP, KEY, Duration.ofSeconds(10), Duration.ofSeconds(5)).orElseThrow()) {
+                    acquiredOrder.add(name);
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        private long queueSize() {
+            Long size = redisTemplate.opsForZSet().zCard(LOCK_KEY + ":queue");
+            return size == null ? 0 : size;
+        }
+    }
+}
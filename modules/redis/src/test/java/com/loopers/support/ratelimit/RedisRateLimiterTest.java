@@ -0,0 +1,113 @@
+package com.loopers.support.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRateLimiterTest {
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy("test", RateLimitAlgorithm.TOKEN_BUCKET, 10, Duration.ofSeconds(1), 1);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RedisRateLimiter(redisTemplate, meterRegistry);
+    }
+
+    private Object executeScript() {
+        return redisTemplate.execute(ArgumentMatchers.<RedisScript<Object>>any(), anyList(), any(), any(), any());
+    }
+
+    private double failOpenCount() {
+        return meterRegistry.get("ratelimit.requests").tag("source", "fail-open").counter().count();
+    }
+
+    @DisplayName("Redis 확인에 실패하면, ")
+    @Nested
+    class RedisFailure {
+        @DisplayName("요청을 허용한다.")
+        @Test
+        void allows_whenRedisFails() {
+            // arrange
+            when(executeScript()).thenThrow(new RedisConnectionFailureException("timeout"));
+
+            // act
+            RateLimitDecision decision = rateLimiter.tryAcquire(POLICY, "client");
+
+            // assert
+            assertAll(
+                () -> assertThat(decision.allowed()).isTrue(),
+                () -> assertThat(failOpenCount()).isEqualTo(1)
+            );
+        }
+
+        @DisplayName("fail-open window 동안은 Redis 를 다시 확인하지 않고 허용한다.")
+        @Test
+        void skipsRedis_whileFailOpenWindowIsOpen() {
+            // arrange
+            when(executeScript()).thenThrow(new RedisConnectionFailureException("timeout"));
+            rateLimiter.tryAcquire(POLICY, "client");
+
+            // act
+            RateLimitDecision other = rateLimiter.tryAcquire(POLICY, "other-client");
+            RateLimitDecision again = rateLimiter.tryAcquire(POLICY, "client");
+
+            // assert
+            assertAll(
+                () -> assertThat(other.allowed()).isTrue(),
+                () -> assertThat(again.allowed()).isTrue(),
+                () -> verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Object>>any(), anyList(), any(), any(), any()),
+                () -> assertThat(failOpenCount()).isEqualTo(3)
+            );
+        }
+    }
+
+    @DisplayName("Redis 가 응답하면, ")
+    @Nested
+    class RedisAvailable {
+        @DisplayName("Redis 의 결과로 허용 / 거절을 결정한다.")
+        @Test
+        void decidesByRedis_whenRedisResponds() {
+            // arrange
+            when(executeScript()).thenReturn(List.of(1L, 9L, 0L), List.of(0L, 0L, 500L));
+
+            // act
+            RateLimitDecision allowed = rateLimiter.tryAcquire(POLICY, "client");
+            RateLimitDecision rejected = rateLimiter.tryAcquire(POLICY, "client");
+
+            // assert
+            assertAll(
+                () -> assertThat(allowed.allowed()).isTrue(),
+                () -> assertThat(allowed.remaining()).isEqualTo(9),
+                () -> assertThat(rejected.allowed()).isFalse(),
+                () -> assertThat(rejected.retryAfter()).isEqualTo(Duration.ofMillis(500)),
+                () -> assertThat(failOpenCount()).isZero()
+            );
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.loopers.support.redis;
+
+import com.loopers.config.redis.RedisPipelineProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 파이프라인은 flushSize(2) 단위로 나누어 보내고, 각 파이프라인의 응답은 pipelineResults 순서대로 돌려준다.
+ * 응답 대신 예외가 들어 있으면, 해당 파이프라인의 명령을 보낸 뒤 그 예외로 실패한다. (Redis 가 명령 일부를 거부한 경우)
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisBatchOperationsTest {
+    private static final int FLUSH_SIZE = 2;
+
+    @Mock
+    private RedisTemplate<String, String> readTemplate;
+    @Mock
+    private RedisTemplate<String, String> writeTemplate;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private final Deque<Object> pipelineResults = new ArrayDeque<>();
+    private RedisBatchOperations batchOperations;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        for (RedisTemplate<String, String> template : List.of(readTemplate, writeTemplate)) {
+            lenient().when(template.executePipelined(ArgumentMatchers.<RedisCallback<?>>any())).thenAnswer(invocation -> {
+                RedisCallback<?> callback = invocation.getArgument(0);
+                callback.doInRedis(connection);
+                Object result = pipelineResults.removeFirst();
+                if (result instanceof RuntimeException e) {
+                    throw e;
+                }
+                return result;
+            });
+        }
+        batchOperations = new RedisBatchOperations(readTemplate, writeTemplate, new RedisPipelineProperties(FLUSH_SIZE));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static RedisPipelineException pipelineFailure(Object... results) {
+        return new RedisPipelineException("WRONGTYPE Operation against a key holding the wrong kind of value", Arrays.asList(results));
+    }
+
+    @DisplayName("여러 key 를 조회할 때, ")
+    @Nested
+    class GetAll {
+        @DisplayName("flushSize 개씩 MGET 으로 나누어 조회하고, 존재하는 key 만 요청 순서대로 반환한다.")
+        @Test
+        void returnsFoundValuesInOrder_whenKeysSpanMultiplePipelines() {
+            // arrange
+            pipelineResults.add(List.of(Arrays.asList("1", null)));
+            pipelineResults.add(List.of(Arrays.asList(null, "4")));
+            pipelineResults.add(List.of(Arrays.asList("5")));
+
+            // act
+            Map<String, String> found = batchOperations.getAll(List.of("k1", "k2", "k3", "k2", "k4", "k5"));
+
+            // assert
+            assertAll(
+                () -> assertThat(found).containsExactly(Map.entry("k1", "1"), Map.entry("k4", "4"), Map.entry("k5", "5")),
+                () -> verify(stringCommands).mGet(bytes("k1"), bytes("k2")),
+                () -> verify(stringCommands).mGet(bytes("k3"), bytes("k4")),
+                () -> verify(stringCommands).mGet(bytes("k5")),
+                () -> verify(writeTemplate, never()).executePipelined(ArgumentMatchers.<RedisCallback<?>>any())
+            );
+        }
+
+        @DisplayName("중간 파이프라인이 실패하면, 일부 결과를 반환하지 않고 예외를 던지며 이후 파이프라인은 보내지 않는다.")
+        @Test
+        void throwsWithoutPartialResult_whenMiddlePipelineFails() {
+            // arrange
+            pipelineResults.add(List.of(Arrays.asList("1", "2")));
+            pipelineResults.add(pipelineFailure(new IllegalStateException("connection reset")));
+            pipelineResults.add(List.of(Arrays.asList("5")));
+
+            // act
+            RedisPipelineException exception = assertThrows(
+                RedisPipelineException.class,
+                () -> batchOperations.getAll(List.of("k1", "k2", "k3", "k4", "k5"))
+            );
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getPipelineResult()).hasSize(1),
+                () -> verify(readTemplate, times(2)).executePipelined(ArgumentMatchers.<RedisCallback<?>>any()),
+                () -> verify(stringCommands, never()).mGet(bytes("k5")),
+                () -> assertThat(pipelineResults).hasSize(1)
+            );
+        }
+    }
+
+    @DisplayName("여러 key 를 저장할 때, ")
+    @Nested
+    class SetAll {
+        @DisplayName("flushSize 개의 SET 을 파이프라인 하나로 보내고, 모든 값에 같은 TTL 을 지정한다.")
+        @Test
+        void setsWithTtl_whenValuesSpanMultiplePipelines() {
+            // arrange
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put("k1", "1");
+            values.put("k2", "2");
+            values.put("k3", "3");
+            pipelineResults.add(List.of(true, true));
+            pipelineResults.add(List.of(true));
+
+            // act
+            batchOperations.setAll(values, Duration.ofMinutes(1));
+
+            // assert
+            Expiration expiration = Expiration.from(Duration.ofMinutes(1));
+            assertAll(
+                () -> verify(writeTemplate, times(2)).executePipelined(ArgumentMatchers.<RedisCallback<?>>any()),
+                () -> verify(stringCommands).set(bytes("k1"), bytes("1"), expiration, RedisStringCommands.SetOption.upsert()),
+                () -> verify(stringCommands).set(bytes("k2"), bytes("2"), expiration, RedisStringCommands.SetOption.upsert()),
+                () -> verify(stringCommands).set(bytes("k3"), bytes("3"), expiration, RedisStringCommands.SetOption.upsert()),
+                () -> verify(readTemplate, never()).executePipelined(ArgumentMatchers.<RedisCallback<?>>any())
+            );
+        }
+
+        @DisplayName("중간 파이프라인이 실패하면, 앞선 파이프라인은 반영된 채로 예외를 던지고 이후 파이프라인은 보내지 않는다.")
+        @Test
+        void keepsEarlierPipelinesAndStops_whenMiddlePipelineFails() {
+            // arrange
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 1; i <= 5; i++) {
+                values.put("k" + i, String.valueOf(i));
+            }
+            pipelineResults.add(List.of(true, true));
+            pipelineResults.add(pipelineFailure(true, new IllegalStateException("OOM command not allowed")));
+            pipelineResults.add(List.of(true));
+
+            // act
+            assertThrows(RedisPipelineException.class, () -> batchOperations.setAll(values, Duration.ofMinutes(1)));
+
+            // assert
+            assertAll(
+                () -> verify(writeTemplate, times(2)).executePipelined(ArgumentMatchers.<RedisCallback<?>>any()),
+                () -> verify(stringCommands, times(4)).set(any(byte[].class), any(byte[].class), any(Expiration.class), eq(RedisStringCommands.SetOption.upsert())),
+                () -> verify(stringCommands, never()).set(eq(bytes("k5")), any(byte[].class), any(Expiration.class), any(RedisStringCommands.SetOption.class)),
+                () -> assertThat(pipelineResults).hasSize(1)
+            );
+        }
+
+        @DisplayName("같은 값으로 다시 실행하면, 실패한 파이프라인부터 모든 값이 다시 저장된다.")
+        @Test
+        void setsAllValues_whenRetriedAfterPartialFailure() {
+            // arrange
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put("k1", "1");
+            values.put("k2", "2");
+            values.put("k3", "3");
+            pipelineResults.add(List.of(true, true));
+            pipelineResults.add(pipelineFailure(new IllegalStateException("connection reset")));
+            assertThrows(RedisPipelineException.class, () -> batchOperations.setAll(values, Duration.ofMinutes(1)));
+            pipelineResults.add(List.of(true, true));
+            pipelineResults.add(List.of(true));
+
+            // act
+            batchOperations.setAll(values, Duration.ofMinutes(1));
+
+            // assert
+            assertAll(
+                () -> verify(stringCommands, times(2)).set(eq(bytes("k1")), eq(bytes("1")), any(Expiration.class), any(RedisStringCommands.SetOption.class)),
+                () -> verify(stringCommands, times(2)).set(eq(bytes("k3")), eq(bytes("3")), any(Expiration.class), any(RedisStringCommands.SetOption.class)),
+                () -> assertThat(pipelineResults).isEmpty()
+            );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.loopers.support.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisCodecProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RedisValueCodecTest {
+    private static final int LENGTH_OFFSET = 4;
+
+    private final RedisValueCodec<String> codec = new RedisValueTemplateFactory(
+        new LettuceConnectionFactory(),
+        new LettuceConnectionFactory(),
+        new ObjectMapper(),
+        new RedisCodecProperties(RedisValueFormat.SMILE, RedisValueCompression.LZ4, DataSize.ofBytes(64))
+    ).codec(String.class);
+
+    private final String value = "예시 설명입니다. 캐시에 저장되는 응답입니다. ".repeat(50);
+
+    private static byte[] withLength(byte[] serialized, int length) {
+        byte[] corrupted = serialized.clone();
+        ByteBuffer.wrap(corrupted, LENGTH_OFFSET, Integer.BYTES).putInt(length);
+        return corrupted;
+    }
+
+    @DisplayName("LZ4 로 압축된 값을 읽을 때, ")
+    @Nested
+    class Lz4 {
+        @DisplayName("압축한 값은 원본으로 복원된다.")
+        @Test
+        void restoresValue_whenCompressed() {
+            // arrange
+            byte[] serialized = codec.serialize(value);
+
+            // act
+            String restored = codec.deserialize(serialized);
+
+            // assert
+            assertAll(
+                () -> assertThat(serialized[3]).isEqualTo(RedisValueCompression.LZ4.getId()),
+                () -> assertThat(restored).isEqualTo(value)
+            );
+        }
+
+        @DisplayName("저장된 원본 크기가 실제보다 크면, 예외가 발생한다.")
+        @Test
+        void throws_whenStoredLengthIsLargerThanActual() {
+            // arrange
+            byte[] serialized = codec.serialize(value);
+            int length = ByteBuffer.wrap(serialized, LENGTH_OFFSET, Integer.BYTES).getInt();
+
+            // act & assert
+            assertThrows(SerializationException.class, () -> codec.deserialize(withLength(serialized, length + 1)));
+        }
+
+        @DisplayName("저장된 원본 크기가 실제보다 작으면, 출력 범위를 넘어 쓰지 않고 예외가 발생한다.")
+        @Test
+        void throws_whenStoredLengthIsSmallerThanActual() {
+            // arrange
+            byte[] serialized = codec.serialize(value);
+            int length = ByteBuffer.wrap(serialized, LENGTH_OFFSET, Integer.BYTES).getInt();
+
+            // act & assert
+            assertThrows(SerializationException.class, () -> codec.deserialize(withLength(serialized, length / 2)));
+        }
+
+        @DisplayName("저장된 원본 크기가 음수이거나 최대 압축률을 넘으면, 버퍼를 할당하지 않고 예외가 발생한다.")
+        @Test
+        void throws_whenStoredLengthIsOutOfRange() {
+            // arrange
+            byte[] serialized = codec.serialize(value);
+
+            // act & assert
+            assertAll(
+                () -> assertThrows(SerializationException.class, () -> codec.deserialize(withLength(serialized, -1))),
+                () -> assertThrows(SerializationException.class, () -> codec.deserialize(withLength(serialized, Integer.MAX_VALUE)))
+            );
+        }
+
+        @DisplayName("압축된 데이터가 잘려 있으면, 입력 범위를 넘어 읽지 않고 예외가 발생한다.")
+        @Test
+        void throws_whenCompressedDataIsTruncated() {
+            // arrange
+            byte[] serialized = codec.serialize(value);
+
+            // act & assert
+            assertAll(
+                () -> assertThrows(SerializationException.class, () -> codec.deserialize(Arrays.copyOf(serialized, serialized.length - 8))),
+                () -> assertThrows(SerializationException.class, () -> codec.deserialize(Arrays.copyOf(serialized, 6)))
+            );
+        }
+    }
+}
@@ -10,12 +10,14 @@ include(
     ":supports:jackson",
     ":supports:logging",
     ":supports:monitoring",
+    ":benchmarks",
 )
 
 // configurations
 pluginManagement {
     val springBootVersion: String by settings
     val springDependencyManagementVersion: String by settings
+    val jmhPluginVersion: String by settings
 
     repositories {
         maven { url = uri("https://repo.spring.io/milestone") }
@@ -28,6 +30,7 @@ pluginManagement {
             when (requested.id.id) {
                 "org.springframework.boot" -> useVersion(springBootVersion)
                 "io.spring.dependency-management" -> useVersion(springDependencyManagementVersion)
+                "me.champeau.jmh" -> useVersion(jmhPluginVersion)
             }
         }
     }
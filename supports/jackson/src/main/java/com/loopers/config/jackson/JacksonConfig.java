@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,8 @@ class JacksonConfig {
         return builder -> {
             // Classpath 내의 모든 Jackson 모듈 자동 등록
             builder.findModulesViaServiceLoader(true);
+            // 프로퍼티 접근/생성을 reflection 대신 LambdaMetafactory 로 생성한 코드로 수행한다.
+            builder.modulesToInstall(modules -> modules.add(new BlackbirdModule()));
 
             // Serialization Features
             builder.serializationInclusion(JsonInclude.Include.NON_NULL);
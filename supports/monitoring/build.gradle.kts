@@ -1,4 +1,6 @@
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("io.micrometer:micrometer-registry-prometheus")
+    // virtual thread (pinned / submit failed) metrics
+    implementation("io.micrometer:micrometer-java21")
 }
@@ -0,0 +1,21 @@
+package com.loopers.config.monitoring;
+
+import io.micrometer.java21.instrument.binder.jdk.VirtualThreadMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class VirtualThreadMetricsConfig {
+
+    /**
+     * JFR 이벤트(jdk.VirtualThreadPinned, jdk.VirtualThreadSubmitFailed)를 구독하여
+     * carrier thread pinning 시간(jvm.threads.virtual.pinned)과 스케줄링 실패 횟수를 노출한다.
+     */
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    @Bean
+    VirtualThreadMetrics virtualThreadMetrics() {
+        return new VirtualThreadMetrics();
+    }
+}